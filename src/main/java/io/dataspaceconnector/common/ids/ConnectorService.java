@@ -28,8 +28,9 @@ import ids.messaging.core.config.ssl.keystore.KeyStoreManager;
 import ids.messaging.core.daps.ConnectorMissingCertExtensionException;
 import ids.messaging.core.daps.DapsConnectionException;
 import ids.messaging.core.daps.DapsEmptyResponseException;
-import ids.messaging.core.daps.DapsTokenProvider;
 import io.dataspaceconnector.common.ids.mapping.FromIdsObjectMapper;
+import io.dataspaceconnector.common.ids.mapping.RdfConverter;
+import io.dataspaceconnector.common.util.UUIDUtils;
 import io.dataspaceconnector.model.configuration.ConnectorStatus;
 import io.dataspaceconnector.model.configuration.DeployMode;
 import io.dataspaceconnector.model.resource.OfferedResource;
@@ -49,6 +50,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -66,9 +68,9 @@ public class ConnectorService {
     private final @NonNull ConfigContainer configContainer;
 
     /**
-     * The token provider.
+     * Keeps the current DAT.
      */
-    private final @NonNull DapsTokenProvider tokenProvider;
+    private final @NonNull DatManager datManager;
 
     /**
      * Service for persisted catalogs.
@@ -95,6 +97,11 @@ public class ConnectorService {
      */
     private final @NonNull ConfigurationService configurationService;
 
+    /**
+     * The cached self-description with offered resources.
+     */
+    private final @NonNull SelfDescriptionCache selfDescriptionCache;
+
     /**
      * Get keystore manager from ids messaging services.
      * @return The keystore manager.
@@ -158,13 +165,13 @@ public class ConnectorService {
     }
 
     /**
-     * Return current DAT.
+     * Return current DAT. The token is served from memory as long as it is valid.
      *
      * @return The connector's DAT.
      */
     public DynamicAttributeToken getCurrentDat() {
         try {
-            return tokenProvider.getDAT();
+            return datManager.getDat();
         } catch (ConnectorMissingCertExtensionException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Connector certificate is missing aki/ski extensions."
@@ -184,6 +191,18 @@ public class ConnectorService {
         return null;
     }
 
+    /**
+     * Get the serialized self-description with all offered resources. It is only rebuilt if
+     * entities or the configuration changed since the last call.
+     *
+     * @return The self-description and its entity tag.
+     * @throws ConstraintViolationException if the self-description could not be built.
+     */
+    public SelfDescription getSelfDescription() throws ConstraintViolationException {
+        return selfDescriptionCache.get(
+                () -> RdfConverter.toRdf(getConnectorWithOfferedResources()));
+    }
+
     /**
      * Build a base connector object with all offered resources.
      *
@@ -249,6 +268,7 @@ public class ConnectorService {
 
             // Handled at a higher level.
             configContainer.updateConfiguration(configModel);
+            selfDescriptionCache.invalidate();
         } catch (ConstraintViolationException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to retrieve connector. [exception=({})]", e.getMessage(), e);
@@ -277,11 +297,15 @@ public class ConnectorService {
      * @return The ids resource.
      */
     public Optional<Resource> getOfferedResourceById(final URI resourceId) {
-        final var resource = offeredResourceService.getAll(Pageable.unpaged())
-                .stream()
-                .filter(x -> resourceId.toString().contains(x.getId().toString()))
-                .findAny();
+        // Look up the ids contained in the uri, starting with the last one.
+        final var uuids = UUIDUtils.findUuids(resourceId.toString());
+        for (int i = uuids.size() - 1; i >= 0; i--) {
+            final var resource = offeredResourceService.find(UUID.fromString(uuids.get(i)));
+            if (resource.isPresent()) {
+                return resource.map(resourceBuilder::create);
+            }
+        }
 
-        return resource.map(resourceBuilder::create);
+        return Optional.empty();
     }
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.ids.policy.CompiledPolicy;
+import io.dataspaceconnector.common.util.Utils;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.ZonedDateTime;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the deserialized ids contract agreements of stored agreements, so that usage control
+ * decisions do not parse the agreement for every data access. Entries are keyed by the agreement
+ * id and only used as long as the modification date of the agreement matches. The least recently
+ * used entries are dropped once the maximum size is reached. Along with each agreement, its
+ * rules are kept compiled for policy decisions.
+ */
+@Service
+public class ContractAgreementCache implements MeterBinder {
+
+    /**
+     * Service for ids deserialization.
+     */
+    private final DeserializationService deserializationService;
+
+    /**
+     * The maximum number of cached agreements.
+     */
+    private final int maxSize;
+
+    /**
+     * The cached agreements in access order.
+     */
+    private final Map<UUID, CacheEntry> entries;
+
+    /**
+     * The compiled policies of the cached agreements, by agreement instance.
+     */
+    private final Map<ContractAgreement, CompiledPolicy> policies = new IdentityHashMap<>();
+
+    /**
+     * The number of lookups answered from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of lookups that required deserialization.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor for ContractAgreementCache.
+     *
+     * @param deserializer Service for ids deserialization.
+     * @param size         The maximum number of cached agreements.
+     */
+    public ContractAgreementCache(final DeserializationService deserializer,
+                                  @Value("${policy.agreement-cache.size:1000}") final int size) {
+        this.deserializationService = deserializer;
+        this.maxSize = size;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, CacheEntry> eldest) {
+                if (size() > maxSize) {
+                    policies.remove(eldest.getValue().value);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the deserialized ids contract agreement of a stored agreement.
+     *
+     * @param agreement The stored agreement.
+     * @return The ids contract agreement.
+     * @throws IllegalArgumentException If the agreement is null or deserialization fails.
+     */
+    public ContractAgreement get(final Agreement agreement) throws IllegalArgumentException {
+        Utils.requireNonNull(agreement, ErrorMessage.ENTITY_NULL);
+
+        final var agreementId = agreement.getId();
+        final var version = agreement.getModificationDate();
+        if (agreementId == null || maxSize <= 0) {
+            misses.incrementAndGet();
+            return deserializationService.getContractAgreement(agreement.getValue());
+        }
+
+        synchronized (entries) {
+            final var entry = entries.get(agreementId);
+            if (entry != null && Objects.equals(entry.version, version)) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+        }
+
+        misses.incrementAndGet();
+        final var value = deserializationService.getContractAgreement(agreement.getValue());
+        synchronized (entries) {
+            remove(entries.put(agreementId, new CacheEntry(version, value)));
+            // The policy is compiled on first use.
+            policies.put(value, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Get the compiled policy of an ids contract agreement. Agreements returned by this cache are
+     * compiled only once while they are cached, any other agreement is compiled on every call.
+     *
+     * @param agreement The ids contract agreement.
+     * @return The compiled policy.
+     * @throws IllegalArgumentException If the agreement is null.
+     */
+    public CompiledPolicy getPolicy(final ContractAgreement agreement)
+            throws IllegalArgumentException {
+        final boolean cached;
+        synchronized (entries) {
+            final var policy = policies.get(agreement);
+            if (policy != null) {
+                return policy;
+            }
+            cached = policies.containsKey(agreement);
+        }
+
+        final var policy = CompiledPolicy.compile(agreement);
+        if (cached) {
+            synchronized (entries) {
+                policies.replace(agreement, null, policy);
+            }
+        }
+
+        return policy;
+    }
+
+    /**
+     * Remove the cached contract agreement of a stored agreement.
+     *
+     * @param agreementId The id of the stored agreement.
+     */
+    public void evict(final UUID agreementId) {
+        if (agreementId != null) {
+            synchronized (entries) {
+                remove(entries.remove(agreementId));
+            }
+        }
+    }
+
+    /**
+     * Remove all cached contract agreements.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            policies.clear();
+        }
+    }
+
+    /**
+     * Get the number of cached contract agreements.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(final CacheEntry entry) {
+        if (entry != null) {
+            policies.remove(entry.value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("dsc.agreement.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Lookups of contract agreements answered from the cache.")
+                .register(registry);
+        FunctionCounter.builder("dsc.agreement.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Lookups of contract agreements that required deserialization.")
+                .register(registry);
+        Gauge.builder("dsc.agreement.cache.size", this, ContractAgreementCache::size)
+                .description("The number of cached contract agreements.")
+                .register(registry);
+    }
+
+    /**
+     * A cached contract agreement together with the version it was deserialized from.
+     */
+    @AllArgsConstructor
+    private static final class CacheEntry {
+        /**
+         * The modification date of the stored agreement.
+         */
+        private final ZonedDateTime version;
+
+        /**
+         * The deserialized contract agreement.
+         */
+        private final ContractAgreement value;
+    }
+}
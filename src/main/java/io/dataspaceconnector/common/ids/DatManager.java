@@ -0,0 +1,231 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.TokenFormat;
+import ids.messaging.core.daps.ConnectorMissingCertExtensionException;
+import ids.messaging.core.daps.DapsConnectionException;
+import ids.messaging.core.daps.DapsEmptyResponseException;
+import ids.messaging.core.daps.DapsTokenManagerService;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the connector's current DAT in memory and renews it on a background thread before it
+ * expires. Callers only wait for the DAPS if there is no valid token, i.e. for the first token
+ * and if the renewal failed until the token expired. The first token is requested on first use.
+ */
+@Log4j2
+@Service
+public class DatManager {
+
+    /**
+     * Requests new tokens from the DAPS.
+     */
+    private final DapsTokenManagerService tokenManagerService;
+
+    /**
+     * The token url of the DAPS.
+     */
+    private final String dapsTokenUrl;
+
+    /**
+     * The time in milliseconds before expiry at which the token is renewed.
+     */
+    private final long refreshAhead;
+
+    /**
+     * The delay in milliseconds before a failed renewal is retried.
+     */
+    private final long retryInterval;
+
+    /**
+     * The clock the expiration dates are compared to.
+     */
+    private final Clock clock;
+
+    /**
+     * Runs the renewals. The thread is started with the first renewal.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The current token, null before the first request.
+     */
+    private volatile CurrentDat current;
+
+    /**
+     * The scheduled renewal.
+     */
+    private ScheduledFuture<?> renewal;
+
+    /**
+     * Constructor for DatManager.
+     *
+     * @param tokenManager Requests new tokens from the DAPS.
+     * @param tokenUrl     The token url of the DAPS.
+     * @param renewAhead   The time in milliseconds before expiry at which the token is renewed.
+     * @param retryDelay   The delay in milliseconds before a failed renewal is retried.
+     */
+    public DatManager(final DapsTokenManagerService tokenManager,
+                      @Value("${daps.token.url}") final String tokenUrl,
+                      @Value("${daps.token.refresh-ahead:60000}") final long renewAhead,
+                      @Value("${daps.token.refresh-retry:10000}") final long retryDelay) {
+        this(tokenManager, tokenUrl, renewAhead, retryDelay, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for DatManager.
+     *
+     * @param tokenManager Requests new tokens from the DAPS.
+     * @param tokenUrl     The token url of the DAPS.
+     * @param renewAhead   The time in milliseconds before expiry at which the token is renewed.
+     * @param retryDelay   The delay in milliseconds before a failed renewal is retried.
+     * @param timeSource   The clock the expiration dates are compared to.
+     */
+    DatManager(final DapsTokenManagerService tokenManager, final String tokenUrl,
+               final long renewAhead, final long retryDelay, final Clock timeSource) {
+        this.tokenManagerService = tokenManager;
+        this.dapsTokenUrl = tokenUrl;
+        this.refreshAhead = renewAhead;
+        this.retryInterval = retryDelay;
+        this.clock = timeSource;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "dat-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the current DAT. A new token is only requested if there is no valid one.
+     *
+     * @return The DAT.
+     * @throws ConnectorMissingCertExtensionException If the connector certificate is invalid.
+     * @throws DapsConnectionException                If the DAPS cannot be reached.
+     * @throws DapsEmptyResponseException             If the DAPS did not return a token.
+     */
+    public DynamicAttributeToken getDat() throws ConnectorMissingCertExtensionException,
+            DapsConnectionException, DapsEmptyResponseException {
+        final var dat = current;
+        if (isValid(dat)) {
+            return dat.token;
+        }
+
+        synchronized (this) {
+            // Another caller may have renewed the token in the meantime.
+            final var renewed = current;
+            if (isValid(renewed)) {
+                return renewed.token;
+            }
+
+            return renew().token;
+        }
+    }
+
+    /**
+     * Stops the background renewal.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private boolean isValid(final CurrentDat dat) {
+        return dat != null && clock.instant().isBefore(dat.expiration);
+    }
+
+    private synchronized CurrentDat renew() throws ConnectorMissingCertExtensionException,
+            DapsConnectionException, DapsEmptyResponseException {
+        final var jwt = tokenManagerService.acquireToken(dapsTokenUrl);
+        final var token = new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.JWT)
+                ._tokenValue_(jwt)
+                .build();
+
+        final var now = clock.instant();
+        final var expiration = TokenUtils.getExpiration(jwt);
+        if (expiration == null || !now.isBefore(expiration)) {
+            // The token cannot be kept, it will be requested again by the next caller.
+            current = new CurrentDat(token, now);
+            return current;
+        }
+
+        current = new CurrentDat(token, expiration);
+        // Renew ahead of expiry, but use at least half of the token's lifetime.
+        final var lifetime = Duration.between(now, expiration).toMillis();
+        schedule(lifetime - Math.min(refreshAhead, lifetime / 2));
+        return current;
+    }
+
+    private synchronized void schedule(final long delay) {
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+
+        if (!executor.isShutdown()) {
+            renewal = executor.schedule(this::renewInBackground, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void renewInBackground() {
+        try {
+            renew();
+        } catch (ConnectorMissingCertExtensionException | DapsConnectionException
+                | DapsEmptyResponseException | RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to renew the DAT. [exception=({})]", e.getMessage());
+            }
+
+            if (isValid(current)) {
+                schedule(retryInterval);
+            }
+        }
+    }
+
+    /**
+     * A DAT together with its expiration date.
+     */
+    @AllArgsConstructor
+    private static final class CurrentDat {
+        /**
+         * The token.
+         */
+        private final DynamicAttributeToken token;
+
+        /**
+         * The expiration date of the token.
+         */
+        private final Instant expiration;
+    }
+}
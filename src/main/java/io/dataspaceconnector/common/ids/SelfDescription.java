@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import lombok.Getter;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * A serialized self-description of the connector and its entity tag.
+ */
+@Getter
+public final class SelfDescription {
+
+    /**
+     * The self-description in JSON-LD.
+     */
+    private final String rdf;
+
+    /**
+     * The quoted entity tag of the self-description.
+     */
+    private final String eTag;
+
+    /**
+     * Constructor for SelfDescription. The entity tag is derived from the content.
+     *
+     * @param value The self-description in JSON-LD.
+     */
+    public SelfDescription(final String value) {
+        this.rdf = value;
+        this.eTag = "\"" + DigestUtils.sha256Hex(value) + "\"";
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the serialized self-description with offered resources, so that description requests
+ * do not rebuild all catalogs. Every change of the stored entities or of the configuration
+ * invalidates the cached self-description.
+ */
+@Component
+public class SelfDescriptionCache {
+
+    /**
+     * The number of changes so far.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * The cached self-description and the version it was built for.
+     */
+    private volatile Entry entry;
+
+    /**
+     * Get the cached self-description. If it is outdated, it is rebuilt.
+     *
+     * @param builder Builds the serialized self-description.
+     * @return The self-description.
+     */
+    public SelfDescription get(final Supplier<String> builder) {
+        final var current = version.get();
+        final var cached = entry;
+        if (cached != null && cached.version == current) {
+            return cached.value;
+        }
+
+        // Changes while building cause a rebuild on the next call.
+        final var value = new SelfDescription(builder.get());
+        entry = new Entry(current, value);
+        return value;
+    }
+
+    /**
+     * Invalidates the cached self-description. Within a transaction, it is invalidated again on
+     * completion, so that a self-description built meanwhile from uncommitted data is not kept.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(final int status) {
+                            version.incrementAndGet();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * A self-description built for a specific version.
+     */
+    private static final class Entry {
+        /**
+         * The version the self-description was built for.
+         */
+        private final long version;
+
+        /**
+         * The self-description.
+         */
+        private final SelfDescription value;
+
+        private Entry(final long number, final SelfDescription description) {
+            this.version = number;
+            this.value = description;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the cached self-description whenever an entity or the data of an artifact is
+ * saved, deleted or changed by a modifying query. Updates of the access counter do not affect
+ * the self-description.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SelfDescriptionInvalidator {
+
+    /**
+     * The cached self-description.
+     */
+    private final @NonNull SelfDescriptionCache cache;
+
+    /**
+     * Invalidates the self-description after a repository changed entities.
+     */
+    @AfterReturning("(target(io.dataspaceconnector.repository.BaseEntityRepository)"
+            + " || target(io.dataspaceconnector.repository.DataRepository))"
+            + " && (execution(* save*(..)) || execution(* delete*(..))"
+            + " || @annotation(org.springframework.data.jpa.repository.Modifying))"
+            + " && !execution(* *AccessCounter(..))")
+    public void entitiesChanged() {
+        cache.invalidate();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * This utility class contains functions for reading JWTs.
+ */
+@Log4j2
+public final class TokenUtils {
+
+    /**
+     * Reads the token payload.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Default constructor.
+     */
+    private TokenUtils() {
+        // This constructor is intentionally empty. Nothing to do here.
+    }
+
+    /**
+     * Reads the expiration date of a JWT without verifying it. Only use this for tokens that
+     * have been verified or were received from the DAPS.
+     *
+     * @param token The encoded token.
+     * @return The expiration date, null if the token has none or cannot be read.
+     */
+    public static Instant getExpiration(final String token) {
+        if (token == null) {
+            return null;
+        }
+
+        final var parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+
+        try {
+            final var payload = MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            final var exp = payload.get("exp");
+            return exp != null && exp.canConvertToLong()
+                    ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (IOException | IllegalArgumentException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not read the token expiration. [exception=({})]",
+                        e.getMessage());
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the results of successful DAT validations, so that messages reusing a DAT do not parse
+ * and verify the token again. Entries are keyed by the hash of the token and kept until the
+ * token expires. Failed validations are never cached. The least recently used entries are
+ * dropped once the maximum size is reached.
+ */
+@Service
+public class VerifiedDatCache implements MeterBinder {
+
+    /**
+     * The maximum number of cached validation results.
+     */
+    private final int maxSize;
+
+    /**
+     * The clock the expiration dates are compared to.
+     */
+    private final Clock clock;
+
+    /**
+     * The cached validation results in access order.
+     */
+    private final Map<String, CacheEntry> entries;
+
+    /**
+     * The number of validations answered from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of validations that required verifying the token.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor for VerifiedDatCache.
+     *
+     * @param size The maximum number of cached validation results.
+     */
+    public VerifiedDatCache(@Value("${daps.token.cache.size:1000}") final int size) {
+        this(size, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for VerifiedDatCache.
+     *
+     * @param size       The maximum number of cached validation results.
+     * @param timeSource The clock the expiration dates are compared to.
+     */
+    VerifiedDatCache(final int size, final Clock timeSource) {
+        this.maxSize = size;
+        this.clock = timeSource;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Validates a token, or returns the result of an earlier successful validation. A result is
+     * successful if it is neither null nor false.
+     *
+     * @param token      The encoded token.
+     * @param context    Distinguishes validations of the same token with different outcomes,
+     *                   e.g. claims and checks against additional attributes.
+     * @param validation Validates the token.
+     * @param <T>        The type of the validation result.
+     * @return The validation result.
+     * @throws Throwable If the validation fails.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String token, final String context, final Validation<T> validation)
+            throws Throwable {
+        if (token == null || token.isBlank() || maxSize <= 0) {
+            misses.incrementAndGet();
+            return validation.validate();
+        }
+
+        final var key = context + ":" + hash(token);
+        final var now = clock.instant();
+        synchronized (entries) {
+            final var entry = entries.get(key);
+            if (entry != null) {
+                if (now.isBefore(entry.expiration)) {
+                    hits.incrementAndGet();
+                    return (T) entry.value;
+                }
+                entries.remove(key);
+            }
+        }
+
+        misses.incrementAndGet();
+        final var value = validation.validate();
+        if (value != null && !Boolean.FALSE.equals(value)) {
+            final var expiration = TokenUtils.getExpiration(token);
+            if (expiration != null && now.isBefore(expiration)) {
+                synchronized (entries) {
+                    entries.put(key, new CacheEntry(expiration, value));
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Remove all cached validation results.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Get the number of cached validation results.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String hash(final String token) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("dsc.ids.dat.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("DAT validations answered from the cache.")
+                .register(registry);
+        FunctionCounter.builder("dsc.ids.dat.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("DAT validations that required verifying the token.")
+                .register(registry);
+        Gauge.builder("dsc.ids.dat.cache.size", this, VerifiedDatCache::size)
+                .description("The number of cached DAT validation results.")
+                .register(registry);
+    }
+
+    /**
+     * Validates a token.
+     *
+     * @param <T> The type of the validation result.
+     */
+    @FunctionalInterface
+    public interface Validation<T> {
+        /**
+         * Validates the token.
+         *
+         * @return The validation result.
+         * @throws Throwable If the validation fails.
+         */
+        T validate() throws Throwable;
+    }
+
+    /**
+     * A cached validation result together with the expiration date of the token.
+     */
+    @AllArgsConstructor
+    private static final class CacheEntry {
+        /**
+         * The expiration date of the token.
+         */
+        private final Instant expiration;
+
+        /**
+         * The validation result.
+         */
+        private final Object value;
+    }
+}
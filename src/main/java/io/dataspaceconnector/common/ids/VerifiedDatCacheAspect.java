@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers repeated DAT validations from the {@link VerifiedDatCache}. The validator bean is
+ * intercepted, as incoming multipart messages are validated inside the messaging services and
+ * IDSCPv2 messages by the connector itself.
+ */
+@Aspect
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class VerifiedDatCacheAspect {
+
+    /**
+     * The cache of successful validations.
+     */
+    private final @NonNull VerifiedDatCache cache;
+
+    /**
+     * Returns the cached claims of a verified DAT.
+     *
+     * @param joinPoint The validator call.
+     * @param token     The DAT.
+     * @return The claims of the DAT.
+     * @throws Throwable If the DAT is invalid.
+     */
+    @Around("execution(* ids.messaging.core.daps.DapsValidator.getClaims(..)) && args(token)")
+    @SuppressFBWarnings("THROWS_METHOD_THROWS_CLAUSE_THROWABLE")
+    public Object getClaims(final ProceedingJoinPoint joinPoint,
+                            final DynamicAttributeToken token) throws Throwable {
+        return cache.get(token == null ? null : token.getTokenValue(), "claims",
+                joinPoint::proceed);
+    }
+
+    /**
+     * Returns the cached result of a successful DAT check.
+     *
+     * @param joinPoint The validator call.
+     * @return The result of the check.
+     * @throws Throwable If the check fails.
+     */
+    @Around("execution(boolean ids.messaging.core.daps.DapsValidator.checkDat(..))")
+    @SuppressFBWarnings("THROWS_METHOD_THROWS_CLAUSE_THROWABLE")
+    public Object checkDat(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var args = joinPoint.getArgs();
+        if (args.length == 0 || !(args[0] instanceof DynamicAttributeToken)) {
+            return joinPoint.proceed();
+        }
+
+        // The outcome depends on the attributes the token is checked against.
+        final var context = args.length > 1 ? "check" + args[1] : "check";
+        return cache.get(((DynamicAttributeToken) args[0]).getTokenValue(), context,
+                joinPoint::proceed);
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids.message;
+
+import io.dataspaceconnector.service.message.builder.type.LogMessageService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends log items to the clearing house in the background, so that callers never wait for the
+ * clearing house. Items are kept in a bounded queue and sent in batches by a single worker.
+ * Items that could not be sent, or that did not fit into the queue, are appended to a local
+ * spool file. The spool is resent with exponential backoff, also after a restart.
+ */
+@Log4j2
+@Component
+public class ClearingHouseLogQueue {
+
+    /**
+     * The time in milliseconds the worker waits for new items before checking the spool.
+     */
+    private static final long POLL_TIMEOUT = 1_000;
+
+    /**
+     * The time in milliseconds to wait for the worker on shutdown.
+     */
+    private static final long SHUTDOWN_TIMEOUT = 5_000;
+
+    /**
+     * Separates the recipient from the payload in a spool line.
+     */
+    private static final char SEPARATOR = ' ';
+
+    /**
+     * Service for ids log messages.
+     */
+    private final LogMessageService logMessageSvc;
+
+    /**
+     * The registry for the clearing house metrics.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The timer of log messages that were sent.
+     */
+    private final Timer logSuccessTimer;
+
+    /**
+     * The timer of log messages that could not be sent.
+     */
+    private final Timer logErrorTimer;
+
+    /**
+     * The items waiting to be sent.
+     */
+    private final BlockingQueue<PendingItem> queue;
+
+    /**
+     * The maximum number of items sent per batch.
+     */
+    private final int batchSize;
+
+    /**
+     * The delay in milliseconds after the first failed attempt.
+     */
+    private final long initialBackoff;
+
+    /**
+     * The maximum delay in milliseconds between two attempts.
+     */
+    private final long maxBackoff;
+
+    /**
+     * The file new spooled items are appended to.
+     */
+    private final Path spool;
+
+    /**
+     * The file the worker resends spooled items from.
+     */
+    private final Path replay;
+
+    /**
+     * Guards writes to the spool file.
+     */
+    private final Object spoolLock = new Object();
+
+    /**
+     * The current delay in milliseconds. Only accessed by the worker.
+     */
+    private long backoff;
+
+    /**
+     * The time before which no item is sent. Only accessed by the worker.
+     */
+    private long nextAttempt;
+
+    /**
+     * Whether the worker should keep running.
+     */
+    private volatile boolean running;
+
+    /**
+     * The worker sending the queued items.
+     */
+    private Thread worker;
+
+    /**
+     * Constructor for ClearingHouseLogQueue.
+     *
+     * @param logMessageService Service for ids log messages.
+     * @param registry          The registry for the clearing house metrics.
+     * @param capacity          The maximum number of queued items.
+     * @param batch             The maximum number of items sent per batch.
+     * @param initialDelay      The delay in milliseconds after the first failed attempt.
+     * @param maxDelay          The maximum delay in milliseconds between two attempts.
+     * @param spoolFile         The path of the spool file.
+     */
+    public ClearingHouseLogQueue(
+            final LogMessageService logMessageService,
+            final MeterRegistry registry,
+            @Value("${clearing.house.queue.capacity:1000}") final int capacity,
+            @Value("${clearing.house.queue.batch-size:50}") final int batch,
+            @Value("${clearing.house.queue.backoff.initial:1000}") final long initialDelay,
+            @Value("${clearing.house.queue.backoff.max:300000}") final long maxDelay,
+            @Value("${clearing.house.queue.spool:./data/clearing-house.spool}")
+            final String spoolFile) {
+        this.logMessageSvc = logMessageService;
+        this.meterRegistry = registry;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = Math.max(1, batch);
+        this.initialBackoff = initialDelay;
+        this.maxBackoff = Math.max(initialDelay, maxDelay);
+        this.spool = Path.of(spoolFile).toAbsolutePath().normalize();
+        this.replay = spool.resolveSibling(spool.getFileName() + ".replay");
+
+        this.logSuccessTimer = ClearingHouseService.requestTimer("log", "success", registry);
+        this.logErrorTimer = ClearingHouseService.requestTimer("log", "error", registry);
+        Gauge.builder("dsc.clearinghouse.queue.pending", this, ClearingHouseLogQueue::size)
+                .description("Log items waiting to be sent to the clearing house")
+                .register(registry);
+    }
+
+    /**
+     * Starts the worker. Items spooled before a restart are resent first.
+     *
+     * @throws IOException if the spool directory cannot be created.
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(spool.getParent());
+        running = true;
+        worker = new Thread(this::run, "clearing-house-log");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the worker and spools all items that have not been sent yet.
+     *
+     * @throws InterruptedException if interrupted while waiting for the worker.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(SHUTDOWN_TIMEOUT);
+        }
+
+        final var remaining = new ArrayList<PendingItem>();
+        queue.drainTo(remaining);
+        spool(remaining);
+    }
+
+    /**
+     * Queues an item for the clearing house. The payload is only created by the worker. If the
+     * queue is full, the item is spooled instead.
+     *
+     * @param recipient The log url of the clearing house.
+     * @param payload   Creates the item that should be logged.
+     */
+    public void submit(final URI recipient, final Supplier<String> payload) {
+        final var item = new PendingItem(recipient, payload);
+        if (!queue.offer(item)) {
+            if (log.isWarnEnabled()) {
+                log.warn("Clearing house log queue is full, spooling item. [recipient=({})]",
+                        recipient);
+            }
+            spool(List.of(item));
+        }
+    }
+
+    /**
+     * Get the number of items waiting to be sent, not counting spooled items.
+     *
+     * @return The number of queued items.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (System.currentTimeMillis() >= nextAttempt) {
+                    replaySpool();
+                }
+
+                final var first = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                final var batch = new ArrayList<PendingItem>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                if (System.currentTimeMillis() < nextAttempt) {
+                    // The clearing house is unavailable, keep the items for later.
+                    spool(batch);
+                } else {
+                    send(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends the items in order. Stops at the first failure and spools the remaining items.
+     *
+     * @param batch The items to send.
+     */
+    private void send(final List<PendingItem> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            final var item = batch.get(i);
+            final var payload = item.resolve();
+            if (payload != null && !trySend(item.recipient, payload)) {
+                spool(batch.subList(i, batch.size()));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Resends the spooled items. New items are spooled to a separate file meanwhile. If sending
+     * fails, the items that have not been sent are kept for the next attempt.
+     */
+    private void replaySpool() {
+        try {
+            synchronized (spoolLock) {
+                if (!Files.exists(replay)) {
+                    if (!Files.exists(spool)) {
+                        return;
+                    }
+                    Files.move(spool, replay, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+
+            final var pending = replay.resolveSibling(replay.getFileName() + ".tmp");
+            var failed = false;
+            try (var reader = Files.newBufferedReader(replay, StandardCharsets.UTF_8)) {
+                String line;
+                while (!failed && (line = reader.readLine()) != null) {
+                    if (!line.isBlank() && !trySend(line)) {
+                        keep(line, reader, pending);
+                        failed = true;
+                    }
+                }
+            }
+
+            if (failed) {
+                Files.move(pending, replay, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(replay);
+                if (log.isInfoEnabled()) {
+                    log.info("Resent spooled clearing house log items.");
+                }
+            }
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to resend spooled clearing house log items. [exception=({})]",
+                        e.getMessage());
+            }
+            delay();
+        }
+    }
+
+    private void keep(final String line, final BufferedReader reader, final Path target)
+            throws IOException {
+        try (var writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write(line);
+            writer.newLine();
+            reader.transferTo(writer);
+        }
+    }
+
+    private boolean trySend(final String line) {
+        final var index = line.indexOf(SEPARATOR);
+        try {
+            final var recipient = URI.create(line.substring(0, index));
+            final var payload = new String(Base64.getDecoder().decode(line.substring(index + 1)),
+                    StandardCharsets.UTF_8);
+            return trySend(recipient, payload);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Dropping malformed spooled clearing house log item.");
+            }
+            return true;
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean trySend(final URI recipient, final String payload) {
+        final var sample = Timer.start(meterRegistry);
+        var success = false;
+        try {
+            logMessageSvc.sendMessage(recipient, payload);
+            success = true;
+            backoff = 0;
+            nextAttempt = 0;
+            return true;
+        } catch (RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to log message to clearing house. [exception=({})]",
+                        e.getMessage());
+            }
+            delay();
+            return false;
+        } finally {
+            sample.stop(success ? logSuccessTimer : logErrorTimer);
+        }
+    }
+
+    private void delay() {
+        backoff = backoff == 0 ? initialBackoff : Math.min(backoff * 2, maxBackoff);
+        nextAttempt = System.currentTimeMillis() + backoff;
+    }
+
+    private void spool(final List<PendingItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        synchronized (spoolLock) {
+            try (var writer = Files.newBufferedWriter(spool, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (final var item : items) {
+                    final var payload = item.resolve();
+                    if (payload != null) {
+                        writer.write(item.recipient.toString());
+                        writer.write(SEPARATOR);
+                        writer.write(Base64.getEncoder().encodeToString(
+                                payload.getBytes(StandardCharsets.UTF_8)));
+                        writer.newLine();
+                    }
+                }
+            } catch (IOException e) {
+                if (log.isErrorEnabled()) {
+                    log.error("Failed to spool clearing house log items. [count=({}), "
+                            + "exception=({})]", items.size(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * An item waiting to be sent.
+     */
+    private static final class PendingItem {
+        /**
+         * The log url of the clearing house.
+         */
+        private final URI recipient;
+
+        /**
+         * Creates the item that should be logged.
+         */
+        private final Supplier<String> payload;
+
+        /**
+         * The created item, once resolved.
+         */
+        private String value;
+
+        private PendingItem(final URI target, final Supplier<String> item) {
+            this.recipient = target;
+            this.payload = item;
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private String resolve() {
+            if (value == null) {
+                try {
+                    value = payload.get();
+                } catch (RuntimeException e) {
+                    if (log.isWarnEnabled()) {
+                        log.warn("Failed to create clearing house log item. [exception=({})]",
+                                e.getMessage());
+                    }
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -17,6 +17,7 @@ package io.dataspaceconnector.common.ids.message;
 
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -24,15 +25,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.ContractAgreement;
 import de.fraunhofer.iais.eis.Message;
 import io.dataspaceconnector.common.exception.MessageResponseException;
-import io.dataspaceconnector.common.exception.PolicyExecutionException;
 import io.dataspaceconnector.common.exception.UUIDFormatException;
 import io.dataspaceconnector.common.util.UUIDUtils;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.message.ProcessCreationMessageDesc;
-import io.dataspaceconnector.service.message.builder.type.LogMessageService;
 import io.dataspaceconnector.service.message.builder.type.ProcessCreationRequestService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import net.minidev.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
@@ -43,7 +43,6 @@ import org.springframework.web.util.UriComponentsBuilder;
  * Service for communication with the clearing house.
  */
 @Service
-@RequiredArgsConstructor
 @Log4j2
 public class ClearingHouseService {
 
@@ -65,14 +64,19 @@ public class ClearingHouseService {
     private final @NonNull ConnectorConfig connectorConfig;
 
     /**
-     * Service for ids log messages.
+     * Service for ids request messages.
      */
-    private final @NonNull LogMessageService logMessageSvc;
+    private final @NonNull ProcessCreationRequestService requestService;
 
     /**
-     * Service for ids request messages.
+     * Queue for sending log messages in the background.
      */
-    private final @NonNull ProcessCreationRequestService requestService;
+    private final @NonNull ClearingHouseLogQueue logQueue;
+
+    /**
+     * The registry for the clearing house metrics.
+     */
+    private final @NonNull MeterRegistry meterRegistry;
 
     /**
      * Object mapper for mapping to JSON.
@@ -80,7 +84,37 @@ public class ClearingHouseService {
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
-     * Send contract agreement to clearing house.
+     * The timer of successful process creation requests.
+     */
+    private final Timer processSuccessTimer;
+
+    /**
+     * The timer of failed process creation requests.
+     */
+    private final Timer processErrorTimer;
+
+    /**
+     * Constructor.
+     *
+     * @param config         Service for configuring policy settings.
+     * @param processService Service for ids request messages.
+     * @param queue          Queue for sending log messages in the background.
+     * @param registry       The registry for the clearing house metrics.
+     */
+    public ClearingHouseService(final @NonNull ConnectorConfig config,
+                                final @NonNull ProcessCreationRequestService processService,
+                                final @NonNull ClearingHouseLogQueue queue,
+                                final @NonNull MeterRegistry registry) {
+        this.connectorConfig = config;
+        this.requestService = processService;
+        this.logQueue = queue;
+        this.meterRegistry = registry;
+        this.processSuccessTimer = requestTimer("process", "success", registry);
+        this.processErrorTimer = requestTimer("process", "error", registry);
+    }
+
+    /**
+     * Send contract agreement to clearing house. The log message is sent in the background.
      *
      * @param agreementId The agreement's id.
      * @param logItem   The item that should be logged.
@@ -88,12 +122,13 @@ public class ClearingHouseService {
     public void sendToClearingHouse(final URI agreementId, final Object logItem) {
         if (isClearingHouseEnabled()) {
             final var url = buildDestination(agreementId);
-            logMessageSvc.sendMessage(url, logItem);
+            logQueue.submit(url, logItem::toString);
         }
     }
 
     /**
      * Creates a LogMessage with the IDS message as payload, then sends to the Clearing House.
+     * The message is serialized and sent in the background.
      *
      * @param idsMessage the message that should be logged.
      */
@@ -103,8 +138,8 @@ public class ClearingHouseService {
                 final var transferContractId =
                                     UUIDUtils.uuidFromUri(idsMessage.getTransferContract());
                 final var url = buildDestination(URI.create(transferContractId.toString()));
-                logMessageSvc.sendMessage(url, idsMessage.toRdf());
-            } catch (UUIDFormatException | PolicyExecutionException exception) {
+                logQueue.submit(url, idsMessage::toRdf);
+            } catch (UUIDFormatException exception) {
                 if (log.isWarnEnabled()) {
                     log.warn("Failed to log message to clearing house. [exception=({})]",
                             exception.getMessage());
@@ -134,8 +169,16 @@ public class ClearingHouseService {
             final var payload = buildProcessCreationPayload(providerFingerprint,
                     consumerFingerprint);
 
-            final var response = requestService.send(new ProcessCreationMessageDesc(url),
-                    objectMapper.writeValueAsString(payload));
+            final var body = objectMapper.writeValueAsString(payload);
+            final var sample = Timer.start(meterRegistry);
+            var success = false;
+            final Map<String, String> response;
+            try {
+                response = requestService.send(new ProcessCreationMessageDesc(url), body);
+                success = true;
+            } finally {
+                sample.stop(success ? processSuccessTimer : processErrorTimer);
+            }
 
             if (!requestService.isValidResponseType(response)) {
                 throw new MessageResponseException("Received unexpected response message type from"
@@ -176,6 +219,23 @@ public class ClearingHouseService {
         return payload;
     }
 
+    /**
+     * Register the timer for requests to the clearing house.
+     *
+     * @param operation The requested operation.
+     * @param outcome   Whether the request succeeded.
+     * @param registry  The meter registry.
+     * @return The timer.
+     */
+    static Timer requestTimer(final String operation, final String outcome,
+                              final MeterRegistry registry) {
+        return Timer.builder("dsc.clearinghouse.requests")
+                .description("Time taken by requests to the clearing house")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
     private boolean isClearingHouseEnabled() {
         return !connectorConfig.getClearingHouse().toString().isBlank();
     }
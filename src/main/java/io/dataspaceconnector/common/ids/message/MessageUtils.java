@@ -30,8 +30,11 @@ import io.dataspaceconnector.common.exception.MessageRequestException;
 import io.dataspaceconnector.common.util.Utils;
 import lombok.extern.log4j.Log4j2;
 import okhttp3.MultipartBody;
+import org.apache.commons.codec.binary.Base64InputStream;
+import org.apache.commons.io.input.CharSequenceInputStream;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -43,6 +46,11 @@ import java.util.Map;
 @Log4j2
 public final class MessageUtils {
 
+    /**
+     * Size of the buffer used for decoding payloads.
+     */
+    private static final int PAYLOAD_BUFFER_SIZE = 64 * 1024;
+
     /**
      * Class constructor without params.
      */
@@ -241,6 +249,31 @@ public final class MessageUtils {
         return message.get("payload");
     }
 
+    /**
+     * Base64-encode a data stream for the payload of an artifact response. The data is encoded
+     * while it is read, so it is never held in memory as a whole.
+     *
+     * @param data The raw data.
+     * @return The encoded data as stream.
+     */
+    public static InputStream encodePayload(final InputStream data) {
+        return new Base64InputStream(data, true, 0, null);
+    }
+
+    /**
+     * Decode the Base64-encoded payload of an artifact response. The data is decoded while it is
+     * read instead of being copied into a separate array.
+     *
+     * @param payload The encoded payload.
+     * @return The raw data as stream.
+     * @throws IllegalArgumentException If the payload is null.
+     */
+    public static InputStream decodePayload(final String payload) {
+        Utils.requireNonNull(payload, ErrorMessage.MISSING_PAYLOAD);
+        return new Base64InputStream(new CharSequenceInputStream(payload,
+                StandardCharsets.US_ASCII, PAYLOAD_BUFFER_SIZE));
+    }
+
     /**
      * Read string from stream. Does not handle null payloads.
      *
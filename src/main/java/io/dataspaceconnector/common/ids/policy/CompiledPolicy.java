@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids.policy;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.util.Utils;
+import lombok.Getter;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rules of a contract agreement compiled for usage control decisions. The rules are grouped
+ * by their target in the order permissions, prohibitions, obligations. Instances are immutable.
+ */
+public final class CompiledPolicy {
+
+    /**
+     * The id of the contract agreement.
+     */
+    @Getter
+    private final URI agreementId;
+
+    /**
+     * The compiled rules per target.
+     */
+    private final Map<URI, List<CompiledRule>> rulesByTarget;
+
+    private CompiledPolicy(final URI id, final Map<URI, List<CompiledRule>> rules) {
+        this.agreementId = id;
+        this.rulesByTarget = rules;
+    }
+
+    /**
+     * Compile the rules of a contract agreement.
+     *
+     * @param agreement The ids contract agreement.
+     * @return The compiled policy.
+     * @throws IllegalArgumentException if the agreement is null.
+     */
+    public static CompiledPolicy compile(final ContractAgreement agreement) {
+        Utils.requireNonNull(agreement, ErrorMessage.CONTRACT_NULL);
+
+        final var rules = new LinkedHashMap<URI, List<CompiledRule>>();
+        addRules(rules, agreement.getPermission());
+        addRules(rules, agreement.getProhibition());
+        addRules(rules, agreement.getObligation());
+
+        final var compiled = new LinkedHashMap<URI, List<CompiledRule>>();
+        rules.forEach((target, list) -> compiled.put(target, List.copyOf(list)));
+        return new CompiledPolicy(agreement.getId(), Map.copyOf(compiled));
+    }
+
+    private static void addRules(final Map<URI, List<CompiledRule>> rules,
+                                 final List<? extends Rule> list) {
+        if (list == null) {
+            return;
+        }
+
+        for (final var rule : list) {
+            if (rule != null && rule.getTarget() != null) {
+                rules.computeIfAbsent(rule.getTarget(), x -> new ArrayList<>())
+                        .add(CompiledRule.compile(rule));
+            }
+        }
+    }
+
+    /**
+     * Get the compiled rules for a target.
+     *
+     * @param target The target of the rules.
+     * @return The rules in agreement order. Empty if there are none.
+     */
+    public List<CompiledRule> getRules(final URI target) {
+        return target == null ? List.of() : rulesByTarget.getOrDefault(target, List.of());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids.policy;
+
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import lombok.Getter;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * An ids rule together with its recognized policy pattern and the pre-parsed constraint values
+ * this pattern needs for a decision. Rules are compiled once per agreement, so that validating a
+ * data access does not inspect the rule's constraints again.
+ */
+@Getter
+public final class CompiledRule {
+
+    /**
+     * The ids rule.
+     */
+    private final Rule rule;
+
+    /**
+     * The recognized policy pattern. Null if no pattern has been recognized.
+     */
+    private final PolicyPattern pattern;
+
+    /**
+     * The start of the allowed time interval.
+     */
+    private final ZonedDateTime start;
+
+    /**
+     * The end of the allowed time interval.
+     */
+    private final ZonedDateTime end;
+
+    /**
+     * The allowed duration of usage. Null if the rule does not define a valid duration.
+     */
+    private final Duration duration;
+
+    /**
+     * The allowed number of accesses.
+     */
+    private final int maxAccess;
+
+    /**
+     * The connector allowed to access the data.
+     */
+    private final URI allowedConnector;
+
+    /**
+     * The required security profile.
+     */
+    private final String securityProfile;
+
+    /**
+     * The reason why the rule could not be read. Null if the rule has been compiled without
+     * errors. Reported when the rule is validated.
+     */
+    private final ErrorMessage error;
+
+    /**
+     * The message of the exception raised while reading the rule.
+     */
+    private final String errorDetail;
+
+    /**
+     * Compile a rule for the given pattern.
+     *
+     * @param idsRule       The ids rule.
+     * @param policyPattern The pattern of the rule.
+     */
+    public CompiledRule(final Rule idsRule, final PolicyPattern policyPattern) {
+        this(idsRule, policyPattern, false);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private CompiledRule(final Rule idsRule, final PolicyPattern policyPattern,
+                         final boolean detectPattern) {
+        this.rule = idsRule;
+
+        PolicyPattern recognized = policyPattern;
+        ZonedDateTime intervalStart = null;
+        ZonedDateTime intervalEnd = null;
+        Duration usageDuration = null;
+        int access = 0;
+        URI connector = null;
+        String profile = null;
+        ErrorMessage reason = null;
+        String detail = null;
+        try {
+            if (detectPattern) {
+                recognized = RuleUtils.getPatternByRule(idsRule);
+            }
+
+            if (recognized != null) {
+                switch (recognized) {
+                    case USAGE_DURING_INTERVAL:
+                    case USAGE_UNTIL_DELETION:
+                        final var interval = RuleUtils.getTimeInterval(idsRule);
+                        intervalStart = interval.getStart();
+                        intervalEnd = interval.getEnd();
+                        break;
+                    case DURATION_USAGE:
+                        usageDuration = RuleUtils.getDuration(idsRule);
+                        break;
+                    case N_TIMES_USAGE:
+                        access = RuleUtils.getMaxAccess(idsRule);
+                        break;
+                    case CONNECTOR_RESTRICTED_USAGE:
+                        connector = URI.create(RuleUtils.getEndpoint(idsRule));
+                        break;
+                    case SECURITY_PROFILE_RESTRICTED_USAGE:
+                        profile = RuleUtils.getSecurityProfile(idsRule);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (RuntimeException e) {
+            reason = getErrorReason(recognized);
+            detail = e.getMessage();
+        }
+
+        this.pattern = recognized;
+        this.start = intervalStart;
+        this.end = intervalEnd;
+        this.duration = usageDuration;
+        this.maxAccess = access;
+        this.allowedConnector = connector;
+        this.securityProfile = profile;
+        this.error = reason;
+        this.errorDetail = detail;
+    }
+
+    private static ErrorMessage getErrorReason(final PolicyPattern policyPattern) {
+        if (policyPattern == null) {
+            return ErrorMessage.POLICY_RESTRICTION;
+        }
+
+        switch (policyPattern) {
+            case USAGE_DURING_INTERVAL:
+            case USAGE_UNTIL_DELETION:
+            case DURATION_USAGE:
+                return ErrorMessage.DATA_ACCESS_INVALID_INTERVAL;
+            case CONNECTOR_RESTRICTED_USAGE:
+                return ErrorMessage.DATA_ACCESS_INVALID_CONSUMER;
+            case SECURITY_PROFILE_RESTRICTED_USAGE:
+                return ErrorMessage.DATA_ACCESS_INVALID_SECURITY_PROFILE;
+            default:
+                return ErrorMessage.POLICY_RESTRICTION;
+        }
+    }
+
+    /**
+     * Compile a rule and recognize its policy pattern. If the pattern cannot be recognized
+     * because the rule is malformed, the pattern is null and the error is kept.
+     *
+     * @param idsRule The ids rule.
+     * @return The compiled rule.
+     */
+    public static CompiledRule compile(final Rule idsRule) {
+        return new CompiledRule(idsRule, null, true);
+    }
+}
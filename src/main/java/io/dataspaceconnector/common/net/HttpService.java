@@ -23,6 +23,7 @@ import io.dataspaceconnector.common.routing.dataretrieval.Response;
 import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.exception.NotImplemented;
 import io.dataspaceconnector.common.util.Utils;
+import io.dataspaceconnector.extension.telemetry.TracePropagation;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NonNull;
@@ -31,15 +32,20 @@ import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+import okio.Okio;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -49,6 +55,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class HttpService implements DataRetrievalService {
 
+    /**
+     * The content type of request bodies.
+     */
+    private static final MediaType OCTET_STREAM = MediaType.get("application/octet-stream");
+
     /**
      * Service for building and sending http requests.
      */
@@ -111,7 +122,8 @@ public class HttpService implements DataRetrievalService {
     }
 
     /**
-     * Send post requests using the http service of the messaging services.
+     * Send post requests using the http service of the messaging services. The request body is
+     * streamed from the input, the response is read completely before returning.
      *
      * @param target The target url.
      * @param args   Request arguments.
@@ -121,6 +133,28 @@ public class HttpService implements DataRetrievalService {
      */
     public Response post(final URL target, final HttpArgs args, final InputStream data)
             throws IOException {
+        try (var response = sendPost(target, args, data)) {
+            return getHttpResponse(response);
+        }
+    }
+
+    /**
+     * Send post requests using the http service of the messaging services. Request and response
+     * body are streamed. The connection is held until the response data is closed.
+     *
+     * @param target The target url.
+     * @param args   Request arguments.
+     * @param data   The data that should be sent.
+     * @return The response.
+     * @throws IOException if the request failed.
+     */
+    public Response postStream(final URL target, final HttpArgs args, final InputStream data)
+            throws IOException {
+        return getStreamingHttpResponse(sendPost(target, args, data));
+    }
+
+    private okhttp3.Response sendPost(final URL target, final HttpArgs args,
+                                      final InputStream data) throws IOException {
         validateParameter(target, args);
 
         final var urlBuilder = createUrlBuilder(target);
@@ -133,26 +167,23 @@ public class HttpService implements DataRetrievalService {
 
         final var targetUrl = urlBuilder.build();
 
-        final var body = RequestBody.create(data.readAllBytes(),
-                MediaType.get("application/octet-stream"));
+        final var body = new InputStreamRequestBody(data);
 
         final var requestBuilder = new Request.Builder().url(targetUrl).post(body);
 
+        TracePropagation.getHeaders().forEach(requestBuilder::header);
         if (args.getHeaders() != null && !args.getHeaders().isEmpty()) {
             args.getHeaders().forEach(requestBuilder::header);
         }
 
-        final var response = httpSvc.send(requestBuilder.build());
-        final var output = getHttpResponse(response);
-        response.close();
-
-        return output;
+        return httpSvc.send(requestBuilder.build());
     }
 
     /**
      * Perform a get request with query parameters (if given).
      * If a query parameter is already found in the target URL it is ignored,
      * so that the basis url of the target can not be bypassed.
+     * The response is read completely before returning.
      *
      * @param target The recipient of the request.
      * @param args   The request arguments.
@@ -161,6 +192,27 @@ public class HttpService implements DataRetrievalService {
      * @throws IllegalArgumentException if any of the parameters is null.
      */
     public Response get(final URL target, final HttpArgs args) throws IOException {
+        try (var response = sendGet(target, args)) {
+            return getHttpResponse(response);
+        }
+    }
+
+    /**
+     * Perform a get request like {@link #get(URL, HttpArgs)}, but stream the response body. The
+     * data is read from the connection while it is consumed and the connection is held until
+     * the response data is closed.
+     *
+     * @param target The recipient of the request.
+     * @param args   The request arguments.
+     * @return The response.
+     * @throws IOException              if the request failed.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public Response getStream(final URL target, final HttpArgs args) throws IOException {
+        return getStreamingHttpResponse(sendGet(target, args));
+    }
+
+    private okhttp3.Response sendGet(final URL target, final HttpArgs args) throws IOException {
         validateParameter(target, args);
 
         final var urlBuilder = createUrlBuilder(target);
@@ -177,15 +229,19 @@ public class HttpService implements DataRetrievalService {
 
         final var targetUri = urlBuilder.build().uri();
 
+        final var traceHeaders = TracePropagation.getHeaders();
+
         okhttp3.Response response;
-        if (args.getHeaders() == null && args.getAuth() == null) {
+        if (args.getHeaders() == null && args.getAuth() == null && traceHeaders.isEmpty()) {
             response = httpSvc.get(targetUri);
         } else {
             /*
                 Make a copy of the headers and insert sensitive data only into the copy.
              */
-            final var headerCopy = args.getHeaders() == null
-                    ? new HashMap<String, String>() : new HashMap<>(args.getHeaders());
+            final var headerCopy = new HashMap<>(traceHeaders);
+            if (args.getHeaders() != null) {
+                headerCopy.putAll(args.getHeaders());
+            }
             if (args.getAuth() != null) {
                 headerCopy.put(args.getAuth().getFirst(), args.getAuth().getSecond());
             }
@@ -193,15 +249,37 @@ public class HttpService implements DataRetrievalService {
             response = httpSvc.getWithHeaders(targetUri, headerCopy);
         }
 
-        final var output = getHttpResponse(response);
-        response.close();
-
-        return output;
+        return response;
     }
 
     @NotNull
     private HttpResponse getHttpResponse(final okhttp3.Response response) throws IOException {
-        return new HttpResponse(response.code(), getBody(response));
+        return new HttpResponse(response.code(), getBody(response), getHeaders(response));
+    }
+
+    private HttpResponse getStreamingHttpResponse(final okhttp3.Response response) {
+        final var headers = getHeaders(response);
+        final var body = response.body();
+        if (body == null) {
+            response.close();
+            return new HttpResponse(response.code(), InputStream.nullInputStream(), headers);
+        }
+
+        return new HttpResponse(response.code(), new ResponseInputStream(response, body),
+                headers);
+    }
+
+    private Map<String, String> getHeaders(final okhttp3.Response response) {
+        final var headers = new HashMap<String, String>();
+        if (response.headers() != null) {
+            for (final var name : response.headers().names()) {
+                // Repeated headers are joined as defined by RFC 9110.
+                headers.put(name.toLowerCase(Locale.ROOT),
+                        String.join(", ", response.headers(name)));
+            }
+        }
+
+        return headers;
     }
 
     private void validateParameter(final URL target, final HttpArgs args) {
@@ -221,7 +299,8 @@ public class HttpService implements DataRetrievalService {
     }
 
     /**
-     * Perform a get request.
+     * Perform a get request. The response body is streamed, see
+     * {@link #getStream(URL, HttpArgs)}.
      *
      * @param target The recipient of the request.
      * @param input  The query inputs.
@@ -232,11 +311,12 @@ public class HttpService implements DataRetrievalService {
     public Response get(final URL target, final QueryInput input) throws IOException {
         final var url = (input == null) ? buildTargetUrl(target, null)
                 : buildTargetUrl(target, input.getOptional());
-        return this.get(url, toArgs(input));
+        return this.getStream(url, toArgs(input));
     }
 
     /**
-     * Perform a get request.
+     * Perform a get request. The response body is streamed, see
+     * {@link #getStream(URL, HttpArgs)}.
      *
      * @param target The recipient of the request.
      * @param input  The query inputs.
@@ -249,7 +329,7 @@ public class HttpService implements DataRetrievalService {
                         final List<? extends HttpAuthentication> auth) throws IOException {
         final var url = (input == null) ? buildTargetUrl(target, null)
                 : buildTargetUrl(target, input.getOptional());
-        return this.get(url, toArgs(input, auth));
+        return this.getStream(url, toArgs(input, auth));
     }
 
     private URL buildTargetUrl(final URL target, final String optional) {
@@ -324,4 +404,53 @@ public class HttpService implements DataRetrievalService {
         }
         return args;
     }
+
+    /**
+     * Request body that is written from an input stream while the request is sent. The stream
+     * can only be read once, so the request is not retried.
+     */
+    @RequiredArgsConstructor
+    private static final class InputStreamRequestBody extends RequestBody {
+
+        /**
+         * The data.
+         */
+        private final @NonNull InputStream data;
+
+        @Override
+        public MediaType contentType() {
+            return OCTET_STREAM;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return true;
+        }
+
+        @Override
+        public void writeTo(final @NotNull BufferedSink sink) throws IOException {
+            sink.writeAll(Okio.source(data));
+        }
+    }
+
+    /**
+     * Streams a response body and releases the connection when closed.
+     */
+    private static final class ResponseInputStream extends FilterInputStream {
+
+        /**
+         * The response the body belongs to.
+         */
+        private final okhttp3.Response response;
+
+        ResponseInputStream(final okhttp3.Response httpResponse, final ResponseBody body) {
+            super(body.byteStream());
+            this.response = httpResponse;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
 }
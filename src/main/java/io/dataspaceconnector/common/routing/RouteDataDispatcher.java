@@ -28,8 +28,8 @@ import org.apache.camel.builder.ExchangeBuilder;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Dispatches data via Camel routes.
@@ -76,7 +76,26 @@ public class RouteDataDispatcher {
      */
     public void send(final URI routeId, final byte[] bytes, final QueryInput queryInput)
             throws IOException, DataDispatchException {
-        final var data = new String(bytes, StandardCharsets.UTF_8);
+        dispatch(routeId, bytes, queryInput);
+    }
+
+    /**
+     * Dispatches data via the specified route without reading it into memory first. The route
+     * will be triggered once with the stream as the initial input using the headers from a
+     * {@link QueryInput} for the request to the backend. The stream is not closed.
+     *
+     * @param routeId the route ID.
+     * @param data the data as stream.
+     * @param queryInput the query input for the backend.
+     * @throws DataDispatchException if an error occurs during route execution.
+     */
+    public void send(final URI routeId, final InputStream data, final QueryInput queryInput)
+            throws DataDispatchException {
+        dispatch(routeId, data, queryInput);
+    }
+
+    private void dispatch(final URI routeId, final Object body, final QueryInput queryInput)
+            throws DataDispatchException {
         final var routeUuid = UUIDUtils.uuidFromUri(routeId);
         final var camelDirect = "direct:" + routeUuid;
 
@@ -84,7 +103,7 @@ public class RouteDataDispatcher {
             final var result = template
                     .send(camelDirect, ExchangeBuilder.anExchange(context)
                             .withProperty(ParameterUtils.QUERY_INPUT_PARAM, queryInput)
-                            .withBody(data)
+                            .withBody(body)
                             .build());
 
             if (result.getException() != null) {
@@ -0,0 +1,585 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.routing;
+
+import io.dataspaceconnector.common.exception.DataDispatchException;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dispatches data via several Camel routes at once. The data is passed through to the caller
+ * while it is read, and a copy is handed to every route concurrently. Routes that cannot keep up
+ * read from the copy, which is kept in memory up to a threshold and spilled to disk above, so
+ * neither the caller nor the other routes wait for them.
+ */
+@Log4j2
+@Component
+public class RouteDataMulticaster {
+
+    /**
+     * The time in seconds to wait for running routes on shutdown.
+     */
+    private static final long SHUTDOWN_TIMEOUT = 5;
+
+    /**
+     * What a failing route means for the caller.
+     */
+    public enum FailurePolicy {
+        /**
+         * The data stream of the caller fails once it has been read completely.
+         */
+        FAIL,
+
+        /**
+         * The failure is logged, the caller is not affected.
+         */
+        IGNORE
+    }
+
+    /**
+     * Dispatches data via a single route.
+     */
+    private final RouteDataDispatcher routeDispatcher;
+
+    /**
+     * Whether data for several routes is multicast instead of sent one route after another.
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * The maximum time in milliseconds a route may take, 0 for no limit.
+     */
+    private final long timeout;
+
+    /**
+     * What a failing route means for the caller.
+     */
+    private final FailurePolicy failurePolicy;
+
+    /**
+     * The number of bytes kept in memory before the copy is spilled to disk.
+     */
+    private final int memoryThreshold;
+
+    /**
+     * Runs the routes. Its size bounds the number of routes running at once.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Cancels routes that exceed the timeout.
+     */
+    private final ScheduledThreadPoolExecutor timer;
+
+    /**
+     * Constructor for RouteDataMulticaster.
+     *
+     * @param dispatcher   Dispatches data via a single route.
+     * @param isEnabled    Whether data for several routes is multicast.
+     * @param poolSize     The maximum number of routes running at once.
+     * @param routeTimeout The maximum time in milliseconds a route may take, 0 for no limit.
+     * @param policy       What a failing route means for the caller.
+     * @param threshold    The number of bytes kept in memory before spilling to disk.
+     */
+    public RouteDataMulticaster(
+            final RouteDataDispatcher dispatcher,
+            @Value("${route.multicast.enabled:false}") final boolean isEnabled,
+            @Value("${route.multicast.pool-size:8}") final int poolSize,
+            @Value("${route.multicast.timeout:60000}") final long routeTimeout,
+            @Value("${route.multicast.failure-policy:FAIL}") final FailurePolicy policy,
+            @Value("${route.multicast.memory-threshold:1048576}") final int threshold) {
+        this.routeDispatcher = dispatcher;
+        this.enabled = isEnabled;
+        this.timeout = routeTimeout;
+        this.failurePolicy = policy;
+        this.memoryThreshold = threshold;
+
+        final var counter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(poolSize, runnable -> {
+            final var thread = new Thread(runnable,
+                    "route-multicast-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final var thread = new Thread(runnable, "route-multicast-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Dispatches data via all routes. The routes are started right away and read the data
+     * while the caller reads the returned stream; if the caller closes the stream early, the
+     * remaining data is read for the routes. Depending on the failure policy, the end of the
+     * returned stream waits for the routes and fails if any of them failed.
+     *
+     * @param routeIds The route IDs.
+     * @param data     The data.
+     * @return The data for the caller.
+     */
+    public InputStream multicast(final List<URI> routeIds, final InputStream data) {
+        final var multicast = new Multicast(new Spool(memoryThreshold, routeIds.size() + 1),
+                routeIds.size());
+        for (final var routeId : routeIds) {
+            final var task = new RouteTask(routeId, multicast);
+            try {
+                workers.execute(task);
+                if (timeout > 0) {
+                    task.timeout = timer.schedule(() -> task.cancel(true), timeout,
+                            TimeUnit.MILLISECONDS);
+                }
+            } catch (RejectedExecutionException e) {
+                task.cancel(false);
+            }
+        }
+
+        return new MulticastInputStream(data, multicast);
+    }
+
+    /**
+     * Stops the executors, waiting shortly for running routes.
+     */
+    @PreDestroy
+    public void stop() {
+        timer.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The state of a single multicast.
+     */
+    private static final class Multicast {
+
+        /**
+         * The copy of the data.
+         */
+        private final Spool spool;
+
+        /**
+         * Counts down once per finished route.
+         */
+        private final CountDownLatch finished;
+
+        /**
+         * The routes that failed.
+         */
+        private final Queue<URI> failures = new ConcurrentLinkedQueue<>();
+
+        Multicast(final Spool copy, final int routes) {
+            this.spool = copy;
+            this.finished = new CountDownLatch(routes);
+        }
+    }
+
+    /**
+     * Sends the copy of the data via a single route.
+     */
+    private final class RouteTask extends FutureTask<Void> {
+
+        /**
+         * The route ID.
+         */
+        private final URI routeId;
+
+        /**
+         * The multicast the route belongs to.
+         */
+        private final Multicast multicast;
+
+        /**
+         * Cancels the route once the timeout is exceeded.
+         */
+        private volatile ScheduledFuture<?> timeout;
+
+        RouteTask(final URI route, final Multicast parent) {
+            super(() -> {
+                try (var data = new SpoolInputStream(parent.spool)) {
+                    routeDispatcher.send(route, data, null);
+                }
+                return null;
+            });
+            this.routeId = route;
+            this.multicast = parent;
+        }
+
+        @Override
+        protected void done() {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+
+            try {
+                get();
+            } catch (Exception e) {
+                multicast.failures.add(routeId);
+                if (log.isWarnEnabled()) {
+                    final var cause = e.getCause() == null ? e : e.getCause();
+                    log.warn("Could not send data via route. [routeId=({}), exception=({})]",
+                            routeId, isCancelled() ? "cancelled" : cause.getMessage(), cause);
+                }
+            } finally {
+                multicast.spool.release();
+                multicast.finished.countDown();
+            }
+        }
+    }
+
+    /**
+     * Passes the data through to the caller and writes a copy for the routes.
+     */
+    private final class MulticastInputStream extends FilterInputStream {
+
+        /**
+         * The multicast the data belongs to.
+         */
+        private final Multicast multicast;
+
+        /**
+         * Whether the data has been read completely.
+         */
+        private boolean complete;
+
+        MulticastInputStream(final InputStream data, final Multicast parent) {
+            super(data);
+            this.multicast = parent;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = new byte[1];
+            final var read = read(b, 0, 1);
+            return read == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (complete) {
+                return -1;
+            }
+
+            final int read;
+            try {
+                read = super.read(b, off, len);
+            } catch (IOException e) {
+                // The routes cannot get the complete data either.
+                complete = true;
+                multicast.spool.fail(e);
+                multicast.spool.release();
+                throw e;
+            }
+
+            if (read == -1) {
+                complete();
+            } else {
+                multicast.spool.write(b, off, read);
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            // Skipped data is still needed by the routes.
+            final var buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                final var read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read == -1) {
+                    break;
+                }
+                skipped += read;
+            }
+
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (!complete) {
+                    final var buffer = new byte[8192];
+                    while (read(buffer, 0, buffer.length) != -1) {
+                        // Read the remaining data for the routes.
+                    }
+                }
+            } finally {
+                super.close();
+            }
+        }
+
+        private void complete() throws IOException {
+            complete = true;
+            multicast.spool.complete();
+            multicast.spool.release();
+
+            if (failurePolicy == FailurePolicy.FAIL) {
+                try {
+                    multicast.finished.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for routes.");
+                }
+
+                if (!multicast.failures.isEmpty()) {
+                    throw new IOException("Could not send data via route.",
+                            new DataDispatchException("Failed routes: " + multicast.failures));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the copy of the data for a single route.
+     */
+    private static final class SpoolInputStream extends InputStream {
+
+        /**
+         * The copy of the data.
+         */
+        private final Spool spool;
+
+        /**
+         * The position of the next byte to read.
+         */
+        private long position;
+
+        SpoolInputStream(final Spool copy) {
+            this.spool = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = new byte[1];
+            final var read = read(b, 0, 1);
+            return read == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            final var read = spool.read(position, b, off, len);
+            if (read > 0) {
+                position += read;
+            }
+
+            return read;
+        }
+    }
+
+    /**
+     * Copy of the data that is read by several routes while it is being written. The data is
+     * kept in memory up to a threshold and spilled to a temporary file above. The file is
+     * deleted once the writer and all readers have released the copy.
+     */
+    private static final class Spool {
+
+        /**
+         * The number of bytes kept in memory.
+         */
+        private final int threshold;
+
+        /**
+         * The number of writers and readers still using the copy.
+         */
+        private final AtomicInteger references;
+
+        /**
+         * The data while kept in memory.
+         */
+        private byte[] memory = new byte[0];
+
+        /**
+         * The file the data has been spilled to.
+         */
+        private Path file;
+
+        /**
+         * The channel for writing and reading the file.
+         */
+        private FileChannel channel;
+
+        /**
+         * The number of bytes written.
+         */
+        private long length;
+
+        /**
+         * Whether all data has been written.
+         */
+        private boolean complete;
+
+        /**
+         * The error that occurred while reading the original data.
+         */
+        private IOException error;
+
+        /**
+         * Whether the copy has been released by all users.
+         */
+        private boolean released;
+
+        Spool(final int memoryThreshold, final int users) {
+            this.threshold = memoryThreshold;
+            this.references = new AtomicInteger(users);
+        }
+
+        synchronized void write(final byte[] b, final int off, final int len) throws IOException {
+            if (channel == null && length + len > threshold) {
+                file = Files.createTempFile("route-multicast-", ".tmp");
+                channel = FileChannel.open(file, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+                channel.write(ByteBuffer.wrap(memory, 0, (int) length), 0);
+                memory = null;
+            }
+
+            if (channel == null) {
+                if (length + len > memory.length) {
+                    memory = Arrays.copyOf(memory,
+                            (int) Math.min(threshold, Math.max(length + len, 2L * length)));
+                }
+                System.arraycopy(b, off, memory, (int) length, len);
+            } else {
+                final var buffer = ByteBuffer.wrap(b, off, len);
+                var position = length;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+
+            length += len;
+            notifyAll();
+        }
+
+        synchronized void complete() {
+            complete = true;
+            notifyAll();
+        }
+
+        synchronized void fail(final IOException exception) {
+            error = exception;
+            notifyAll();
+        }
+
+        int read(final long position, final byte[] b, final int off, final int len)
+                throws IOException {
+            final FileChannel source;
+            final int available;
+            synchronized (this) {
+                while (position >= length && !complete && error == null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while waiting for data.");
+                    }
+                }
+
+                if (error != null) {
+                    throw new IOException("Could not read data.", error);
+                }
+                if (position >= length) {
+                    return -1;
+                }
+
+                if (released) {
+                    throw new IOException("The data has been released.");
+                }
+
+                available = (int) Math.min(len, length - position);
+                if (channel == null) {
+                    System.arraycopy(memory, (int) position, b, off, available);
+                    return available;
+                }
+                source = channel;
+            }
+
+            // Positional reads do not interfere with the writer, so no lock is needed.
+            return source.read(ByteBuffer.wrap(b, off, available), position);
+        }
+
+        void release() {
+            if (references.decrementAndGet() != 0) {
+                return;
+            }
+
+            synchronized (this) {
+                released = true;
+                memory = null;
+                if (channel != null) {
+                    try {
+                        channel.close();
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        if (log.isWarnEnabled()) {
+                            log.warn("Could not delete multicast data. [file=({}), "
+                                    + "exception=({})]", file, e.getMessage());
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -27,11 +27,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Message;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.StreamCache;
 import org.apache.camel.builder.ExchangeBuilder;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -56,19 +63,28 @@ public class RouteDataRetriever implements DataRetrievalService {
 
     /**
      * Retrieves and returns the data using a Camel route. The route to use is identified by the
-     * access URL, which should be the ID of a route.
+     * access URL, which should be the ID of a route. The data is returned as it was produced by
+     * the route, without conversion. Large bodies cached by the route stay on disk until the
+     * returned stream is closed.
      *
      * @param accessUrl The route ID.
      * @param input The query input.
      * @return The data returned by the route wrapped in a RouteResponse.
      */
     public Response get(final URL accessUrl, final QueryInput input) throws DataRetrievalException {
+        final var exchange = ExchangeBuilder.anExchange(context).build();
+
+        // Camel deletes spooled stream caches when the unit of work is done. Keep it open until
+        // the caller has read the data.
+        final var unitOfWork = context.adapt(ExtendedCamelContext.class)
+                .getUnitOfWorkFactory().createUnitOfWork(exchange);
+        exchange.adapt(ExtendedExchange.class).setUnitOfWork(unitOfWork);
+
         try {
             final var routeId = UUIDUtils.uuidFromUri(accessUrl.toURI());
             final var camelDirect = "direct:" + routeId;
 
-            final var result = template.send(camelDirect,
-                    ExchangeBuilder.anExchange(context).build());
+            final var result = template.send(camelDirect, exchange);
 
             if (result.getException() != null) {
                 throw result.getException();
@@ -76,10 +92,10 @@ public class RouteDataRetriever implements DataRetrievalService {
                 throw result.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
             }
 
-            final var data = result.getIn().getBody(String.class);
-            return new RouteResponse(new ByteArrayInputStream(
-                    data.getBytes(StandardCharsets.UTF_8)));
+            return new RouteResponse(new UnitOfWorkInputStream(getBody(result.getIn()),
+                    () -> unitOfWork.done(result)));
         } catch (Exception e) {
+            unitOfWork.done(exchange);
             if (log.isDebugEnabled()) {
                 log.debug("Failed to retrieve data. [exception=({})]", e.getMessage(), e);
             }
@@ -88,6 +104,25 @@ public class RouteDataRetriever implements DataRetrievalService {
 
     }
 
+    private static InputStream getBody(final Message message) throws IOException {
+        if (message.getBody() instanceof StreamCache cache) {
+            cache.reset();
+        }
+
+        final var stream = message.getBody(InputStream.class);
+        if (stream != null) {
+            return stream;
+        }
+
+        // Bodies without a stream representation, e.g. query results, are returned as text.
+        final var text = message.getBody(String.class);
+        if (text == null) {
+            return InputStream.nullInputStream();
+        }
+
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Retrieves the data using authentication. Will throw a {@link NotImplemented}, as all
      * required authentication information is already present in the route.
@@ -99,4 +134,38 @@ public class RouteDataRetriever implements DataRetrievalService {
         throw new NotImplemented();
     }
 
+    /**
+     * Completes the unit of work of a route exchange when the data has been read.
+     */
+    private static final class UnitOfWorkInputStream extends FilterInputStream {
+
+        /**
+         * Completes the unit of work.
+         */
+        private final Runnable onClose;
+
+        /**
+         * Whether the stream has been closed.
+         */
+        private boolean closed;
+
+        UnitOfWorkInputStream(final InputStream in, final Runnable done) {
+            super(in);
+            this.onClose = done;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                onClose.run();
+            }
+        }
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.storage;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+/**
+ * Content-addressed {@link LocalDataStore} keeping every payload as a file named after the
+ * SHA-256 hash of its content. Identical payloads are therefore only stored once.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(prefix = "storage.local", value = "type", havingValue = "filesystem")
+public class FileSystemLocalDataStore implements LocalDataStore {
+
+    /**
+     * Size of the buffer used for copying data.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Algorithm used for addressing the stored content.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * Format of valid references.
+     */
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    /**
+     * Directory containing the stored data.
+     */
+    private final Path root;
+
+    /**
+     * Directory for data that is currently being written.
+     */
+    private final Path tmpDir;
+
+    /**
+     * Constructor for FileSystemLocalDataStore.
+     *
+     * @param path The directory the data is stored in.
+     * @throws IOException if the directory could not be created.
+     */
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    public FileSystemLocalDataStore(@Value("${storage.local.path}") final String path)
+            throws IOException {
+        this.root = Path.of(path).toAbsolutePath().normalize();
+        this.tmpDir = root.resolve("tmp");
+        Files.createDirectories(tmpDir);
+
+        if (log.isInfoEnabled()) {
+            log.info("Storing local data on the filesystem. [path=({})]", root);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoredData write(final InputStream data) throws IOException {
+        final var digest = newDigest();
+        final var checksum = new CRC32C();
+        final var buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+
+        final var tmpFile = Files.createTempFile(tmpDir, "upload-", ".tmp");
+        try {
+            try (var out = Files.newOutputStream(tmpFile)) {
+                int read;
+                while ((read = data.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    checksum.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+
+            final var reference = HexFormat.of().formatHex(digest.digest());
+            final var target = resolve(reference);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tmpFile, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ignored) {
+                    // The same content has been stored concurrently, nothing to do.
+                }
+            }
+
+            return new StoredData(reference, size, checksum.getValue());
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream read(final String reference) throws IOException {
+        return new StoredFileInputStream(FileChannel.open(resolve(reference)), reference);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(final String reference) throws IOException {
+        Files.deleteIfExists(resolve(reference));
+    }
+
+    /**
+     * Get the file the data of a reference is stored in.
+     *
+     * @param reference The reference.
+     * @return The path of the file.
+     * @throws IllegalArgumentException if the reference is not valid.
+     */
+    public Path resolve(final String reference) {
+        if (reference == null || !REFERENCE_PATTERN.matcher(reference).matches()) {
+            throw new IllegalArgumentException("Invalid data reference.");
+        }
+
+        return root.resolve(reference.substring(0, 2)).resolve(reference);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Storage backend for the binary content of local data. Implementations must stream the data
+ * and never hold a complete payload in memory.
+ */
+public interface LocalDataStore {
+
+    /**
+     * Store the content of a stream. The stream is read till its end but not closed.
+     *
+     * @param data The data.
+     * @return Information about the stored data.
+     * @throws IOException if the data could not be read or stored.
+     */
+    StoredData write(InputStream data) throws IOException;
+
+    /**
+     * Open the data stored under a reference. The caller is responsible for closing the stream.
+     *
+     * @param reference The reference returned when the data was written.
+     * @return The data.
+     * @throws IOException if the data could not be opened.
+     */
+    InputStream read(String reference) throws IOException;
+
+    /**
+     * Remove the data stored under a reference. Unknown references are ignored.
+     *
+     * @param reference The reference returned when the data was written.
+     * @throws IOException if the data could not be removed.
+     */
+    void delete(String reference) throws IOException;
+}
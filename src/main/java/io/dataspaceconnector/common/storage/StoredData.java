@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Describes data that has been written to a {@link LocalDataStore}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoredData {
+
+    /**
+     * The reference under which the data can be read again. Null if the data is not held by a
+     * {@link LocalDataStore}.
+     */
+    private final String reference;
+
+    /**
+     * The number of bytes.
+     */
+    private final long size;
+
+    /**
+     * The CRC32C checksum of the data.
+     */
+    private final long checksum;
+}
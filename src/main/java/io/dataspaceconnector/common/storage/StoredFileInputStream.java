@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.storage;
+
+import lombok.Getter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.function.LongConsumer;
+
+/**
+ * Stream over data held in a file by a {@link LocalDataStore}. Besides plain reading, it allows
+ * writing arbitrary sections of the file, e.g. for answering HTTP range requests.
+ */
+public class StoredFileInputStream extends FilterInputStream {
+
+    /**
+     * Size of the buffer used for transferring sections of the file.
+     */
+    private static final int TRANSFER_SIZE = 64 * 1024;
+
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The reference of the data in the local data store.
+     */
+    @Getter
+    private final String reference;
+
+    /**
+     * Notified about the number of bytes read or transferred.
+     */
+    private LongConsumer transferListener = bytes -> { };
+
+    /**
+     * Constructor for StoredFileInputStream.
+     *
+     * @param fileChannel   The channel of the file. It is closed together with this stream.
+     * @param dataReference The reference of the data in the local data store.
+     */
+    public StoredFileInputStream(final FileChannel fileChannel, final String dataReference) {
+        super(Channels.newInputStream(fileChannel));
+        this.channel = fileChannel;
+        this.reference = dataReference;
+    }
+
+    /**
+     * Set the listener notified about the number of bytes read from this stream or transferred
+     * by {@link #transferTo(long, long, OutputStream)}, e.g. for counting the bytes served.
+     *
+     * @param listener The listener.
+     */
+    public void setTransferListener(final LongConsumer listener) {
+        this.transferListener = listener;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        final var value = super.read();
+        if (value != -1) {
+            transferListener.accept(1);
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final var read = super.read(b, off, len);
+        if (read > 0) {
+            transferListener.accept(read);
+        }
+        return read;
+    }
+
+    /**
+     * Get the size of the file.
+     *
+     * @return The size in bytes.
+     * @throws IOException if the size cannot be determined.
+     */
+    public long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Write a section of the file to a stream. The position of this stream is not changed.
+     *
+     * @param position The position of the first byte to write.
+     * @param count    The number of bytes to write.
+     * @param out      The target stream.
+     * @throws IOException if the file ends before the section or the data cannot be written.
+     */
+    public void transferTo(final long position, final long count, final OutputStream out)
+            throws IOException {
+        final var buffer = ByteBuffer.allocate((int) Math.min(TRANSFER_SIZE, Math.max(count, 1)));
+        var current = position;
+        var remaining = count;
+        while (remaining > 0) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), remaining));
+            final var read = channel.read(buffer, current);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file.");
+            }
+
+            out.write(buffer.array(), 0, read);
+            transferListener.accept(read);
+            current += read;
+            remaining -= read;
+        }
+    }
+}
@@ -12,26 +12,12 @@
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
  * See the License for the specific language governing permissions and
  * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+/**
+ * Provides storage backends for data held by the connector itself.
  */
-package io.dataspaceconnector.model.artifact;
-
-import org.junit.jupiter.api.Test;
-
-import static org.junit.jupiter.api.Assertions.assertEquals;
-
-public class ArtifactTests {
-
-    @Test
-    public void incrementAccessCounter_willAddOnlyOne() {
-        ArtifactDesc desc = new ArtifactDesc();
-        ArtifactFactory factory = new ArtifactFactory();
-        var artifact = factory.create(desc);
-
-        final var before = artifact.getNumAccessed();
-
-        artifact.incrementAccessCounter();
-
-        assertEquals(1, artifact.getNumAccessed());
-        assertEquals(0, before);
-    }
-}
+package io.dataspaceconnector.common.storage;
@@ -19,6 +19,10 @@
  */
 package io.dataspaceconnector.config.camel;
 
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.dataspaceconnector.service.routing.BeanManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.camel.builder.DeadLetterChannelBuilder;
 import org.apache.camel.model.Constants;
 import org.apache.camel.model.RedeliveryPolicyDefinition;
@@ -81,6 +85,17 @@ public class CamelConfig {
         return (BeanDefinitionRegistry) context.getAutowireCapableBeanFactory();
     }
 
+    /**
+     * Publishes the connection pool metrics of the data source beans created for Camel routes.
+     *
+     * @param registry the meter registry.
+     * @return the metrics tracker factory referenced by the data source beans.
+     */
+    @Bean(BeanManager.METRICS_TRACKER_FACTORY)
+    public MetricsTrackerFactory dataSourceMetricsTrackerFactory(final MeterRegistry registry) {
+        return new MicrometerMetricsTrackerFactory(registry);
+    }
+
     /**
      * Returns a DeadLetterChannelBuilder instance that routes all failed exchanges to the
      * designated error handler route.
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.config.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers successful password checks of a delegating encoder for a short time, so that
+ * stateless clients sending their credentials with every request pay the cost of a slow hash
+ * like BCrypt only once per credential. Entries are keyed by a keyed hash of the raw and the
+ * encoded password, the raw password itself is never kept. The key is generated on startup and
+ * never leaves the process. Failed checks are never cached and a changed password produces a
+ * different key, so neither guessing nor revoking credentials is affected by the cache.
+ */
+public class CachingPasswordEncoder implements PasswordEncoder {
+
+    /**
+     * The algorithm used for keying the cache entries.
+     */
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /**
+     * The encoder doing the actual work.
+     */
+    private final PasswordEncoder delegate;
+
+    /**
+     * How long a successful check is remembered.
+     */
+    private final Duration timeToLive;
+
+    /**
+     * The maximum number of remembered checks.
+     */
+    private final int maxSize;
+
+    /**
+     * The clock the expiration dates are compared to.
+     */
+    private final Clock clock;
+
+    /**
+     * The secret the cache keys are derived with.
+     */
+    private final Key secret;
+
+    /**
+     * The expiration dates of the remembered checks in access order.
+     */
+    private final Map<String, Instant> entries;
+
+    /**
+     * Constructor for CachingPasswordEncoder.
+     *
+     * @param encoder The encoder doing the actual work.
+     * @param ttl     How long a successful check is remembered.
+     * @param size    The maximum number of remembered checks.
+     */
+    public CachingPasswordEncoder(final PasswordEncoder encoder, final Duration ttl,
+                                  final int size) {
+        this(encoder, ttl, size, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for CachingPasswordEncoder.
+     *
+     * @param encoder The encoder doing the actual work.
+     * @param ttl     How long a successful check is remembered.
+     * @param size    The maximum number of remembered checks.
+     * @param time    The clock the expiration dates are compared to.
+     */
+    CachingPasswordEncoder(final PasswordEncoder encoder, final Duration ttl, final int size,
+                           final Clock time) {
+        this.delegate = encoder;
+        this.timeToLive = ttl;
+        this.maxSize = size;
+        this.clock = time;
+        this.secret = generateSecret();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Instant> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || !isEnabled()) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        final var key = hash(rawPassword, encodedPassword);
+        final var now = clock.instant();
+        synchronized (entries) {
+            final var expiration = entries.get(key);
+            if (expiration != null) {
+                if (now.isBefore(expiration)) {
+                    return true;
+                }
+                entries.remove(key);
+            }
+        }
+
+        final var matches = delegate.matches(rawPassword, encodedPassword);
+        if (matches) {
+            synchronized (entries) {
+                entries.put(key, now.plus(timeToLive));
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Forget all remembered checks.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Get the number of remembered checks.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private boolean isEnabled() {
+        return maxSize > 0 && !timeToLive.isNegative() && !timeToLive.isZero();
+    }
+
+    private String hash(final CharSequence rawPassword, final String encodedPassword) {
+        try {
+            final var mac = Mac.getInstance(ALGORITHM);
+            mac.init(secret);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(
+                    mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            // Every Java platform supports HmacSHA256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Key generateSecret() {
+        try {
+            return KeyGenerator.getInstance(ALGORITHM).generateKey();
+        } catch (GeneralSecurityException e) {
+            // Every Java platform supports HmacSHA256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -28,6 +28,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 
+import java.time.Duration;
+
 /**
  * This class creates an admin role for spring basic security setup used in {@link
  * ConfigurationAdapter}.
@@ -62,6 +64,18 @@ public class MultipleEntryPointsSecurityConfig {
     @Value("${spring.security.app.password}")
     private String appPassword;
 
+    /**
+     * How long a successful password check is remembered, 0 disables the cache.
+     */
+    @Value("${spring.security.credential-cache.ttl:300000}")
+    private long credentialCacheTtl;
+
+    /**
+     * The maximum number of remembered password checks.
+     */
+    @Value("${spring.security.credential-cache.size:100}")
+    private int credentialCacheSize;
+
     /**
      * Bean setting up an default admin.
      *
@@ -80,12 +94,15 @@ public class MultipleEntryPointsSecurityConfig {
     }
 
     /**
-     * Bean providing a password encoder.
+     * Bean providing a password encoder. Since the API is stateless, clients send their
+     * credentials with every request. Successful checks are therefore remembered for a short
+     * time, see {@link CachingPasswordEncoder}.
      *
      * @return The password encoder.
      */
     @Bean
     public PasswordEncoder encoder() {
-        return new BCryptPasswordEncoder();
+        return new CachingPasswordEncoder(new BCryptPasswordEncoder(),
+                Duration.ofMillis(credentialCacheTtl), credentialCacheSize);
     }
 }
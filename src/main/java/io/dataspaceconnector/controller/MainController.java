@@ -87,7 +87,8 @@ public class MainController {
     }
 
     /**
-     * Gets connector self-description with all resources.
+     * Gets connector self-description with all resources. The response carries an entity tag,
+     * so that unchanged self-descriptions are answered with 304 on conditional requests.
      *
      * @return Self-description or error response.
      */
@@ -95,12 +96,17 @@ public class MainController {
     @Operation(summary = "Get the private IDS self-description.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = ResponseCode.OK, description = ResponseDescription.OK),
+            @ApiResponse(responseCode = ResponseCode.NOT_MODIFIED,
+                    description = ResponseDescription.NOT_MODIFIED),
             @ApiResponse(responseCode = ResponseCode.INTERNAL_SERVER_ERROR,
                     description = ResponseDescription.INTERNAL_SERVER_ERROR)})
     @ResponseBody
     @TelemetrySpan(name = "GET /api/connector")
     public ResponseEntity<Object> getPrivateSelfDescription() {
-        return ResponseEntity.ok(connectorService.getConnectorWithOfferedResources().toRdf());
+        final var selfDescription = connectorService.getSelfDescription();
+        return ResponseEntity.ok()
+                .eTag(selfDescription.getETag())
+                .body(selfDescription.getRdf());
     }
 
     /**
@@ -26,6 +26,7 @@ import io.dataspaceconnector.common.exception.InvalidInputException;
 import io.dataspaceconnector.common.exception.MessageException;
 import io.dataspaceconnector.common.exception.MessageResponseException;
 import io.dataspaceconnector.common.exception.RdfBuilderException;
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.net.ContentType;
@@ -37,10 +38,8 @@ import io.dataspaceconnector.controller.message.tag.MessageName;
 import io.dataspaceconnector.controller.resource.view.agreement.AgreementViewAssembler;
 import io.dataspaceconnector.controller.util.ResponseUtils;
 import io.dataspaceconnector.extension.telemetry.TelemetrySpan;
-import io.dataspaceconnector.service.ArtifactDataDownloader;
+import io.dataspaceconnector.service.ContractDownloadService;
 import io.dataspaceconnector.service.ContractNegotiator;
-import io.dataspaceconnector.service.EntityUpdateService;
-import io.dataspaceconnector.service.MetadataDownloader;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.resource.type.AgreementService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -58,6 +57,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -80,11 +81,6 @@ import java.util.UUID;
 @RequestMapping("/api/ids")
 @Tag(name = MessageName.MESSAGES, description = MessageDescription.MESSAGES)
 public class ContractRequestMessageController {
-    /**
-     * Service for updating database entities.
-     */
-    private final @NonNull EntityUpdateService updateService;
-
     /**
      * Assemblers DTOs for agreements.
      */
@@ -101,14 +97,9 @@ public class ContractRequestMessageController {
     private final @NonNull ContractNegotiator negotiator;
 
     /**
-     * Downloads metadata.
-     */
-    private final @NonNull MetadataDownloader metadataDownloader;
-
-    /**
-     * Downloads artifact's data.
+     * Downloads metadata and artifact's data.
      */
-    private final @NonNull ArtifactDataDownloader artifactDataDownloader;
+    private final @NonNull ContractDownloadService downloadService;
 
     /**
      * Template for triggering Camel routes.
@@ -133,6 +124,7 @@ public class ContractRequestMessageController {
      * @param artifacts List of requested artifacts by IDs.
      * @param download  download data directly after successful contract and description request.
      * @param ruleList  List of rules that should be used within a contract request.
+     * @param async     download metadata and data in the background, the progress can be polled.
      * @return The response entity.
      */
     @PostMapping("/contract")
@@ -140,6 +132,7 @@ public class ContractRequestMessageController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ok"),
             @ApiResponse(responseCode = "201", description = "Created"),
+            @ApiResponse(responseCode = "202", description = "Accepted"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "400", description = "Bad request"),
             @ApiResponse(responseCode = "417", description = "Expectation failed"),
@@ -159,7 +152,11 @@ public class ContractRequestMessageController {
                     + "download data of an artifact.")
             @RequestParam("download") final boolean download,
             @Parameter(description = "List of ids rules with an artifact id as target.")
-            @RequestBody final List<Rule> ruleList) {
+            @RequestBody final List<Rule> ruleList,
+            @Parameter(description = "Indicates whether metadata and data should be downloaded "
+                    + "in the background. Only applies if IDSCP is disabled.")
+            @RequestParam(value = "async", required = false, defaultValue = "false")
+            final boolean async) {
         if (connectorConfig.isIdscpEnabled()) {
             UUID agreementId;
             final var result = template.send("direct:contractRequestSender",
@@ -198,15 +195,17 @@ public class ContractRequestMessageController {
                 // Initiate contract negotiation.
                 final var agreementId = negotiator.negotiate(recipient, ruleList);
 
-                // Download metadata.
-                downloadMetadata(recipient, resources, artifacts, download, agreementId);
-
-                // Download data, if requested.
-                if (download) {
-                    artifactDataDownloader.download(recipient, artifacts, agreementId);
+                if (async) {
+                    // Download metadata and data in the background.
+                    downloadService.downloadInBackground(recipient, resources, artifacts,
+                            download, agreementId);
+                    return respondWithAgreement(agreementId, HttpStatus.ACCEPTED);
                 }
 
-                return respondWithCreatedAgreement(agreementId);
+                // Download metadata and data, if requested.
+                downloadService.download(recipient, resources, artifacts, download, agreementId);
+
+                return respondWithAgreement(agreementId, HttpStatus.CREATED);
             } catch (InvalidInputException exception) {
                 // If the input rules are malformed.
                 return ResponseUtils.respondInvalidInput(exception);
@@ -231,22 +230,36 @@ public class ContractRequestMessageController {
         }
     }
 
-    private void downloadMetadata(final URI recipient, final List<URI> resources,
-                                  final List<URI> artifacts, final boolean download,
-                                  final UUID agreementId) throws PersistenceException,
-            MessageResponseException, MessageException, UnexpectedResponseException {
-        metadataDownloader.download(recipient, resources, artifacts, download);
-        updateService.linkArtifactToAgreement(artifacts, agreementId);
+    /**
+     * Returns the progress of the metadata and data download of a contract agreement.
+     *
+     * @param agreementId The id of the agreement.
+     * @return The progress of the download.
+     */
+    @GetMapping("/contract/{id}/progress")
+    @Operation(summary = "Get the progress of the download following a contract negotiation.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Not found")})
+    @ResponseBody
+    public ResponseEntity<Object> getDownloadProgress(
+            @Parameter(description = "The id of the agreement.", required = true)
+            @PathVariable("id") final UUID agreementId) {
+        return downloadService.getProgress(agreementId)
+                .<ResponseEntity<Object>>map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException(agreementId.toString()));
     }
 
-    private ResponseEntity<Object> respondWithCreatedAgreement(final UUID agreementId) {
+    private ResponseEntity<Object> respondWithAgreement(final UUID agreementId,
+                                                        final HttpStatus status) {
         final var entity = agreementAsm.toModel(agreementService.get(agreementId));
 
         final var headers = new HttpHeaders();
         headers.setLocation(entity.getRequiredLink("self").toUri());
         headers.setContentType(MediaType.valueOf(ContentType.HAL));
 
-        return new ResponseEntity<>(entity, headers, HttpStatus.CREATED);
+        return new ResponseEntity<>(entity, headers, status);
     }
 
     @SuppressWarnings("unchecked")
@@ -24,6 +24,7 @@ import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.net.ContentType;
 import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
+import io.dataspaceconnector.common.storage.StoredFileInputStream;
 import io.dataspaceconnector.common.util.ValidationUtils;
 import io.dataspaceconnector.config.BasePath;
 import io.dataspaceconnector.controller.resource.base.BaseResourceNotificationController;
@@ -43,12 +44,16 @@ import io.dataspaceconnector.service.message.SubscriberNotificationService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
@@ -66,7 +71,6 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -85,6 +89,11 @@ import java.util.UUID;
 public class ArtifactController extends BaseResourceNotificationController<Artifact, ArtifactDesc,
         ArtifactView, ArtifactService> {
 
+    /**
+     * Size of the buffer used for streaming data to the client.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     /**
      * The service managing artifacts.
      */
@@ -115,6 +124,7 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
      * source, all headers and query parameters included in this request will be used for the
      * request to the backend.
      * A query parameter is ignored if the same key is already defined in the target accessUrl.
+     * Data held in the local file storage can be requested partially with a single byte range.
      *
      * @param artifactId   Artifact id.
      * @param download     If the data should be forcefully downloaded.
@@ -166,7 +176,7 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
                 : artifactSvc.getData(accessVerifier, dataReceiver, artifactId,
                 new RetrievalInformation(agreementUri, download, queryInput), routeIds);
 
-        return returnData(artifactId, data);
+        return returnData(artifactId, data, request);
     }
 
     /**
@@ -195,32 +205,131 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
         ValidationUtils.validateQueryInput(queryInput);
         final var data =
                 artifactSvc.getData(accessVerifier, dataReceiver, artifactId, queryInput, routeIds);
-        return returnData(artifactId, data);
+        return returnData(artifactId, data, null);
     }
 
     private ResponseEntity<StreamingResponseBody> returnData(
-            final UUID artifactId, final InputStream data) {
-        final StreamingResponseBody body = outputStream -> {
-            final int blockSize = 1024;
-            int numBytesToWrite;
-            var buffer = new byte[blockSize];
-            while ((numBytesToWrite = data.read(buffer, 0, buffer.length)) != -1) {
-                outputStream.write(buffer, 0, numBytesToWrite);
-            }
-
-            data.close();
-        };
-
+            final UUID artifactId, final InputStream data, final HttpServletRequest request)
+            throws IOException {
         final var outputHeader = new HttpHeaders();
         outputHeader.set("Content-Disposition", "attachment;filename=" + artifactId.toString());
 
         final var type = getMediaTypeOfArtifact(artifactId);
+        if (data instanceof StoredFileInputStream file) {
+            return returnFile(file, outputHeader, type, request);
+        }
+
+        final StreamingResponseBody body = outputStream -> {
+            try (data) {
+                final var buffer = new byte[BUFFER_SIZE];
+                int numBytesToWrite;
+                while ((numBytesToWrite = data.read(buffer, 0, buffer.length)) != -1) {
+                    outputStream.write(buffer, 0, numBytesToWrite);
+                }
+            }
+        };
+
         return ResponseEntity.ok()
                 .headers(outputHeader)
                 .contentType(type)
                 .body(body);
     }
 
+    /**
+     * Answer with data held in a file. The length and the entity tag of the data are known
+     * upfront, so single byte ranges (RFC 7233) are served without reading the skipped part.
+     *
+     * @param file         The file holding the data.
+     * @param outputHeader The headers of the response.
+     * @param type         The media type of the data.
+     * @param request      The current http request. Null if ranges should not be served.
+     * @return The response.
+     * @throws IOException if the size of the file cannot be determined.
+     */
+    private ResponseEntity<StreamingResponseBody> returnFile(
+            final StoredFileInputStream file, final HttpHeaders outputHeader,
+            final MediaType type, final HttpServletRequest request) throws IOException {
+        final var length = file.size();
+        final var eTag = "\"" + file.getReference() + "\"";
+        outputHeader.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        outputHeader.setETag(eTag);
+
+        var status = HttpStatus.OK;
+        var start = 0L;
+        var count = length;
+        final var range = getRange(request, eTag);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                count = range.getRangeEnd(length) - start + 1;
+                status = HttpStatus.PARTIAL_CONTENT;
+                outputHeader.set(HttpHeaders.CONTENT_RANGE, String.format("bytes %d-%d/%d",
+                        start, start + count - 1, length));
+            } catch (IllegalArgumentException exception) {
+                file.close();
+                outputHeader.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .headers(outputHeader)
+                        .build();
+            }
+        }
+
+        if (request != null && HttpMethod.HEAD.matches(request.getMethod())) {
+            // Only the headers are answered, so the file does not need to be read.
+            file.close();
+            return ResponseEntity.status(status)
+                    .headers(outputHeader)
+                    .contentType(type)
+                    .contentLength(count)
+                    .build();
+        }
+
+        final var position = start;
+        final var size = count;
+        final StreamingResponseBody body = outputStream -> {
+            try (file) {
+                file.transferTo(position, size, outputStream);
+            }
+        };
+
+        return ResponseEntity.status(status)
+                .headers(outputHeader)
+                .contentType(type)
+                .contentLength(size)
+                .body(body);
+    }
+
+    /**
+     * Get the byte range requested. Requests for multiple ranges, malformed range headers and
+     * ranges whose If-Range condition does not match the entity tag are answered with the
+     * complete data.
+     *
+     * @param request The current http request.
+     * @param eTag    The entity tag of the data.
+     * @return The requested range or null if the complete data should be returned.
+     */
+    private static HttpRange getRange(final HttpServletRequest request, final String eTag) {
+        if (request == null || request.getHeader(HttpHeaders.RANGE) == null) {
+            return null;
+        }
+
+        final var ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return null;
+        }
+
+        try {
+            final var ranges = HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Ignoring invalid range header. [exception=({})]",
+                        exception.getMessage());
+            }
+            return null;
+        }
+    }
+
     private MediaType getMediaTypeOfArtifact(final UUID artifactId) {
         // Get type to set the correct content type.
         // NOTE: Assume that an artifact has only one representation.
@@ -246,20 +355,24 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
     }
 
     /**
-     * Replace the data of an artifact.
+     * Replace the data of an artifact. The request body is streamed to the storage as it
+     * arrives and is never buffered as a whole.
      *
-     * @param artifactId  The artifact whose data should be replaced.
-     * @param inputStream The new data.
+     * @param artifactId The artifact whose data should be replaced.
+     * @param request    The current http request carrying the new data.
      * @return Http Status ok.
      * @throws IOException if the data could not be stored.
      */
     @PutMapping(value = "{id}/data", consumes = ContentType.OCTET_STREAM)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            mediaType = ContentType.OCTET_STREAM,
+            schema = @Schema(type = "string", format = "binary")))
     @ApiResponse(responseCode = ResponseCode.OK, description = ResponseDescription.OK)
     @TelemetrySpan(name = "PUT /api/artifacts/{id}/data")
     public ResponseEntity<Void> putData(
             @Valid @PathVariable(name = "id") final UUID artifactId,
-            @RequestBody final byte[] inputStream) throws IOException {
-        artifactSvc.setData(artifactId, new ByteArrayInputStream(inputStream));
+            final HttpServletRequest request) throws IOException {
+        artifactSvc.replaceData(artifactId, request.getInputStream());
 
         // Notify subscribers on update event.
         subscriberNotificationSvc.notifyOnUpdate(getService().get(artifactId));
@@ -15,34 +15,62 @@
  */
 package io.dataspaceconnector.extension.filter.httptracing;
 
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
- * Handles the processing of HttpTraces.
+ * Handles the processing of HttpTraces. Traces are queued and written by a single background
+ * thread, if the queue is full they are dropped instead of slowing down the requests.
  */
 @Component
 @Log4j2
-@RequiredArgsConstructor
 public class HttpTraceEventHandler {
 
     /**
-     * The global event publisher used for pushing the http traces.
+     * Writes the queued traces. The thread is started with the first trace.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The number of traces dropped because the queue was full.
+     */
+    private final Counter dropped;
+
+    /**
+     * Constructor.
+     *
+     * @param registry The registry for the queue metrics.
+     * @param capacity The maximum number of queued traces.
      */
-    private final @NonNull ApplicationEventPublisher publisher;
+    public HttpTraceEventHandler(
+            final MeterRegistry registry,
+            @Value("${httptrace.queue.capacity:1000}") final int capacity) {
+        this.dropped = Counter.builder("dsc.httptrace.dropped")
+                .description("Http traces dropped because the queue was full.")
+                .register(registry);
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), runnable -> {
+                    final var thread = new Thread(runnable, "http-trace");
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, pool) -> dropped.increment());
+
+        registry.gauge("dsc.httptrace.pending", executor, x -> x.getQueue().size());
+    }
 
     /**
      * Processes raised HttpTraceEvents.
      *
      * @param trace The HttpTrace that needs to be processed
      */
-    @Async
-    @EventListener
     public void handleHttpTraceEvent(final HttpTrace trace) {
         if (log.isInfoEnabled()) {
             log.info("{}", trace);
@@ -50,13 +78,21 @@ public class HttpTraceEventHandler {
     }
 
     /**
-     * Raise an HttpTraceEvent.
+     * Raise an HttpTraceEvent. The trace is processed asynchronously.
      *
      * @param trace The http trace that others should be notified about.
      */
     public void sendHttpTraceEvent(final HttpTrace trace) {
         if (trace != null) {
-            publisher.publishEvent(trace);
+            executor.execute(() -> handleHttpTraceEvent(trace));
         }
     }
+
+    /**
+     * Stops the background thread. Queued traces are discarded.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
 }
@@ -17,76 +17,129 @@ package io.dataspaceconnector.extension.filter.httptracing;
 
 import io.dataspaceconnector.common.util.UUIDUtils;
 import io.dataspaceconnector.extension.filter.httptracing.internal.RequestWrapper;
-import lombok.extern.log4j.Log4j2;
+import io.dataspaceconnector.extension.filter.httptracing.internal.ResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Use this class to log all incoming and outgoing http traffic.
+ * Use this class to log incoming and outgoing http traffic. Only a sample of the requests is
+ * traced, and of their bodies only the first bytes are captured while they pass through. Data
+ * endpoints are not traced at all.
  */
 @Component
 @Order(1)
-@Log4j2
 @ConditionalOnProperty(name = "httptrace.enabled")
 public final class HttpTraceFilter extends OncePerRequestFilter {
-    /**
-     * The trace id.
-     */
-    private transient UUID traceId;
 
     /**
      * The event handler.
      */
     private final transient HttpTraceEventHandler eventHandler;
 
+    /**
+     * The ratio of requests to trace.
+     */
+    private final double sampleRate;
+
+    /**
+     * The maximum number of bytes captured per message body.
+     */
+    private final int bodyLimit;
+
+    /**
+     * The path patterns of requests that are never traced.
+     */
+    private final List<String> excludedPaths;
+
+    /**
+     * Matches the request paths against the excluded patterns.
+     */
+    private final transient AntPathMatcher pathMatcher = new AntPathMatcher();
+
     /**
      * The constructor.
      *
-     * @param handler Responsible for HttpTrace events raised by this class.
+     * @param handler  Responsible for HttpTrace events raised by this class.
+     * @param ratio    The ratio of requests to trace.
+     * @param limit    The maximum number of bytes captured per message body.
+     * @param excluded The path patterns of requests that are never traced.
      */
-    public HttpTraceFilter(final HttpTraceEventHandler handler) {
+    public HttpTraceFilter(
+            final HttpTraceEventHandler handler,
+            @Value("${httptrace.sample-rate:1.0}") final double ratio,
+            @Value("${httptrace.body-limit:1024}") final int limit,
+            @Value("${httptrace.excluded-paths:/api/artifacts/*/data/**}")
+            final List<String> excluded) {
         super();
         this.eventHandler = handler;
+        this.sampleRate = ratio;
+        this.bodyLimit = limit;
+        this.excludedPaths = List.copyOf(excluded);
     }
 
     private static UUID generateUUID() {
         return UUIDUtils.createUUID(uuid -> false);
     }
 
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return true;
+        }
+
+        final var uri = request.getRequestURI();
+        final var contextPath = request.getContextPath();
+        final var path = uri != null && contextPath != null && uri.startsWith(contextPath)
+                ? uri.substring(contextPath.length()) : uri;
+        return path != null && excludedPaths.stream()
+                .anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
     @Override
     protected void doFilterInternal(final HttpServletRequest request,
                                     final HttpServletResponse response,
                                     final FilterChain filterChain)
             throws ServletException, IOException {
-        final var requestWrapper = new RequestWrapper(request);
-        final var responseWrapper = new ContentCachingResponseWrapper(response);
-
-        traceId = generateUUID();
-        beforeRequest(requestWrapper);
+        final var traceId = generateUUID();
+        final var requestTrace = beforeRequest(traceId, request);
+        final var requestWrapper = new RequestWrapper(request, bodyLimit);
+        final var responseWrapper = new ResponseWrapper(response, bodyLimit);
 
         try {
             filterChain.doFilter(requestWrapper, responseWrapper);
         } finally {
-            afterRequest(responseWrapper);
-            responseWrapper.copyBodyToResponse();
+            requestTrace.setBody(requestWrapper.getRequestBodyAsString());
+            eventHandler.sendHttpTraceEvent(requestTrace);
+
+            if (requestWrapper.isAsyncStarted()) {
+                // The response is written by another thread, e.g. for streamed data.
+                requestWrapper.getAsyncContext().addListener(
+                        new ResponseTraceListener(traceId, responseWrapper));
+            } else {
+                afterRequest(traceId, responseWrapper);
+            }
         }
     }
 
-    private void beforeRequest(final RequestWrapper request) {
+    private HttpTrace beforeRequest(final UUID traceId, final HttpServletRequest request) {
         final var trace = new HttpTrace();
         trace.setTraceId(traceId);
         trace.setTimestamp(ZonedDateTime.now(ZoneOffset.UTC));
@@ -96,35 +149,27 @@ public final class HttpTraceFilter extends OncePerRequestFilter {
 
         trace.setHeaders(new HashMap<>());
         final var headerNames = request.getHeaderNames();
-        while (headerNames.hasMoreElements()) {
+        while (headerNames != null && headerNames.hasMoreElements()) {
             final var key = headerNames.nextElement();
             trace.getHeaders().put(key, request.getHeader(key));
         }
 
         trace.setParameterMap(new HashMap<>());
         final var parameterNames = request.getParameterNames();
-        while (parameterNames.hasMoreElements()) {
+        while (parameterNames != null && parameterNames.hasMoreElements()) {
             final var key = parameterNames.nextElement();
-            trace.getParameterMap().put(key, request.getHeader(key));
+            trace.getParameterMap().put(key, request.getParameter(key));
         }
 
-        try {
-            trace.setBody(new String(request.getRequestBody(), request.getCharacterEncoding()));
-        } catch (IOException e) {
-            if (log.isErrorEnabled()) {
-                log.error("Failed to get the request body. [exception=({})]", e.getMessage(), e);
-            }
-        }
-
-        eventHandler.sendHttpTraceEvent(trace);
+        return trace;
     }
 
-    private void afterRequest(final ContentCachingResponseWrapper responseWrapper) {
+    private void afterRequest(final UUID traceId, final ResponseWrapper responseWrapper) {
         final var trace = new HttpTrace();
         trace.setTraceId(traceId);
         trace.setTimestamp(ZonedDateTime.now(ZoneOffset.UTC));
         trace.setStatus(responseWrapper.getStatus());
-        trace.setBody(getResponseAsPayload(responseWrapper));
+        trace.setBody(responseWrapper.getResponseBodyAsString());
 
         trace.setHeaders(new HashMap<>());
         for (final var key : responseWrapper.getHeaderNames()) {
@@ -134,20 +179,49 @@ public final class HttpTraceFilter extends OncePerRequestFilter {
         eventHandler.sendHttpTraceEvent(trace);
     }
 
-    private String getResponseAsPayload(final ContentCachingResponseWrapper wrappedResponse) {
-        var response = "ERROR";
-        if (wrappedResponse.getContentSize() > 0) {
-            try {
-                response = new String(wrappedResponse.getContentAsByteArray(), 0,
-                        wrappedResponse.getContentSize(),
-                        wrappedResponse.getCharacterEncoding());
-            } catch (UnsupportedEncodingException e) {
-                if (log.isErrorEnabled()) {
-                    log.error("Failed to get the response. [exception=({})]", e.getMessage(), e);
-                }
-            }
+    /**
+     * Traces the response of an asynchronously processed request once it is complete.
+     */
+    private final class ResponseTraceListener implements AsyncListener {
+        /**
+         * The trace id of the request.
+         */
+        private final UUID traceId;
+
+        /**
+         * The wrapped response.
+         */
+        private final ResponseWrapper response;
+
+        /**
+         * Constructs a ResponseTraceListener.
+         *
+         * @param id      The trace id of the request.
+         * @param wrapper The wrapped response.
+         */
+        ResponseTraceListener(final UUID id, final ResponseWrapper wrapper) {
+            this.traceId = id;
+            this.response = wrapper;
         }
 
-        return response;
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            afterRequest(traceId, response);
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            // The response is traced on completion.
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            // The response is traced on completion.
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            // Nothing to do here.
+        }
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.extension.filter.httptracing.internal;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Keeps the first bytes of a message body while it is streamed, up to a fixed limit.
+ */
+public final class BodyCapture {
+
+    /**
+     * The maximum number of bytes to keep.
+     */
+    private final int limit;
+
+    /**
+     * The captured bytes, allocated on the first write.
+     */
+    private byte[] buffer;
+
+    /**
+     * The number of captured bytes.
+     */
+    private int count;
+
+    /**
+     * Constructs a BodyCapture.
+     *
+     * @param maxBytes The maximum number of bytes to keep.
+     */
+    public BodyCapture(final int maxBytes) {
+        this.limit = Math.max(0, maxBytes);
+    }
+
+    /**
+     * Captures a single byte, if there is space left.
+     *
+     * @param b The byte.
+     */
+    public void write(final int b) {
+        if (remaining() > 0) {
+            ensureBuffer();
+            buffer[count++] = (byte) b;
+        }
+    }
+
+    /**
+     * Captures as many bytes of a chunk as there is space left.
+     *
+     * @param b   The data.
+     * @param off The start offset in the data.
+     * @param len The number of bytes in the chunk.
+     */
+    public void write(final byte[] b, final int off, final int len) {
+        final var length = Math.min(len, remaining());
+        if (length > 0) {
+            ensureBuffer();
+            System.arraycopy(b, off, buffer, count, length);
+            count += length;
+        }
+    }
+
+    /**
+     * Returns the number of bytes that will still be captured.
+     *
+     * @return The remaining capacity.
+     */
+    public int remaining() {
+        return limit - count;
+    }
+
+    /**
+     * Returns a copy of the captured bytes.
+     *
+     * @return The captured bytes.
+     */
+    public byte[] toByteArray() {
+        return count == 0 ? new byte[0] : Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Decodes the captured bytes.
+     *
+     * @param charset The charset of the body.
+     * @return The captured text, null if nothing was captured.
+     */
+    public String toString(final Charset charset) {
+        return count == 0 ? null : new String(buffer, 0, count, charset);
+    }
+
+    private void ensureBuffer() {
+        if (buffer == null) {
+            buffer = new byte[limit];
+        }
+    }
+}
@@ -15,64 +15,64 @@
  */
 package io.dataspaceconnector.extension.filter.httptracing.internal;
 
-import lombok.extern.log4j.Log4j2;
-import org.springframework.util.StreamUtils;
-
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
-import java.util.Arrays;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
- * Wraps incoming HTTP requests too read the message payload multiple times.
+ * Wraps a {@link HttpServletRequest} and keeps the first bytes of the body while it is read by
+ * the application. The body is neither buffered nor read ahead.
  */
-@Log4j2
 public final class RequestWrapper extends HttpServletRequestWrapper {
 
     /**
-     * The original request body.
+     * The captured start of the request body.
      */
-    private transient byte[] requestBody;
+    private final transient BodyCapture capture;
 
     /**
-     * Whether the original request body has been copied.
+     * The capturing input stream, created on first access.
      */
-    private transient boolean isBufferFilled;
+    private transient ServletInputStream inputStream;
+
+    /**
+     * The reader on top of the capturing input stream, created on first access.
+     */
+    private transient BufferedReader reader;
 
     /**
      * Default constructor.
      *
-     * @param request The request to be wrapped
+     * @param request The request to be wrapped.
+     * @param limit   The maximum number of body bytes to capture.
      */
-    public RequestWrapper(final HttpServletRequest request) {
+    public RequestWrapper(final HttpServletRequest request, final int limit) {
         super(request);
+        this.capture = new BodyCapture(limit);
     }
 
     /**
-     * Get the request body of the message.
+     * Get the part of the request body that has been read so far, up to the capture limit.
      *
-     * @return The request body.
-     * @throws IOException if the request body could not be read.
+     * @return The captured request body.
      */
-    public byte[] getRequestBody() throws IOException {
-        final var output = isBufferFilled ? requestBody : cloneRequestBody();
-        return Arrays.copyOf(output, output.length);
+    public byte[] getRequestBody() {
+        return capture.toByteArray();
     }
 
-    private byte[] cloneRequestBody() throws IOException {
-        final var inputStream = super.getInputStream();
-        if (inputStream != null) {
-            requestBody = StreamUtils.copyToByteArray(inputStream);
-            isBufferFilled = true;
-        }
-
-        return requestBody;
+    /**
+     * Get the part of the request body that has been read so far as text.
+     *
+     * @return The captured request body, null if nothing was read.
+     */
+    public String getRequestBodyAsString() {
+        return capture.toString(getCharset(getCharacterEncoding()));
     }
 
     /**
@@ -83,54 +83,105 @@ public final class RequestWrapper extends HttpServletRequestWrapper {
      */
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        return new CustomServletInputStream(getRequestBody());
+        if (inputStream == null) {
+            inputStream = new CapturingServletInputStream(super.getInputStream(), capture);
+        }
+
+        return inputStream;
     }
 
     @Override
-    public BufferedReader getReader() throws UnsupportedEncodingException {
-        final var bais = new ByteArrayInputStream(this.requestBody);
-        return new BufferedReader(new InputStreamReader(bais, this.getCharacterEncoding()));
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(),
+                    getCharset(getCharacterEncoding())));
+        }
+
+        return reader;
     }
 
     /**
-     * Custom input stream returning a clone of the original request.
+     * Resolves the charset of a message, falling back to the servlet default ISO-8859-1.
+     *
+     * @param encoding The character encoding of the message.
+     * @return The charset.
      */
-    private static class CustomServletInputStream extends ServletInputStream {
+    static Charset getCharset(final String encoding) {
+        try {
+            return encoding == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.ISO_8859_1;
+        }
+    }
+
+    /**
+     * Input stream passing the request body through and capturing its start.
+     */
+    private static final class CapturingServletInputStream extends ServletInputStream {
+        /**
+         * The original input stream.
+         */
+        private final ServletInputStream delegate;
+
         /**
-         * Copy of the input stream.
+         * The capture of the body start.
          */
-        private final transient ByteArrayInputStream buffer;
+        private final BodyCapture capture;
 
         /**
          * Default constructor.
          *
-         * @param contents The request body.
+         * @param original The original input stream.
+         * @param start    The capture of the body start.
          */
-        /* default */ CustomServletInputStream(final byte[] contents) {
+        /* default */ CapturingServletInputStream(final ServletInputStream original,
+                                                  final BodyCapture start) {
             super();
-            buffer = new ByteArrayInputStream(contents);
+            this.delegate = original;
+            this.capture = start;
         }
 
         @Override
-        public int read() {
-            return buffer.read();
+        public int read() throws IOException {
+            final var b = delegate.read();
+            if (b != -1) {
+                capture.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var n = delegate.read(b, off, len);
+            if (n > 0) {
+                capture.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return delegate.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
         }
 
         @Override
         public boolean isFinished() {
-            return buffer.available() == 0;
+            return delegate.isFinished();
         }
 
         @Override
         public boolean isReady() {
-            return true;
+            return delegate.isReady();
         }
 
         @Override
         public void setReadListener(final ReadListener listener) {
-            if (log.isErrorEnabled()) {
-                log.error("Tried to set read listener.");
-            }
+            delegate.setReadListener(listener);
         }
     }
 }
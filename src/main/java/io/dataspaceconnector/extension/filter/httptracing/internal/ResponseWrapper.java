@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.extension.filter.httptracing.internal;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Wraps a {@link HttpServletResponse} and keeps the first bytes of the body while it is written
+ * by the application. Unlike a content caching wrapper, the body goes straight to the client, so
+ * streamed responses are not held back.
+ */
+public final class ResponseWrapper extends HttpServletResponseWrapper {
+
+    /**
+     * The captured start of the response body.
+     */
+    private final transient BodyCapture capture;
+
+    /**
+     * The capturing output stream, created on first access.
+     */
+    private transient ServletOutputStream outputStream;
+
+    /**
+     * The capturing writer, created on first access.
+     */
+    private transient PrintWriter writer;
+
+    /**
+     * Default constructor.
+     *
+     * @param response The response to be wrapped.
+     * @param limit    The maximum number of body bytes to capture.
+     */
+    public ResponseWrapper(final HttpServletResponse response, final int limit) {
+        super(response);
+        this.capture = new BodyCapture(limit);
+    }
+
+    /**
+     * Get the part of the response body that has been written so far as text, up to the capture
+     * limit.
+     *
+     * @return The captured response body, null if nothing was written.
+     */
+    public String getResponseBodyAsString() {
+        return capture.toString(RequestWrapper.getCharset(getCharacterEncoding()));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingServletOutputStream(super.getOutputStream(), capture);
+        }
+
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            // PrintWriter does not buffer, everything is passed on to the original writer.
+            writer = new PrintWriter(new CapturingWriter(super.getWriter(), capture,
+                    RequestWrapper.getCharset(getCharacterEncoding())));
+        }
+
+        return writer;
+    }
+
+    /**
+     * Output stream passing the response body through and capturing its start.
+     */
+    private static final class CapturingServletOutputStream extends ServletOutputStream {
+        /**
+         * The original output stream.
+         */
+        private final ServletOutputStream delegate;
+
+        /**
+         * The capture of the body start.
+         */
+        private final BodyCapture capture;
+
+        /**
+         * Default constructor.
+         *
+         * @param original The original output stream.
+         * @param start    The capture of the body start.
+         */
+        /* default */ CapturingServletOutputStream(final ServletOutputStream original,
+                                                   final BodyCapture start) {
+            super();
+            this.delegate = original;
+            this.capture = start;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            delegate.write(b, off, len);
+            capture.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+
+    /**
+     * Writer passing the response body through and capturing its start.
+     */
+    private static final class CapturingWriter extends Writer {
+        /**
+         * The original writer.
+         */
+        private final Writer delegate;
+
+        /**
+         * The capture of the body start.
+         */
+        private final BodyCapture capture;
+
+        /**
+         * The charset the captured characters are encoded with.
+         */
+        private final Charset charset;
+
+        /**
+         * Default constructor.
+         *
+         * @param original The original writer.
+         * @param start    The capture of the body start.
+         * @param encoding The charset of the response.
+         */
+        /* default */ CapturingWriter(final Writer original, final BodyCapture start,
+                                      final Charset encoding) {
+            super();
+            this.delegate = original;
+            this.capture = start;
+            this.charset = encoding;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            delegate.write(cbuf, off, len);
+
+            final var remaining = capture.remaining();
+            if (remaining > 0) {
+                // A character takes at least one byte, so this covers the remaining capacity.
+                final var bytes = new String(cbuf, off, Math.min(len, remaining))
+                        .getBytes(charset);
+                capture.write(bytes, 0, bytes.length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
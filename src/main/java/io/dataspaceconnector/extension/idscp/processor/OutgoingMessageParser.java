@@ -19,9 +19,11 @@ import ids.messaging.response.ErrorResponse;
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.extension.idscp.processor.base.Idscp2MappingProcessor;
 import io.dataspaceconnector.service.message.handler.dto.Response;
+import io.dataspaceconnector.service.message.handler.dto.StreamResponse;
 import org.apache.camel.Message;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -33,15 +35,24 @@ public class OutgoingMessageParser extends Idscp2MappingProcessor {
     /**
      * Creates an IDSCPv2 message with header and payload from a {@link Response}.
      *
+     * IDSCPv2 transfers a message as a whole, so a streamed payload is read completely.
+     *
      * @param in the in-message of the exchange.
+     * @throws IOException if a streamed payload cannot be read.
      */
     @Override
-    protected void processInternal(final Message in) {
+    protected void processInternal(final Message in) throws IOException {
         final var response = in.getBody(Response.class);
+        final var streamResponse = in.getBody(StreamResponse.class);
 
         if (response != null) {
             in.setHeader(ParameterUtils.IDSCP_HEADER, response.getHeader());
             in.setBody(response.getBody().getBytes(StandardCharsets.UTF_8));
+        } else if (streamResponse != null) {
+            in.setHeader(ParameterUtils.IDSCP_HEADER, streamResponse.getHeader());
+            try (var payload = streamResponse.getBody()) {
+                in.setBody(payload.readAllBytes());
+            }
         } else {
             final var rejection = in.getBody(ErrorResponse.class);
             in.setHeader(ParameterUtils.IDSCP_HEADER, rejection.getRejectionMessage());
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.extension.monitoring;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures the time taken to validate DATs. The validation of incoming multipart messages
+ * happens inside the messaging services, so the validator bean is timed instead of its callers.
+ * Validations answered from the verified DAT cache are included.
+ */
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class DatValidationMetrics {
+
+    /**
+     * The registry for the validation metrics.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The validation timers, by validator method and outcome.
+     */
+    private final Map<String, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Records the duration of every call to the DAPS validator, by method and outcome.
+     *
+     * @param joinPoint The validator call.
+     * @return The result of the validator.
+     * @throws Throwable If the validation fails.
+     */
+    @Around("execution(* ids.messaging.core.daps.DapsValidator.*(..))")
+    @SuppressFBWarnings("THROWS_METHOD_THROWS_CLAUSE_THROWABLE")
+    public Object time(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var sample = Timer.start(meterRegistry);
+        var outcome = "error";
+        try {
+            final var result = joinPoint.proceed();
+            outcome = Boolean.FALSE.equals(result) ? "invalid" : "valid";
+            return result;
+        } finally {
+            sample.stop(timers.computeIfAbsent(joinPoint.getSignature().getName(),
+                    this::registerTimers).get(outcome));
+        }
+    }
+
+    /**
+     * Registers the timers of a validator method for all outcomes.
+     *
+     * @param method The name of the validator method.
+     * @return The timers, by outcome.
+     */
+    private Map<String, Timer> registerTimers(final String method) {
+        return Map.of(
+                "valid", validationTimer(method, "valid"),
+                "invalid", validationTimer(method, "invalid"),
+                "error", validationTimer(method, "error"));
+    }
+
+    private Timer validationTimer(final String method, final String outcome) {
+        return Timer.builder("dsc.ids.dat.validation")
+                .description("Time taken to validate DATs")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -19,11 +19,14 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.exporter.jaeger.JaegerGrpcSpanExporter;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
-import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.semconv.resource.attributes.ResourceAttributes;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
@@ -33,7 +36,10 @@ import org.springframework.context.annotation.Configuration;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Initializes and builds an OpenTelemetry SDK with a Jaeger exporter.
+ * Initializes and builds an OpenTelemetry SDK with a Jaeger exporter. Spans are sampled by trace
+ * id ratio, optionally honouring the sampling decision of a remote parent, and exported in
+ * batches. Without an exporter, spans are not recorded at all, but the trace context is still
+ * propagated.
  */
 @Configuration
 public class CustomOpenTelemetry {
@@ -51,31 +57,57 @@ public class CustomOpenTelemetry {
     /**
      * CustomOpenTelemetry constructor, initializes the {@link Tracer}.
      * @param jeagerEndpoint The Jeager endpoint.
+     * @param ratio          The ratio of traces to sample.
+     * @param parentBased    Whether the sampling decision of a parent span is respected.
      */
     @SuppressFBWarnings("ST_WRITE_TO_STATIC_FROM_INSTANCE_METHOD")
     public CustomOpenTelemetry(
-            @Value("${opentelemetry.jaeger.endpoint:}") final String jeagerEndpoint) {
-        final var openTelemetry = initOpenTelemetry(jeagerEndpoint);
+            @Value("${opentelemetry.jaeger.endpoint:}") final String jeagerEndpoint,
+            @Value("${opentelemetry.sampler.ratio:1.0}") final double ratio,
+            @Value("${opentelemetry.sampler.parent-based:true}") final boolean parentBased) {
+        final var openTelemetry = initOpenTelemetry(jeagerEndpoint,
+                getSampler(jeagerEndpoint, ratio, parentBased));
         tracer = openTelemetry.getTracer("io.dataspaceconnector.extension.telemetry.OpenTelemetry");
     }
 
+    /**
+     * Builds the sampler. Nothing is sampled if there is no exporter the spans could be sent to.
+     *
+     * @param jeagerEndpoint The Jeager endpoint.
+     * @param ratio          The ratio of traces to sample.
+     * @param parentBased    Whether the sampling decision of a parent span is respected.
+     * @return The sampler.
+     */
+    private static Sampler getSampler(final String jeagerEndpoint, final double ratio,
+                                      final boolean parentBased) {
+        if (jeagerEndpoint.isBlank()) {
+            return Sampler.alwaysOff();
+        }
+
+        final var root = Sampler.traceIdRatioBased(ratio);
+        return parentBased ? Sampler.parentBased(root) : root;
+    }
+
     /**
      * Initialize an OpenTelemetry SDK with a Jaeger exporter.
      *
      * @param jeagerEndpoint The Jeager endpoint.
+     * @param sampler        The sampler deciding which traces are recorded.
      * @return A ready-to-use {@link OpenTelemetry} instance.
      */
-    private OpenTelemetry initOpenTelemetry(final String jeagerEndpoint) {
+    private OpenTelemetry initOpenTelemetry(final String jeagerEndpoint, final Sampler sampler) {
         SdkTracerProvider tracerProvider;
 
         if (jeagerEndpoint.isBlank()) {
-            tracerProvider = SdkTracerProvider.builder().build();
+            tracerProvider = SdkTracerProvider.builder().setSampler(sampler).build();
         } else {
-            tracerProvider = getTracerProvider(jeagerEndpoint);
+            tracerProvider = getTracerProvider(jeagerEndpoint, sampler);
         }
 
-        final var openTelemetry =
-                OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+        final var openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider)
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
 
         Runtime.getRuntime().addShutdownHook(new Thread(tracerProvider::close));
 
@@ -83,7 +115,8 @@ public class CustomOpenTelemetry {
     }
 
     @NotNull
-    private SdkTracerProvider getTracerProvider(final String jeagerEndpoint) {
+    private SdkTracerProvider getTracerProvider(final String jeagerEndpoint,
+                                                final Sampler sampler) {
         SdkTracerProvider tracerProvider;
         final var serviceNameResource =
                 Resource.create(
@@ -95,7 +128,8 @@ public class CustomOpenTelemetry {
                             .build();
 
         tracerProvider = SdkTracerProvider.builder()
-                            .addSpanProcessor(SimpleSpanProcessor.create(jaegerExporter))
+                            .addSpanProcessor(BatchSpanProcessor.builder(jaegerExporter).build())
+                            .setSampler(sampler)
                             .setResource(Resource.getDefault().merge(serviceNameResource))
                             .build();
 
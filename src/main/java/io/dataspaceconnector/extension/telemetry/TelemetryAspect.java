@@ -16,18 +16,28 @@
 package io.dataspaceconnector.extension.telemetry;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.opentelemetry.api.trace.StatusCode;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Logic of the AOP aspect for OpenTelemetry.
  */
 @Aspect
 @Component
 public class TelemetryAspect {
+    /**
+     * The span names of the annotated methods.
+     */
+    private final Map<Method, String> spanNames = new ConcurrentHashMap<>();
+
     /**
      * Defines the logic of the aspect annotation.
      *
@@ -38,26 +48,38 @@ public class TelemetryAspect {
     @Around("@annotation(TelemetrySpan)")
     @SuppressFBWarnings("THROWS_METHOD_THROWS_CLAUSE_THROWABLE")
     public Object addSpan(final ProceedingJoinPoint joinPoint) throws Throwable {
-        //Get context information of annotated method.
-        final var signature = (MethodSignature) joinPoint.getSignature();
-        final var method = signature.getMethod();
-        final var telemetrySpan = method.getAnnotation(TelemetrySpan.class);
-
-        //Span name: Either the name-parameter specified by the user or
-        //automatically the class name + method name.
-        final var spanName = telemetrySpan.name().isBlank()
-                ? signature.getDeclaringTypeName().substring(
-                        signature.getDeclaringTypeName()
-                                .lastIndexOf('.') + 1).trim() + "." + method.getName()
-                : telemetrySpan.name();
+        final var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final var spanName = spanNames.computeIfAbsent(method, TelemetryAspect::getSpanName);
 
+        //Create span for annotated method, continuing the trace of the caller if there is one.
+        final var span = CustomOpenTelemetry.getTracer().spanBuilder(spanName)
+                .setParent(TracePropagation.getParentContext())
+                .startSpan();
+        try (var scope = span.makeCurrent()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
 
-        //Create span for annotated method
-        final var span = CustomOpenTelemetry.getTracer().spanBuilder(spanName).startSpan();
-        span.makeCurrent();
-        final var proceeded = joinPoint.proceed();
-        span.end();
+    /**
+     * Span name: Either the name-parameter specified by the user or automatically the class
+     * name + method name.
+     *
+     * @param method The annotated method.
+     * @return The span name.
+     */
+    private static String getSpanName(final Method method) {
+        final var name = method.getAnnotation(TelemetrySpan.class).name();
+        if (!name.isBlank()) {
+            return name;
+        }
 
-        return proceeded;
+        final var typeName = method.getDeclaringClass().getName();
+        return typeName.substring(typeName.lastIndexOf('.') + 1).trim() + "." + method.getName();
     }
 }
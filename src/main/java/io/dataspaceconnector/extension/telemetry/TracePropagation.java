@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.telemetry;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Propagates the W3C trace context between threads and across process boundaries.
+ */
+public final class TracePropagation {
+
+    /**
+     * The header carrying the trace and parent span id.
+     */
+    private static final String TRACE_PARENT = "traceparent";
+
+    /**
+     * Reads the trace context from an incoming http request.
+     */
+    private static final TextMapGetter<HttpServletRequest> REQUEST_GETTER =
+            new TextMapGetter<>() {
+                @Override
+                public Iterable<String> keys(final HttpServletRequest carrier) {
+                    return Collections.list(carrier.getHeaderNames());
+                }
+
+                @Override
+                public String get(final HttpServletRequest carrier, final String key) {
+                    return carrier == null ? null : carrier.getHeader(key);
+                }
+            };
+
+    /**
+     * Reads the trace context from message headers, e.g. of a Camel exchange.
+     */
+    private static final TextMapGetter<Map<String, Object>> HEADER_GETTER =
+            new TextMapGetter<>() {
+                @Override
+                public Iterable<String> keys(final Map<String, Object> carrier) {
+                    return carrier.keySet();
+                }
+
+                @Override
+                public String get(final Map<String, Object> carrier, final String key) {
+                    if (carrier == null) {
+                        return null;
+                    }
+
+                    final var value = carrier.get(key);
+                    return value == null ? null : value.toString();
+                }
+            };
+
+    /**
+     * Default constructor.
+     */
+    private TracePropagation() {
+        // This constructor is intentionally empty. Nothing to do here.
+    }
+
+    /**
+     * Returns the context new spans should be children of. This is the current context if it
+     * holds a span, else the context propagated by the http request handled by this thread.
+     *
+     * @return The parent context.
+     */
+    public static Context getParentContext() {
+        final var current = Context.current();
+        if (Span.fromContext(current).getSpanContext().isValid()) {
+            return current;
+        }
+
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            final var request = ((ServletRequestAttributes) attributes).getRequest();
+            return W3CTraceContextPropagator.getInstance()
+                    .extract(current, request, REQUEST_GETTER);
+        }
+
+        return current;
+    }
+
+    /**
+     * Extracts the trace context from message headers.
+     *
+     * @param headers The headers.
+     * @return The context, the current one if the headers hold no trace context.
+     */
+    public static Context extract(final Map<String, Object> headers) {
+        return W3CTraceContextPropagator.getInstance()
+                .extract(Context.current(), headers, HEADER_GETTER);
+    }
+
+    /**
+     * Returns the headers propagating the current trace context.
+     *
+     * @return The headers, empty if there is no active span.
+     */
+    public static Map<String, String> getHeaders() {
+        if (!Span.current().getSpanContext().isValid()) {
+            return Map.of();
+        }
+
+        final var headers = new HashMap<String, String>();
+        W3CTraceContextPropagator.getInstance()
+                .inject(Context.current(), headers, Map::put);
+        return headers;
+    }
+
+    /**
+     * Checks whether the headers already hold a trace context.
+     *
+     * @param headers The headers.
+     * @return True if a trace context is present.
+     */
+    public static boolean hasTraceContext(final Map<String, Object> headers) {
+        return headers.containsKey(TRACE_PARENT);
+    }
+}
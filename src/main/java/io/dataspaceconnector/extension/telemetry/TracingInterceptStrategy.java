@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020-2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.telemetry;
+
+import io.opentelemetry.api.trace.Span;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propagates the trace context through Camel routes. The context of the thread sending an
+ * exchange is stored in the exchange's headers, from where it is restored for processors
+ * running on other threads. As the headers are kept, http endpoints of a route pass the trace
+ * context on to the backend.
+ */
+@Component
+public class TracingInterceptStrategy implements InterceptStrategy {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Processor wrapProcessorInInterceptors(final CamelContext context,
+                                                 final NamedNode definition,
+                                                 final Processor target,
+                                                 final Processor nextTarget) {
+        return new TracingProcessor(target);
+    }
+
+    /**
+     * Makes the trace context of an exchange current while its processor runs.
+     */
+    private static final class TracingProcessor extends DelegateAsyncProcessor {
+
+        /**
+         * Constructs a TracingProcessor.
+         *
+         * @param processor The processor to wrap.
+         */
+        TracingProcessor(final Processor processor) {
+            super(processor);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean process(final Exchange exchange, final AsyncCallback callback) {
+            final var headers = exchange.getIn().getHeaders();
+            if (Span.current().getSpanContext().isValid()) {
+                // Keep the context for processors running on other threads.
+                if (!TracePropagation.hasTraceContext(headers)) {
+                    headers.putAll(TracePropagation.getHeaders());
+                }
+                return super.process(exchange, callback);
+            }
+
+            if (!TracePropagation.hasTraceContext(headers)) {
+                return super.process(exchange, callback);
+            }
+
+            try (var scope = TracePropagation.extract(headers).makeCurrent()) {
+                return super.process(exchange, callback);
+            }
+        }
+    }
+}
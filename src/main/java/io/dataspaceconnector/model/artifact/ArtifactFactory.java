@@ -126,6 +126,9 @@ public final class ArtifactFactory extends AbstractNamedFactory<Artifact, Artifa
         if (currentData instanceof LocalData localData) {
             if (!Arrays.equals(localData.getValue(), newData)) {
                 localData.setValue(newData);
+                localData.setReference(null);
+                localData.setSize(null);
+                localData.setChecksum(null);
                 setLocalArtifactData(artifact, localData);
 
                 isUpdated = true;
@@ -197,6 +200,25 @@ public final class ArtifactFactory extends AbstractNamedFactory<Artifact, Artifa
         return false;
     }
 
+    /**
+     * Update the byte size and checksum of an artifact with values that have already been
+     * calculated. This will not update the actual data.
+     *
+     * @param artifact The artifact which byte size and checksum should be updated.
+     * @param byteSize The size of the data.
+     * @param checkSum The checksum of the data.
+     * @return true if the artifact has been modified.
+     */
+    public boolean updateByteSize(final Artifact artifact, final long byteSize,
+                                  final long checkSum) {
+        if (artifact.getCheckSum() != checkSum || artifact.getByteSize() != byteSize) {
+            setByteSizeAndCheckSum(artifact, byteSize, checkSum);
+            return true;
+        }
+
+        return false;
+    }
+
     private void setByteSizeAndCheckSum(
             final Artifact artifact,
             final long byteSize,
@@ -21,6 +21,7 @@ package io.dataspaceconnector.model.artifact;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.SQLDelete;
@@ -31,7 +32,8 @@ import javax.persistence.Entity;
 import javax.persistence.Lob;
 
 /**
- * Simple wrapper for data stored in the internal database.
+ * Simple wrapper for data stored by the connector itself. The data is either held in the internal
+ * database or, if a reference is set, in the local data store.
  */
 @Entity
 @SQLDelete(sql = "UPDATE data SET deleted=true WHERE id=?")
@@ -53,6 +55,28 @@ public class LocalData extends Data {
     @Column(name = "localdata_value", columnDefinition = "TEXT")
     private byte[] value;
 
+    /**
+     * The reference of the data in the local data store. Null if the data is stored in the
+     * internal database.
+     */
+    @Getter
+    @Column(name = "localdata_reference")
+    private String reference;
+
+    /**
+     * The size of the data in bytes.
+     */
+    @Getter
+    @Column(name = "localdata_size")
+    private Long size;
+
+    /**
+     * The CRC32C checksum of the data.
+     */
+    @Getter
+    @Column(name = "localdata_checksum")
+    private Long checksum;
+
     /**
      * Get the data.
      *
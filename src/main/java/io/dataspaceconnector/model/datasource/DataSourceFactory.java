@@ -31,6 +31,36 @@ import io.dataspaceconnector.model.util.FactoryUtils;
  */
 public class DataSourceFactory extends AbstractFactory<DataSource, DataSourceDesc> {
 
+    /**
+     * The default maximum number of pooled connections.
+     */
+    public static final int DEFAULT_MAXIMUM_POOL_SIZE = 10;
+
+    /**
+     * The default minimum number of idle connections.
+     */
+    public static final int DEFAULT_MINIMUM_IDLE = 1;
+
+    /**
+     * The default time in milliseconds to wait for a pooled connection.
+     */
+    public static final long DEFAULT_CONNECTION_TIMEOUT = 30_000L;
+
+    /**
+     * The default time in milliseconds after which idle connections are closed.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT = 600_000L;
+
+    /**
+     * The default maximum lifetime of a pooled connection in milliseconds.
+     */
+    public static final long DEFAULT_MAX_LIFETIME = 1_800_000L;
+
+    /**
+     * The default connection validation query.
+     */
+    public static final String DEFAULT_VALIDATION_QUERY = "";
+
     /**
      * @param desc The description of the entity.
      * @return The new data source entity.
@@ -129,8 +159,10 @@ public class DataSourceFactory extends AbstractFactory<DataSource, DataSourceDes
                     databaseDataSourceDesc.getUrl());
             final var updatedDriver = updateDriverClass(databaseDataSource,
                     databaseDataSourceDesc.getDriverClassName());
+            final var updatedPool = updatePoolSettings(databaseDataSource,
+                    databaseDataSourceDesc);
 
-            return updatedUrl || updatedDriver;
+            return updatedUrl || updatedDriver || updatedPool;
         }
 
         return false;
@@ -179,4 +211,59 @@ public class DataSourceFactory extends AbstractFactory<DataSource, DataSourceDes
 
         return false;
     }
+
+    /**
+     * Updates the connection pool settings.
+     *
+     * @param dataSource The entity to be updated.
+     * @param desc       The updated description.
+     * @return whether the entity has been updated.
+     * @throws InvalidEntityException if a setting is out of range.
+     */
+    private boolean updatePoolSettings(final DatabaseDataSource dataSource,
+                                       final DatabaseDataSourceDesc desc) {
+        final var poolSize = FactoryUtils.updateNumber(dataSource.getMaximumPoolSize(),
+                desc.getMaximumPoolSize(), DEFAULT_MAXIMUM_POOL_SIZE);
+        poolSize.ifPresent(dataSource::setMaximumPoolSize);
+
+        final var minimumIdle = FactoryUtils.updateNumber(dataSource.getMinimumIdle(),
+                desc.getMinimumIdle(), DEFAULT_MINIMUM_IDLE);
+        minimumIdle.ifPresent(dataSource::setMinimumIdle);
+
+        final var connectionTimeout = FactoryUtils.updateNumber(
+                dataSource.getConnectionTimeout(), desc.getConnectionTimeout(),
+                DEFAULT_CONNECTION_TIMEOUT);
+        connectionTimeout.ifPresent(dataSource::setConnectionTimeout);
+
+        final var idleTimeout = FactoryUtils.updateNumber(dataSource.getIdleTimeout(),
+                desc.getIdleTimeout(), DEFAULT_IDLE_TIMEOUT);
+        idleTimeout.ifPresent(dataSource::setIdleTimeout);
+
+        final var maxLifetime = FactoryUtils.updateNumber(dataSource.getMaxLifetime(),
+                desc.getMaxLifetime(), DEFAULT_MAX_LIFETIME);
+        maxLifetime.ifPresent(dataSource::setMaxLifetime);
+
+        final var validationQuery = FactoryUtils.updateString(dataSource.getValidationQuery(),
+                desc.getValidationQuery(), DEFAULT_VALIDATION_QUERY);
+        validationQuery.ifPresent(dataSource::setValidationQuery);
+
+        if (dataSource.getMaximumPoolSize() < 1) {
+            throw new InvalidEntityException("Database datasource must allow at least one "
+                    + "connection.");
+        }
+        if (dataSource.getMinimumIdle() < 0
+                || dataSource.getMinimumIdle() > dataSource.getMaximumPoolSize()) {
+            throw new InvalidEntityException("Minimum idle connections must be between 0 and "
+                    + "the maximum pool size.");
+        }
+        if (dataSource.getConnectionTimeout() < 0 || dataSource.getIdleTimeout() < 0
+                || dataSource.getMaxLifetime() < 0) {
+            throw new InvalidEntityException("Database datasource timeouts must not be "
+                    + "negative.");
+        }
+
+        return poolSize.isPresent() || minimumIdle.isPresent() || connectionTimeout.isPresent()
+                || idleTimeout.isPresent() || maxLifetime.isPresent()
+                || validationQuery.isPresent();
+    }
 }
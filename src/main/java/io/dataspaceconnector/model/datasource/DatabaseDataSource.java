@@ -57,4 +57,34 @@ public class DatabaseDataSource extends DataSource {
      */
     private String driverClassName;
 
+    /**
+     * Maximum number of pooled connections to the database.
+     */
+    private Integer maximumPoolSize;
+
+    /**
+     * Minimum number of idle connections kept in the pool.
+     */
+    private Integer minimumIdle;
+
+    /**
+     * Maximum time in milliseconds to wait for a connection from the pool.
+     */
+    private Long connectionTimeout;
+
+    /**
+     * Time in milliseconds after which an idle connection is closed.
+     */
+    private Long idleTimeout;
+
+    /**
+     * Maximum lifetime of a pooled connection in milliseconds.
+     */
+    private Long maxLifetime;
+
+    /**
+     * Query for validating connections. If empty, the JDBC driver's validation is used.
+     */
+    private String validationQuery;
+
 }
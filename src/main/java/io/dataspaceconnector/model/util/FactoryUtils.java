@@ -71,6 +71,26 @@ public final class FactoryUtils {
         return oldInt;
     }
 
+    /**
+     * Update number.
+     *
+     * @param oldNumber     Old value.
+     * @param newNumber     New value.
+     * @param defaultNumber Default value.
+     * @param <T>           The type of the number.
+     * @return Optional with the new value or without a value.
+     */
+    public static <T extends Number> Optional<T> updateNumber(final T oldNumber,
+                                                              final T newNumber,
+                                                              final T defaultNumber) {
+        final var newValue = newNumber == null ? defaultNumber : newNumber;
+        if (oldNumber == null || !oldNumber.equals(newValue)) {
+            return Optional.of(newValue);
+        }
+
+        return Optional.empty();
+    }
+
     /**
      * Update boolean.
      *
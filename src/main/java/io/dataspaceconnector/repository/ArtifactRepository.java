@@ -16,6 +16,8 @@
 package io.dataspaceconnector.repository;
 
 import io.dataspaceconnector.model.artifact.Artifact;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -23,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -92,6 +95,49 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "AND a.deleted = false")
     void setArtifactData(UUID artifactId, long checkSum, long size);
 
+    /**
+     * Increments the access counter of an artifact, unless the counter has already reached the
+     * given limit. Checking and incrementing the counter is done in a single statement.
+     *
+     * @param artifactId The artifact.
+     * @param limit      The maximum number of accesses.
+     * @return The number of updated artifacts, 0 if the limit has been reached.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artifact a "
+            + "SET a.numAccessed = a.numAccessed + 1 "
+            + "WHERE a.id = :artifactId "
+            + "AND a.numAccessed < :limit "
+            + "AND a.deleted = false")
+    int incrementAccessCounter(UUID artifactId, long limit);
+
+    /**
+     * Decrements the access counter of an artifact, e.g. if the counted access failed.
+     *
+     * @param artifactId The artifact.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artifact a "
+            + "SET a.numAccessed = a.numAccessed - 1 "
+            + "WHERE a.id = :artifactId "
+            + "AND a.numAccessed > 0 "
+            + "AND a.deleted = false")
+    void decrementAccessCounter(UUID artifactId);
+
+    /**
+     * Get the access counter of an artifact without loading the artifact.
+     *
+     * @param artifactId The artifact.
+     * @return The access counter, if the artifact exists.
+     */
+    @Query("SELECT a.numAccessed "
+            + "FROM Artifact a "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false")
+    Optional<Long> findNumAccessed(UUID artifactId);
+
     /**
      * Finds all artifacts with a specific bootstrap ID.
      *
@@ -103,4 +149,19 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "WHERE a.bootstrapId = :bootstrapId "
             + "AND a.deleted = false")
     List<Artifact> findAllByBootstrapId(URI bootstrapId);
+
+    /**
+     * Finds a page of the artifacts of a specific representation.
+     *
+     * @param representationId The representation's id.
+     * @param pageable         The range selection.
+     * @return The page of artifacts of the representation.
+     */
+    @Query("SELECT a "
+            + "FROM Representation r INNER JOIN r.artifacts a "
+            + "WHERE r.id = :representationId "
+            + "AND r.deleted = false "
+            + "AND a.deleted = false "
+            + "ORDER BY a.creationDate, a.id")
+    Page<Artifact> findAllByRepresentation(UUID representationId, Pageable pageable);
 }
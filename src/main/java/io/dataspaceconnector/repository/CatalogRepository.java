@@ -16,11 +16,47 @@
 package io.dataspaceconnector.repository;
 
 import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.resource.RequestedResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 /**
  * The repository containing all objects of type {@link Catalog}.
  */
 @Repository
 public interface CatalogRepository extends BaseEntityRepository<Catalog> {
+    /**
+     * Finds a page of the offered resources of a specific catalog.
+     *
+     * @param catalogId The catalog's id.
+     * @param pageable  The range selection.
+     * @return The page of offered resources in the catalog.
+     */
+    @Query("SELECT o "
+            + "FROM Catalog c INNER JOIN c.offeredResources o "
+            + "WHERE c.id = :catalogId "
+            + "AND c.deleted = false "
+            + "AND o.deleted = false "
+            + "ORDER BY o.creationDate, o.id")
+    Page<OfferedResource> findOfferedResources(UUID catalogId, Pageable pageable);
+
+    /**
+     * Finds a page of the requested resources of a specific catalog.
+     *
+     * @param catalogId The catalog's id.
+     * @param pageable  The range selection.
+     * @return The page of requested resources in the catalog.
+     */
+    @Query("SELECT r "
+            + "FROM Catalog c INNER JOIN c.requestedResources r "
+            + "WHERE c.id = :catalogId "
+            + "AND c.deleted = false "
+            + "AND r.deleted = false "
+            + "ORDER BY r.creationDate, r.id")
+    Page<RequestedResource> findRequestedResources(UUID catalogId, Pageable pageable);
 }
@@ -16,6 +16,8 @@
 package io.dataspaceconnector.repository;
 
 import io.dataspaceconnector.model.contract.Contract;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -44,4 +46,19 @@ public interface ContractRepository extends BaseEntityRepository<Contract> {
             + "AND r.deleted = false "
             + "AND a.deleted = false")
     List<Contract> findAllByArtifactId(UUID artifactId);
+
+    /**
+     * Finds a page of the contracts of a specific resource.
+     *
+     * @param resourceId The resource's id.
+     * @param pageable   The range selection.
+     * @return The page of contracts of the resource.
+     */
+    @Query("SELECT c "
+            + "FROM Resource o INNER JOIN o.contracts c "
+            + "WHERE o.id = :resourceId "
+            + "AND o.deleted = false "
+            + "AND c.deleted = false "
+            + "ORDER BY c.creationDate, c.id")
+    Page<Contract> findAllByResource(UUID resourceId, Pageable pageable);
 }
@@ -36,10 +36,39 @@ public interface DataRepository extends JpaRepository<Data, Long> {
     @Transactional
     @Modifying
     @Query("UPDATE LocalData a "
-            + "SET a.value = :data "
+            + "SET a.value = :data, a.reference = null, a.size = null, a.checksum = null "
             + "WHERE a.id = :entityId")
     void setLocalData(Long entityId, byte[] data);
 
+    /**
+     * Set a reference to data held by the local data store for an entity. This removes the data
+     * stored in the database.
+     *
+     * @param entityId  The entity id.
+     * @param reference The reference in the local data store.
+     * @param size      The size of the data.
+     * @param checksum  The checksum of the data.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE LocalData a "
+            + "SET a.value = null, a.reference = :reference, a.size = :size, "
+            + "a.checksum = :checksum "
+            + "WHERE a.id = :entityId")
+    void setLocalDataReference(Long entityId, String reference, Long size, Long checksum);
+
+    /**
+     * Count the local data entities referencing data in the local data store.
+     *
+     * @param reference The reference in the local data store.
+     * @return The number of entities using the reference.
+     */
+    @Query("SELECT COUNT(a) "
+            + "FROM LocalData a "
+            + "WHERE a.reference = :reference "
+            + "AND a.deleted = false")
+    long countByReference(String reference);
+
     /**
      * Removes a RemoteData object from the database.
      *
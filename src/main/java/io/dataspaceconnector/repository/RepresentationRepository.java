@@ -16,11 +16,30 @@
 package io.dataspaceconnector.repository;
 
 import io.dataspaceconnector.model.representation.Representation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 /**
  * The repository containing all objects of type {@link Representation}.
  */
 @Repository
 public interface RepresentationRepository extends RemoteEntityRepository<Representation> {
+    /**
+     * Finds a page of the representations of a specific resource.
+     *
+     * @param resourceId The resource's id.
+     * @param pageable   The range selection.
+     * @return The page of representations of the resource.
+     */
+    @Query("SELECT r "
+            + "FROM Resource o INNER JOIN o.representations r "
+            + "WHERE o.id = :resourceId "
+            + "AND o.deleted = false "
+            + "AND r.deleted = false "
+            + "ORDER BY r.creationDate, r.id")
+    Page<Representation> findAllByResource(UUID resourceId, Pageable pageable);
 }
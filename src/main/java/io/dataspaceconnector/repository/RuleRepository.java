@@ -16,6 +16,8 @@
 package io.dataspaceconnector.repository;
 
 import io.dataspaceconnector.model.rule.ContractRule;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -39,4 +41,19 @@ public interface RuleRepository extends BaseEntityRepository<ContractRule> {
             + "AND r.deleted = false "
             + "AND c.deleted = false")
     List<ContractRule> findAllByContract(UUID contractId);
+
+    /**
+     * Finds a page of the rules in a specific contract.
+     *
+     * @param contractId The contract's id.
+     * @param pageable   The range selection.
+     * @return The page of rules in the contract.
+     */
+    @Query("SELECT r "
+            + "FROM Contract c INNER JOIN c.rules r "
+            + "WHERE c.id = :contractId "
+            + "AND c.deleted = false "
+            + "AND r.deleted = false "
+            + "ORDER BY r.creationDate, r.id")
+    Page<ContractRule> findAllByContract(UUID contractId, Pageable pageable);
 }
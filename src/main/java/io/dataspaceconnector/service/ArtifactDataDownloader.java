@@ -30,6 +30,7 @@ import javax.persistence.PersistenceException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -55,6 +56,11 @@ public class ArtifactDataDownloader {
      */
     private final @NonNull EntityPersistenceService persistenceSvc;
 
+    /**
+     * Sends the requests in parallel.
+     */
+    private final @NonNull DownloadExecutor executor;
+
     /**
      * Download artifact data.
      *
@@ -67,23 +73,56 @@ public class ArtifactDataDownloader {
      */
     public void download(final URI recipient, final List<URI> artifacts, final UUID agreementId)
             throws UnexpectedResponseException, MessageResponseException, MessageException {
-        // Iterate over list of resource ids to send artifact request messages for each.
-        for (final var artifact : artifacts) {
+        download(recipient, artifacts, agreementId,
+                new DownloadProgress(agreementId, artifacts.size()));
+    }
+
+    /**
+     * Download artifact data. The artifact request messages are sent in parallel. Every
+     * artifact is downloaded, even if others fail. Afterwards, the first failed request is
+     * rethrown.
+     *
+     * @param recipient   The provider connector.
+     * @param artifacts   The artifact whose data should be downloaded.
+     * @param agreementId The agreement allowing the transfer.
+     * @param progress    The progress of the download.
+     * @throws UnexpectedResponseException if the response type is not as expected.
+     * @throws MessageResponseException    if the response is invalid.
+     * @throws MessageException            if message handling failed.
+     */
+    public void download(final URI recipient, final List<URI> artifacts, final UUID agreementId,
+                         final DownloadProgress progress)
+            throws UnexpectedResponseException, MessageResponseException, MessageException {
+        final var transferContract = agreementService.get(agreementId).getRemoteId();
+
+        final var results = executor.forEach(recipient, artifacts, artifact -> {
             // Send and validate artifact request/response message.
-            final var response = artifactReqSvc.sendMessage(recipient, artifact,
-                    agreementService.get(agreementId).getRemoteId());
+            final Map<String, String> response;
+            try {
+                response = artifactReqSvc.sendMessage(recipient, artifact, transferContract);
+            } catch (UnexpectedResponseException | RuntimeException e) {
+                progress.failed(artifact);
+                throw e;
+            }
 
             // Read and process the response message.
             try {
                 persistenceSvc.saveData(response, artifact);
+                progress.succeeded();
             } catch (IOException | ResourceNotFoundException | MessageResponseException
                     | IllegalArgumentException e) {
                 // Note: Ignore that the data saving failed. Another try can take place later.
+                progress.failed(artifact);
                 if (log.isWarnEnabled()) {
                     log.warn("Could not save data for artifact. [artifact=({}), "
                             + "exception=({})]", artifact, e.getMessage(), e);
                 }
             }
+            return response;
+        });
+
+        for (final var result : results) {
+            result.get();
         }
     }
 
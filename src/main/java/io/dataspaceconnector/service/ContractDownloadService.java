@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.MessageException;
+import io.dataspaceconnector.common.exception.MessageResponseException;
+import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.PersistenceException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Downloads the metadata and, if requested, the data of the artifacts covered by a new contract
+ * agreement. The download either runs in the calling thread or in the background, in both cases
+ * its progress can be polled.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ContractDownloadService {
+
+    /**
+     * The maximum number of downloads whose progress is kept.
+     */
+    private static final int MAX_TRACKED_DOWNLOADS = 1_000;
+
+    /**
+     * Downloads metadata.
+     */
+    private final @NonNull MetadataDownloader metadataDownloader;
+
+    /**
+     * Downloads artifact's data.
+     */
+    private final @NonNull ArtifactDataDownloader artifactDataDownloader;
+
+    /**
+     * Service for updating database entities.
+     */
+    private final @NonNull EntityUpdateService updateService;
+
+    /**
+     * Runs downloads in the background.
+     */
+    private final @NonNull DownloadExecutor executor;
+
+    /**
+     * Transaction manager for linking the artifacts to the agreement.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * The progress of the latest downloads, by agreement id.
+     */
+    private final Map<UUID, DownloadProgress> downloads = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<UUID, DownloadProgress> e) {
+                    return size() > MAX_TRACKED_DOWNLOADS;
+                }
+            });
+
+    /**
+     * Download metadata and data in the calling thread.
+     *
+     * @param recipient   The provider connector.
+     * @param resources   The resources.
+     * @param artifacts   The artifacts.
+     * @param download    Whether the data of the artifacts should be downloaded.
+     * @param agreementId The agreement allowing the transfer.
+     * @return The progress of the finished download.
+     * @throws UnexpectedResponseException if the response type is not as expected.
+     * @throws MessageResponseException    if the response is invalid.
+     * @throws PersistenceException        if the data could not be persisted.
+     * @throws MessageException            if message handling failed.
+     */
+    public DownloadProgress download(final URI recipient, final List<URI> resources,
+                                     final List<URI> artifacts, final boolean download,
+                                     final UUID agreementId)
+            throws UnexpectedResponseException, PersistenceException, MessageResponseException,
+            MessageException {
+        final var progress = track(resources, artifacts, download, agreementId);
+        try {
+            run(recipient, resources, artifacts, download, progress);
+        } catch (UnexpectedResponseException | RuntimeException e) {
+            progress.abort(e.getMessage());
+            throw e;
+        }
+
+        return progress;
+    }
+
+    /**
+     * Download metadata and data in the background.
+     *
+     * @param recipient   The provider connector.
+     * @param resources   The resources.
+     * @param artifacts   The artifacts.
+     * @param download    Whether the data of the artifacts should be downloaded.
+     * @param agreementId The agreement allowing the transfer.
+     * @return The progress of the running download.
+     */
+    public DownloadProgress downloadInBackground(final URI recipient, final List<URI> resources,
+                                                 final List<URI> artifacts,
+                                                 final boolean download,
+                                                 final UUID agreementId) {
+        final var progress = track(resources, artifacts, download, agreementId);
+        executor.submit(() -> {
+            try {
+                run(recipient, resources, artifacts, download, progress);
+            } catch (UnexpectedResponseException | RuntimeException e) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to download contract data. [agreement=({}), "
+                            + "exception=({})]", agreementId, e.getMessage(), e);
+                }
+                progress.abort(e.getMessage());
+            }
+        });
+
+        return progress;
+    }
+
+    /**
+     * Get the progress of a download.
+     *
+     * @param agreementId The agreement the download belongs to.
+     * @return The progress, if the download is known.
+     */
+    public Optional<DownloadProgress> getProgress(final UUID agreementId) {
+        return Optional.ofNullable(downloads.get(agreementId));
+    }
+
+    private DownloadProgress track(final List<URI> resources, final List<URI> artifacts,
+                                   final boolean download, final UUID agreementId) {
+        final var items = resources.size() + (download ? artifacts.size() : 0);
+        final var progress = new DownloadProgress(agreementId, items);
+        downloads.put(agreementId, progress);
+        return progress;
+    }
+
+    private void run(final URI recipient, final List<URI> resources, final List<URI> artifacts,
+                     final boolean download, final DownloadProgress progress)
+            throws UnexpectedResponseException, PersistenceException, MessageResponseException,
+            MessageException {
+        final var agreementId = progress.getAgreementId();
+        metadataDownloader.download(recipient, resources, artifacts, download, progress);
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> updateService.linkArtifactToAgreement(artifacts, agreementId));
+
+        if (download) {
+            artifactDataDownloader.download(recipient, artifacts, agreementId, progress);
+        }
+
+        progress.complete();
+    }
+}
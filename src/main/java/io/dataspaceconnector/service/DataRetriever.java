@@ -30,12 +30,12 @@ import io.dataspaceconnector.common.routing.dataretrieval.DataRetrievalService;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -45,7 +45,6 @@ import java.util.List;
  * Retrieves data from the local database, remote HTTP services and Camel routes.
  */
 @Component
-@RequiredArgsConstructor
 @Log4j2
 public class DataRetriever {
 
@@ -64,6 +63,70 @@ public class DataRetriever {
      */
     private final @NonNull ApiReferenceHelper apiReferenceHelper;
 
+    /**
+     * Reads the content of local data.
+     */
+    private final @NonNull LocalDataService localDataSvc;
+
+    /**
+     * Caches the responses of http backends.
+     */
+    private final @NonNull RemoteDataCache remoteDataCache;
+
+    /**
+     * The registry for the backend metrics.
+     */
+    private final @NonNull MeterRegistry meterRegistry;
+
+    /**
+     * The fetch timer of routes that responded.
+     */
+    private final Timer routeSuccessTimer;
+
+    /**
+     * The fetch timer of routes that failed.
+     */
+    private final Timer routeErrorTimer;
+
+    /**
+     * The fetch timer of http backends that responded.
+     */
+    private final Timer httpSuccessTimer;
+
+    /**
+     * The fetch timer of http backends that failed.
+     */
+    private final Timer httpErrorTimer;
+
+    /**
+     * Constructor.
+     *
+     * @param httpService   Service for http communication.
+     * @param routes        Retrieves data using Camel routes.
+     * @param apiReferences Helper class for managing API endpoint references.
+     * @param localData     Reads the content of local data.
+     * @param cache         Caches the responses of http backends.
+     * @param registry      The registry for the backend metrics.
+     */
+    public DataRetriever(final @NonNull HttpService httpService,
+                         final @NonNull RouteDataRetriever routes,
+                         final @NonNull ApiReferenceHelper apiReferences,
+                         final @NonNull LocalDataService localData,
+                         final @NonNull RemoteDataCache cache,
+                         final @NonNull MeterRegistry registry) {
+        this.httpSvc = httpService;
+        this.routeRetriever = routes;
+        this.apiReferenceHelper = apiReferences;
+        this.localDataSvc = localData;
+        this.remoteDataCache = cache;
+        this.meterRegistry = registry;
+
+        this.routeSuccessTimer = fetchTimer("route", "success");
+        this.routeErrorTimer = fetchTimer("route", "error");
+        this.httpSuccessTimer = fetchTimer("http", "success");
+        this.httpErrorTimer = fetchTimer("http", "error");
+    }
+
     /**
      * Retrieves the data for an artifact using the specified query input.
      *
@@ -105,21 +168,14 @@ public class DataRetriever {
     }
 
     /**
-     * Get local data.
+     * Get local data. Data held by a local data store is streamed from there.
      *
      * @param data The data container.
      * @return The stored data.
+     * @throws IOException if the data cannot be read.
      */
-    private InputStream getData(final LocalData data) {
-        return toInputStream(data.getValue());
-    }
-
-    private InputStream toInputStream(final byte[] data) {
-        if (data == null) {
-            return ByteArrayInputStream.nullInputStream();
-        } else {
-            return new ByteArrayInputStream(data);
-        }
+    private InputStream getData(final LocalData data) throws IOException {
+        return localDataSvc.read(data);
     }
 
     /**
@@ -143,11 +199,49 @@ public class DataRetriever {
         }
     }
 
+    /**
+     * Get the data from the backend. The recorded latency ends when the backend has responded,
+     * the data itself is streamed afterwards.
+     *
+     * @param data       The data container.
+     * @param queryInput The query input.
+     * @return The data.
+     * @throws IOException if IO errors occur.
+     */
     private InputStream downloadDataFromBackend(final RemoteData data, final QueryInput queryInput)
             throws IOException {
+        final var isRoute = apiReferenceHelper.isRouteReference(data.getAccessUrl());
+        final var sample = Timer.start(meterRegistry);
+        var success = false;
+        try {
+            final var backendData = fetch(data, queryInput, isRoute);
+            success = true;
+            return backendData;
+        } finally {
+            if (isRoute) {
+                sample.stop(success ? routeSuccessTimer : routeErrorTimer);
+            } else {
+                sample.stop(success ? httpSuccessTimer : httpErrorTimer);
+            }
+        }
+    }
+
+    private Timer fetchTimer(final String type, final String outcome) {
+        return Timer.builder("dsc.backend.fetch")
+                .description("Time until the backend of remote data has responded")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private InputStream fetch(final RemoteData data, final QueryInput queryInput,
+                              final boolean isRoute) throws IOException {
         InputStream backendData;
-        if (apiReferenceHelper.isRouteReference(data.getAccessUrl())) {
+        if (isRoute) {
             backendData = getData(routeRetriever, data.getAccessUrl(), queryInput);
+        } else if (remoteDataCache.isEnabled()) {
+            backendData = remoteDataCache.get(data.getAccessUrl(), queryInput,
+                    data.getAuthentication());
         } else {
             if (!data.getAuthentication().isEmpty()) {
                 backendData = getData(httpSvc, data.getAccessUrl(), queryInput,
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.exception.MessageException;
+import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the requests of consumer side downloads in parallel. The number of requests in flight is
+ * bounded per recipient connector, and a failing item never affects the other items.
+ */
+@Component
+public class DownloadExecutor {
+
+    /**
+     * The time in seconds to wait for running downloads on shutdown.
+     */
+    private static final long SHUTDOWN_TIMEOUT = 5;
+
+    /**
+     * Runs the single requests.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Runs complete downloads in the background.
+     */
+    private final ExecutorService jobs;
+
+    /**
+     * The maximum number of requests in flight per recipient.
+     */
+    private final int recipientConcurrency;
+
+    /**
+     * The permits for requests in flight, per recipient.
+     */
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param poolSize           The number of threads sending requests.
+     * @param perRecipient       The maximum number of requests in flight per recipient.
+     * @param backgroundPoolSize The number of downloads that may run in the background at once.
+     */
+    public DownloadExecutor(
+            @Value("${download.pool-size:16}") final int poolSize,
+            @Value("${download.concurrency.per-recipient:4}") final int perRecipient,
+            @Value("${download.background.pool-size:4}") final int backgroundPoolSize) {
+        this.workers = Executors.newFixedThreadPool(poolSize, threadFactory("download-worker-"));
+        this.jobs = Executors.newFixedThreadPool(backgroundPoolSize,
+                threadFactory("download-job-"));
+        this.recipientConcurrency = perRecipient;
+    }
+
+    /**
+     * Runs a task for every item in parallel and waits for all of them.
+     *
+     * @param recipient The connector the task sends its requests to.
+     * @param items     The items to download.
+     * @param task      The download of a single item.
+     * @param <T>       The result type of the task.
+     * @return The outcome of every item, in the order of the items.
+     */
+    public <T> List<Result<T>> forEach(final URI recipient, final List<URI> items,
+                                       final Task<T> task) {
+        final var semaphore = permits.computeIfAbsent(toKey(recipient),
+                key -> new Semaphore(recipientConcurrency));
+        final var futures = new ArrayList<CompletableFuture<Result<T>>>(items.size());
+        for (final var item : items) {
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.add(CompletableFuture.completedFuture(new Result<>(item, null, e)));
+                continue;
+            }
+
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> run(item, task), workers)
+                        .whenComplete((result, error) -> semaphore.release()));
+            } catch (RejectedExecutionException e) {
+                semaphore.release();
+                futures.add(CompletableFuture.completedFuture(new Result<>(item, null, e)));
+            }
+        }
+
+        return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    /**
+     * Runs a complete download in the background.
+     *
+     * @param job The download.
+     */
+    public void submit(final Runnable job) {
+        jobs.execute(job);
+    }
+
+    /**
+     * Stops the executors, waiting shortly for running downloads.
+     */
+    @PreDestroy
+    public void stop() {
+        jobs.shutdown();
+        workers.shutdown();
+        try {
+            if (!jobs.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                jobs.shutdownNow();
+            }
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            jobs.shutdownNow();
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> Result<T> run(final URI item, final Task<T> task) {
+        try {
+            return new Result<>(item, task.download(item), null);
+        } catch (UnexpectedResponseException | RuntimeException e) {
+            return new Result<>(item, null, e);
+        }
+    }
+
+    private static String toKey(final URI recipient) {
+        final var authority = recipient.getAuthority();
+        return authority == null ? recipient.toString() : authority;
+    }
+
+    private static ThreadFactory threadFactory(final String prefix) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * The download of a single item.
+     *
+     * @param <T> The result type.
+     */
+    @FunctionalInterface
+    public interface Task<T> {
+        /**
+         * Download a single item.
+         *
+         * @param item The item.
+         * @return The result.
+         * @throws UnexpectedResponseException if the response type is not as expected.
+         */
+        T download(URI item) throws UnexpectedResponseException;
+    }
+
+    /**
+     * The outcome of the download of a single item.
+     *
+     * @param <T> The result type.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Result<T> {
+        /**
+         * The item.
+         */
+        private final URI item;
+
+        /**
+         * The result, if the download succeeded.
+         */
+        private final T value;
+
+        /**
+         * The error, if the download failed.
+         */
+        private final Exception error;
+
+        /**
+         * Whether the download succeeded.
+         *
+         * @return True if the download succeeded.
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * Get the result, or rethrow the error if the download failed.
+         *
+         * @return The result.
+         * @throws UnexpectedResponseException if the response type was not as expected.
+         * @throws MessageException            if the download failed otherwise.
+         */
+        public T get() throws UnexpectedResponseException, MessageException {
+            if (error instanceof UnexpectedResponseException unexpected) {
+                throw unexpected;
+            } else if (error instanceof RuntimeException runtime) {
+                throw runtime;
+            } else if (error != null) {
+                throw new MessageException(ErrorMessage.MESSAGE_SENDING_FAILED, error);
+            }
+
+            return value;
+        }
+    }
+}
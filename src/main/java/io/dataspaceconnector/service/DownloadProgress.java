@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The progress of the metadata and data download following a contract negotiation.
+ */
+@Getter
+public class DownloadProgress {
+
+    /**
+     * The state of a download.
+     */
+    public enum Status {
+        /**
+         * The download is running.
+         */
+        RUNNING,
+
+        /**
+         * The download finished. Single items may have failed.
+         */
+        COMPLETED,
+
+        /**
+         * The download was aborted.
+         */
+        FAILED
+    }
+
+    /**
+     * The agreement the download belongs to.
+     */
+    private final UUID agreementId;
+
+    /**
+     * The number of resources and artifacts to download.
+     */
+    private final int total;
+
+    /**
+     * The number of downloaded items.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger succeeded = new AtomicInteger();
+
+    /**
+     * The items that could not be downloaded.
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<URI> failed = new CopyOnWriteArrayList<>();
+
+    /**
+     * The state of the download.
+     */
+    private volatile Status status = Status.RUNNING;
+
+    /**
+     * The reason the download was aborted.
+     */
+    private volatile String error;
+
+    /**
+     * Constructor.
+     *
+     * @param agreement The agreement the download belongs to.
+     * @param items     The number of resources and artifacts to download.
+     */
+    public DownloadProgress(final UUID agreement, final int items) {
+        this.agreementId = agreement;
+        this.total = items;
+    }
+
+    /**
+     * Get the number of downloaded items.
+     *
+     * @return The number of downloaded items.
+     */
+    public int getSucceeded() {
+        return succeeded.get();
+    }
+
+    /**
+     * Get the items that could not be downloaded.
+     *
+     * @return The failed items.
+     */
+    public List<URI> getFailed() {
+        return List.copyOf(failed);
+    }
+
+    /**
+     * Record a downloaded item.
+     */
+    public void succeeded() {
+        succeeded.incrementAndGet();
+    }
+
+    /**
+     * Record an item that could not be downloaded.
+     *
+     * @param item The item.
+     */
+    public void failed(final URI item) {
+        failed.add(item);
+    }
+
+    /**
+     * Mark the download as finished.
+     */
+    public void complete() {
+        status = Status.COMPLETED;
+    }
+
+    /**
+     * Mark the download as aborted.
+     *
+     * @param reason The reason.
+     */
+    public void abort(final String reason) {
+        error = reason;
+        status = Status.FAILED;
+    }
+}
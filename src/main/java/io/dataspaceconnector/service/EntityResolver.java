@@ -37,7 +37,7 @@ import io.dataspaceconnector.model.resource.OfferedResourceDesc;
 import io.dataspaceconnector.model.resource.RequestedResource;
 import io.dataspaceconnector.model.resource.RequestedResourceDesc;
 import io.dataspaceconnector.model.rule.ContractRule;
-import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
 import io.dataspaceconnector.service.resource.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsContractBuilder;
@@ -150,9 +150,9 @@ public class EntityResolver {
     private final @NonNull ArtifactRetriever artifactReceiver;
 
     /**
-     * Service for deserialization.
+     * Cache of deserialized contract agreements.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull ContractAgreementCache agreementCache;
 
     /**
      * Return any connector entity by its id.
@@ -271,9 +271,7 @@ public class EntityResolver {
         final var agreements = artifact.getAgreements();
         final var agreementList = new ArrayList<ContractAgreement>();
         for (final var agreement : agreements) {
-            final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
-            agreementList.add(idsAgreement);
+            agreementList.add(agreementCache.get(agreement));
         }
         return agreementList;
     }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.storage.LocalDataStore;
+import io.dataspaceconnector.common.storage.StoredData;
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.repository.DataRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Reads and writes the content of local data. If a {@link LocalDataStore} is configured, new
+ * data is streamed into it. Otherwise, the data is kept in the internal database. The database
+ * maps the content to a byte array, so it is held in memory while it is written or read.
+ *
+ * Stored data is shared by all local data with the same content and removed once the last
+ * reference to it is gone. Writes hold a shared lock until their reference is committed, and
+ * removals re-check the references under an exclusive lock. A concurrent write of the same
+ * content can therefore not end up referencing data that is removed right after.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class LocalDataService {
+
+    /**
+     * Repository for storing data.
+     */
+    private final @NonNull DataRepository dataRepo;
+
+    /**
+     * The configured local data store, if any.
+     */
+    private final @NonNull Optional<LocalDataStore> localDataStore;
+
+    /**
+     * Shared by writes to the local data store, exclusive for removing data from it.
+     */
+    private final ReentrantReadWriteLock storeLock = new ReentrantReadWriteLock();
+
+    /**
+     * Get the content of local data. The caller is responsible for closing the stream.
+     *
+     * @param data The local data.
+     * @return The content.
+     * @throws IOException if the content cannot be read.
+     */
+    public InputStream read(final LocalData data) throws IOException {
+        if (data.getReference() != null) {
+            return getStore().read(data.getReference());
+        }
+
+        final var value = data.getValue();
+        return value == null ? InputStream.nullInputStream() : new ByteArrayInputStream(value);
+    }
+
+    /**
+     * Get the content of data that has just been written.
+     *
+     * @param stored The result of {@link #write(LocalData, InputStream)}.
+     * @return The content.
+     * @throws IOException if the content cannot be read.
+     */
+    public InputStream read(final StoredData stored) throws IOException {
+        if (stored instanceof DatabaseStoredData databaseData) {
+            return new ByteArrayInputStream(databaseData.value);
+        }
+
+        return getStore().read(stored.getReference());
+    }
+
+    /**
+     * Replace the content of local data. The stream is read till its end and closed.
+     *
+     * @param data   The local data.
+     * @param stream The new content.
+     * @return Information about the stored content.
+     * @throws IOException if the content cannot be stored.
+     */
+    public StoredData write(final LocalData data, final InputStream stream) throws IOException {
+        try (stream) {
+            if (localDataStore.isEmpty()) {
+                // The data column is mapped to a byte array, so the content has to be buffered.
+                // The checksum is calculated while reading, not in a second pass over the bytes.
+                final var checkedStream = new CheckedInputStream(stream, new CRC32C());
+                final var bytes = checkedStream.readAllBytes();
+                dataRepo.setLocalData(data.getId(), bytes);
+                release(data.getReference());
+                return new DatabaseStoredData(bytes, checkedStream.getChecksum().getValue());
+            }
+
+            final StoredData stored;
+            lockForWrite();
+            try {
+                stored = localDataStore.get().write(stream);
+                dataRepo.setLocalDataReference(data.getId(), stored.getReference(),
+                        stored.getSize(), stored.getChecksum());
+            } finally {
+                unlockForWrite();
+            }
+
+            if (!stored.getReference().equals(data.getReference())) {
+                release(data.getReference());
+            }
+
+            return stored;
+        }
+    }
+
+    /**
+     * Remove data from the local data store once no local data references it anymore. Call this
+     * after a reference has been replaced or its local data has been deleted. Inside a
+     * transaction, the data is only removed after the transaction has been committed.
+     *
+     * @param reference The reference that is no longer used. Null is ignored.
+     */
+    public void release(final String reference) {
+        if (reference == null || localDataStore.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            getPendingChanges().releases.add(reference);
+        } else {
+            removeIfUnused(reference);
+        }
+    }
+
+    /**
+     * Check whether local data has no content.
+     *
+     * @param data The local data.
+     * @return True if there is no content.
+     */
+    public boolean isEmpty(final LocalData data) {
+        if (data.getReference() != null) {
+            return data.getSize() == null || data.getSize() == 0;
+        }
+
+        final var value = data.getValue();
+        return value == null || value.length == 0;
+    }
+
+    private void removeIfUnused(final String reference) {
+        storeLock.writeLock().lock();
+        try {
+            if (dataRepo.countByReference(reference) > 0) {
+                return;
+            }
+
+            getStore().delete(reference);
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to remove unused data. [reference=({}), exception=({})]",
+                        reference, e.getMessage(), e);
+            }
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    private void lockForWrite() {
+        storeLock.readLock().lock();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // The reference is only visible to others once the transaction is committed.
+            getPendingChanges().locks++;
+        }
+    }
+
+    private void unlockForWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    private PendingChanges getPendingChanges() {
+        var pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+
+        return pending;
+    }
+
+    private LocalDataStore getStore() throws IOException {
+        return localDataStore.orElseThrow(() -> new IOException(
+                "Data is held by a local data store but none is configured."));
+    }
+
+    /**
+     * Data that has been written to the internal database.
+     */
+    private static final class DatabaseStoredData extends StoredData {
+
+        /**
+         * The data.
+         */
+        private final byte[] value;
+
+        DatabaseStoredData(final byte[] bytes, final long checksum) {
+            super(null, bytes.length, checksum);
+            this.value = bytes;
+        }
+    }
+
+    /**
+     * The locks held and the references released within a transaction.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        /**
+         * The number of shared locks held by writes in the transaction.
+         */
+        private int locks;
+
+        /**
+         * The references released in the transaction.
+         */
+        private final Set<String> releases = new LinkedHashSet<>();
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResource(LocalDataService.this);
+            for (; locks > 0; locks--) {
+                storeLock.readLock().unlock();
+            }
+
+            if (status == STATUS_COMMITTED) {
+                releases.forEach(LocalDataService.this::removeIfUnused);
+            }
+        }
+    }
+}
@@ -27,7 +27,6 @@ import org.springframework.stereotype.Component;
 import javax.persistence.PersistenceException;
 import java.net.URI;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -47,6 +46,11 @@ public class MetadataDownloader {
      */
     private final @NonNull EntityPersistenceService persistenceSvc;
 
+    /**
+     * Sends the requests in parallel.
+     */
+    private final @NonNull DownloadExecutor executor;
+
     /**
      * Download metadata from another connector.
      *
@@ -63,10 +67,40 @@ public class MetadataDownloader {
                          final List<URI> artifacts, final boolean download)
             throws UnexpectedResponseException, PersistenceException, MessageResponseException,
             MessageException {
-        Map<String, String> response;
-        for (final var resource : resources) {
-            response = descReqSvc.sendMessage(recipient, resource);
-            persistenceSvc.saveMetadata(response, artifacts, download, recipient);
+        download(recipient, resources, artifacts, download,
+                new DownloadProgress(null, resources.size()));
+    }
+
+    /**
+     * Download metadata from another connector. The description requests are sent in parallel,
+     * the responses are persisted in the order of the resources. The first failure in that
+     * order aborts the download, as the artifacts depend on their resources.
+     *
+     * @param recipient The recipient connector.
+     * @param resources The resources.
+     * @param artifacts The artifacts.
+     * @param download  If auto-downloading is enabled.
+     * @param progress  The progress of the download.
+     * @throws UnexpectedResponseException if the response type is not as expected.
+     * @throws MessageResponseException    if the response is invalid.
+     * @throws PersistenceException        if the data could not be persisted.
+     * @throws MessageException            if message handling failed.
+     */
+    public void download(final URI recipient, final List<URI> resources,
+                         final List<URI> artifacts, final boolean download,
+                         final DownloadProgress progress)
+            throws UnexpectedResponseException, PersistenceException, MessageResponseException,
+            MessageException {
+        final var responses = executor.forEach(recipient, resources,
+                resource -> descReqSvc.sendMessage(recipient, resource));
+        for (final var response : responses) {
+            try {
+                persistenceSvc.saveMetadata(response.get(), artifacts, download, recipient);
+            } catch (UnexpectedResponseException | RuntimeException e) {
+                progress.failed(response.getItem());
+                throw e;
+            }
+            progress.succeeded();
         }
     }
 
@@ -29,9 +29,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.Map;
@@ -39,7 +37,8 @@ import java.util.UUID;
 
 /**
  * Performs an artifact request for an artifact via Multipart. All functions will block till the
- * request is completed.
+ * request is completed. The IDS messaging client returns the response payload as a string, so
+ * the encoded data is held in memory while it is decoded.
  */
 @Component
 @Log4j2
@@ -99,6 +98,6 @@ public class MultipartArtifactRetriever implements ArtifactRetriever {
 
         final var data = MessageUtils.extractPayloadFromMultipartMessage(response);
 
-        return new ByteArrayInputStream(Base64Utils.decodeFromString(data));
+        return MessageUtils.decodePayload(data);
     }
 }
@@ -0,0 +1,619 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dataspaceconnector.common.net.HttpAuthentication;
+import io.dataspaceconnector.common.net.HttpResponse;
+import io.dataspaceconnector.common.net.HttpService;
+import io.dataspaceconnector.common.net.HttpService.HttpArgs;
+import io.dataspaceconnector.common.net.QueryInput;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Caches the responses of remote data backends. Entries are bounded by number, total size and
+ * age. Expired entries are revalidated with the backend using their ETag or Last-Modified date,
+ * so unchanged data is not transferred again. Small responses are kept in memory, larger ones are
+ * spilled to disk.
+ */
+@Log4j2
+@Component
+public class RemoteDataCache {
+
+    /**
+     * The http status code of a successful response.
+     */
+    private static final int OK = 200;
+
+    /**
+     * The http status code of a response confirming a cached entry.
+     */
+    private static final int NOT_MODIFIED = 304;
+
+    /**
+     * Algorithm used for hashing the cache keys.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * Service for http communication.
+     */
+    private final HttpService httpSvc;
+
+    /**
+     * Whether remote data is cached.
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * The time in milliseconds an entry is used without revalidation.
+     */
+    private final long ttl;
+
+    /**
+     * The maximum number of entries.
+     */
+    private final int maxEntries;
+
+    /**
+     * The maximum number of bytes held by all entries.
+     */
+    private final long maxSize;
+
+    /**
+     * Responses larger than this number of bytes are stored on disk.
+     */
+    private final int memoryThreshold;
+
+    /**
+     * Directory holding the entries stored on disk.
+     */
+    private final Path directory;
+
+    /**
+     * The cached entries in access order.
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The number of bytes held by all entries. Guarded by {@link #entries}.
+     */
+    private long size;
+
+    /**
+     * Constructor for RemoteDataCache.
+     *
+     * @param httpService     Service for http communication.
+     * @param isEnabled       Whether remote data is cached.
+     * @param timeToLive      The time in milliseconds an entry is used without revalidation.
+     * @param entryLimit      The maximum number of entries.
+     * @param sizeLimit       The maximum number of bytes held by all entries.
+     * @param memoryLimit     Responses larger than this number of bytes are stored on disk.
+     * @param path            Directory holding the entries stored on disk.
+     * @throws IOException if the directory could not be prepared.
+     */
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    public RemoteDataCache(
+            final HttpService httpService,
+            @Value("${remote-data.cache.enabled:false}") final boolean isEnabled,
+            @Value("${remote-data.cache.ttl:60000}") final long timeToLive,
+            @Value("${remote-data.cache.max-entries:1000}") final int entryLimit,
+            @Value("${remote-data.cache.max-size:1073741824}") final long sizeLimit,
+            @Value("${remote-data.cache.memory-threshold:65536}") final int memoryLimit,
+            @Value("${remote-data.cache.directory:./data/remote-cache}") final String path)
+            throws IOException {
+        this.httpSvc = httpService;
+        this.enabled = isEnabled;
+        this.ttl = timeToLive;
+        this.maxEntries = entryLimit;
+        this.maxSize = sizeLimit;
+        this.memoryThreshold = memoryLimit;
+        this.directory = Path.of(path).toAbsolutePath().normalize();
+
+        if (enabled) {
+            prepareDirectory();
+            if (log.isInfoEnabled()) {
+                log.info("Caching remote data. [ttl=({}), maxEntries=({}), maxSize=({}), "
+                        + "path=({})]", ttl, maxEntries, maxSize, directory);
+            }
+        }
+    }
+
+    /**
+     * Get the data of a backend. Fresh entries are returned without contacting the backend,
+     * expired ones are revalidated. Otherwise, the data is downloaded and stored while it is
+     * read; it is only cached if the returned stream is read to the end.
+     *
+     * @param target The access url of the backend.
+     * @param input  The query input.
+     * @param auth   The authentication information, may be empty.
+     * @return The data.
+     * @throws IOException if the data could not be retrieved.
+     */
+    public InputStream get(final URL target, final QueryInput input,
+                           final List<? extends HttpAuthentication> auth) throws IOException {
+        final var key = toKey(target, input, auth);
+
+        final var cached = lookup(key);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis(), ttl)) {
+            final var data = open(key, cached, false);
+            if (data != null) {
+                return data;
+            }
+        }
+
+        final var query = cached == null ? input : addValidators(input, cached);
+        final var response = httpSvc.get(target, query, auth);
+        if (!(response instanceof HttpResponse httpResponse)) {
+            return response.getData();
+        }
+
+        if (cached != null && httpResponse.getCode() == NOT_MODIFIED) {
+            httpResponse.getData().close();
+            final var data = open(key, cached, true);
+            if (data != null) {
+                return data;
+            }
+
+            // The entry has been evicted in the meantime, the data has to be fetched again.
+            return get(target, input, auth);
+        }
+
+        if (httpResponse.getCode() != OK || isNoStore(httpResponse)) {
+            return httpResponse.getData();
+        }
+
+        return new CachingInputStream(httpResponse.getData(), key,
+                httpResponse.getHeader("ETag"), httpResponse.getHeader("Last-Modified"));
+    }
+
+    /**
+     * Get the number of cached entries.
+     *
+     * @return The number of entries.
+     */
+    public int getEntryCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Get the number of bytes held by all entries.
+     *
+     * @return The number of bytes.
+     */
+    public long getSize() {
+        synchronized (entries) {
+            return size;
+        }
+    }
+
+    private Entry lookup(final String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Open the data of an entry if it is still cached. Opening happens while holding the lock,
+     * so a file being evicted concurrently remains readable.
+     */
+    private InputStream open(final String key, final Entry entry, final boolean revalidated)
+            throws IOException {
+        synchronized (entries) {
+            if (entries.get(key) != entry) {
+                return null;
+            }
+
+            if (revalidated) {
+                entry.validated = System.currentTimeMillis();
+            }
+
+            return entry.open();
+        }
+    }
+
+    private void store(final String key, final Entry entry) {
+        synchronized (entries) {
+            final var previous = entries.put(key, entry);
+            if (previous != null) {
+                size -= previous.size;
+                delete(previous);
+            }
+            size += entry.size;
+
+            final var iterator = entries.values().iterator();
+            while ((size > maxSize || entries.size() > maxEntries) && iterator.hasNext()) {
+                final var eldest = iterator.next();
+                iterator.remove();
+                size -= eldest.size;
+                delete(eldest);
+            }
+        }
+    }
+
+    private void delete(final Entry entry) {
+        if (entry.file != null) {
+            deleteFile(entry.file);
+        }
+    }
+
+    private void deleteFile(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not delete cached remote data. [file=({}), exception=({})]",
+                        file, e.getMessage());
+            }
+        }
+    }
+
+    private void prepareDirectory() throws IOException {
+        Files.createDirectories(directory);
+
+        // The index of the entries is not persisted, files of a previous run are of no use.
+        try (var files = Files.list(directory)) {
+            files.filter(Files::isRegularFile).forEach(this::deleteFile);
+        }
+    }
+
+    private static boolean isNoStore(final HttpResponse response) {
+        final var cacheControl = response.getHeader("Cache-Control");
+        return cacheControl != null
+                && cacheControl.toLowerCase(Locale.ROOT).contains("no-store");
+    }
+
+    private static QueryInput addValidators(final QueryInput input, final Entry entry) {
+        final var copy = new QueryInput();
+        if (input != null) {
+            copy.setHeaders(copyOf(input.getHeaders()));
+            copy.setParams(copyOf(input.getParams()));
+            copy.setPathVariables(copyOf(input.getPathVariables()));
+            copy.setOptional(input.getOptional());
+        }
+
+        if (entry.etag != null) {
+            copy.getHeaders().put("If-None-Match", entry.etag);
+        }
+        if (entry.lastModified != null) {
+            copy.getHeaders().put("If-Modified-Since", entry.lastModified);
+        }
+
+        return copy;
+    }
+
+    private static Map<String, String> copyOf(final Map<String, String> map) {
+        return map == null ? new HashMap<>() : new HashMap<>(map);
+    }
+
+    /**
+     * Build the cache key from everything that determines the backend request. The
+     * authentication is part of the key, so data is never shared between credentials.
+     */
+    private static String toKey(final URL target, final QueryInput input,
+                                final List<? extends HttpAuthentication> auth) {
+        final var args = new HttpArgs();
+        args.setHeaders(input == null ? new HashMap<>() : copyOf(input.getHeaders()));
+        args.setParams(input == null ? new HashMap<>() : copyOf(input.getParams()));
+        if (auth != null) {
+            for (final var x : auth) {
+                x.setAuth(args);
+            }
+        }
+
+        final var digest = newDigest();
+        update(digest, target.toString());
+        update(digest, input == null ? null : input.getOptional());
+        update(digest, args.getParams());
+        update(digest, args.getHeaders());
+        update(digest, input == null ? null : input.getPathVariables());
+        if (args.getAuth() != null) {
+            update(digest, args.getAuth().getFirst());
+            update(digest, args.getAuth().getSecond());
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(final MessageDigest digest, final Map<String, String> map) {
+        final var sorted = map == null ? Map.<String, String>of() : new TreeMap<>(map);
+        update(digest, String.valueOf(sorted.size()));
+        sorted.forEach((key, value) -> {
+            update(digest, key);
+            update(digest, value);
+        });
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+        } else {
+            // Prefix the length, so that adjacent values cannot be shifted into each other.
+            final var bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update((byte) 1);
+            digest.update(String.valueOf(bytes.length).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ':');
+            digest.update(bytes);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A cached response.
+     */
+    private static final class Entry {
+
+        /**
+         * The data, if kept in memory.
+         */
+        private final byte[] value;
+
+        /**
+         * The file holding the data, if stored on disk.
+         */
+        private final Path file;
+
+        /**
+         * The number of bytes of the data.
+         */
+        private final long size;
+
+        /**
+         * The entity tag of the response.
+         */
+        private final String etag;
+
+        /**
+         * The last modification date of the response.
+         */
+        private final String lastModified;
+
+        /**
+         * The time the entry was last confirmed by the backend. Guarded by the entries lock.
+         */
+        private long validated;
+
+        Entry(final byte[] data, final Path path, final long length, final String entityTag,
+              final String modified) {
+            this.value = data;
+            this.file = path;
+            this.size = length;
+            this.etag = entityTag;
+            this.lastModified = modified;
+            this.validated = System.currentTimeMillis();
+        }
+
+        boolean isExpired(final long now, final long timeToLive) {
+            return now - validated >= timeToLive;
+        }
+
+        InputStream open() throws IOException {
+            return file == null ? new ByteArrayInputStream(value) : Files.newInputStream(file);
+        }
+    }
+
+    /**
+     * Passes the data of a backend response through and stores a copy of it. The copy is
+     * kept in memory up to the memory threshold and spilled to disk above. The entry is
+     * added once the data has been read completely and discarded if the stream is closed
+     * early or the data exceeds the size limit of the cache.
+     */
+    private final class CachingInputStream extends FilterInputStream {
+
+        /**
+         * The cache key.
+         */
+        private final String key;
+
+        /**
+         * The entity tag of the response.
+         */
+        private final String etag;
+
+        /**
+         * The last modification date of the response.
+         */
+        private final String lastModified;
+
+        /**
+         * The copy of the data while it is kept in memory.
+         */
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        /**
+         * The file the copy is spilled to.
+         */
+        private Path file;
+
+        /**
+         * The stream writing to the file.
+         */
+        private OutputStream fileOut;
+
+        /**
+         * The number of bytes copied.
+         */
+        private long copied;
+
+        /**
+         * Whether the copy has been stored or given up.
+         */
+        private boolean finished;
+
+        CachingInputStream(final InputStream data, final String cacheKey, final String entityTag,
+                           final String modified) {
+            super(data);
+            this.key = cacheKey;
+            this.etag = entityTag;
+            this.lastModified = modified;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var value = super.read();
+            if (value == -1) {
+                complete();
+            } else {
+                copy(new byte[]{(byte) value}, 0, 1);
+            }
+
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var read = super.read(b, off, len);
+            if (read == -1) {
+                complete();
+            } else {
+                copy(b, off, read);
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            // Skipped data is not copied, the entry would be incomplete.
+            discard();
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                discard();
+            }
+        }
+
+        private void copy(final byte[] b, final int off, final int len) {
+            if (finished || len == 0) {
+                return;
+            }
+
+            copied += len;
+            if (copied > maxSize) {
+                discard();
+                return;
+            }
+
+            try {
+                if (fileOut == null && copied > memoryThreshold) {
+                    file = Files.createTempFile(directory, "entry-", ".tmp");
+                    fileOut = Files.newOutputStream(file);
+                    buffer.writeTo(fileOut);
+                    buffer = null;
+                }
+
+                if (fileOut == null) {
+                    buffer.write(b, off, len);
+                } else {
+                    fileOut.write(b, off, len);
+                }
+            } catch (IOException e) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Could not cache remote data. [exception=({})]", e.getMessage());
+                }
+                discard();
+            }
+        }
+
+        private void complete() {
+            if (finished) {
+                return;
+            }
+
+            try {
+                if (fileOut != null) {
+                    fileOut.close();
+                }
+            } catch (IOException e) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Could not cache remote data. [exception=({})]", e.getMessage());
+                }
+                discard();
+                return;
+            }
+
+            finished = true;
+            final var value = fileOut == null ? buffer.toByteArray() : null;
+            store(key, new Entry(value, file, copied, etag, lastModified));
+            buffer = null;
+        }
+
+        private void discard() {
+            if (finished) {
+                return;
+            }
+
+            finished = true;
+            buffer = null;
+            if (fileOut != null) {
+                try {
+                    fileOut.close();
+                } catch (IOException ignored) {
+                    // The file is deleted anyway.
+                }
+                deleteFile(file);
+            }
+        }
+    }
+}
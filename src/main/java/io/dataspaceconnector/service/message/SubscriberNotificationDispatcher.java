@@ -0,0 +1,391 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.message;
+
+import io.dataspaceconnector.model.subscription.Subscription;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers subscriber notifications in the background. Every subscriber location has its own
+ * queue, which is worked off in order by at most one thread at a time, so a slow subscriber
+ * only delays its own notifications. A notification that is still queued when the same
+ * subscription is notified again is replaced by the newer one. Failed deliveries are retried
+ * with exponential backoff.
+ */
+@Log4j2
+@Component
+public class SubscriberNotificationDispatcher {
+
+    /**
+     * Runs the deliveries and the delayed retries.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The maximum number of queued notifications per subscriber.
+     */
+    private final int capacity;
+
+    /**
+     * The maximum number of delivery attempts per notification.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The delay in milliseconds before the first retry.
+     */
+    private final long initialBackoff;
+
+    /**
+     * The maximum delay in milliseconds between two retries.
+     */
+    private final long maxBackoff;
+
+    /**
+     * The queues, by subscriber location.
+     */
+    private final Map<URI, SubscriberQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * The number of notifications that have not been delivered or given up yet.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * The time from queueing a notification until it is delivered.
+     */
+    private final Timer latency;
+
+    /**
+     * The number of notifications replaced by a newer one before delivery.
+     */
+    private final Counter coalesced;
+
+    /**
+     * The number of notifications given up after the last attempt or dropped.
+     */
+    private final Counter failed;
+
+    /**
+     * Constructor.
+     *
+     * @param registry   The registry for the queue and delivery metrics.
+     * @param poolSize   The number of threads delivering notifications.
+     * @param queueSize  The maximum number of queued notifications per subscriber.
+     * @param attempts   The maximum number of delivery attempts per notification.
+     * @param backoff    The delay in milliseconds before the first retry.
+     * @param backoffMax The maximum delay in milliseconds between two retries.
+     */
+    public SubscriberNotificationDispatcher(
+            final MeterRegistry registry,
+            @Value("${notification.pool-size:8}") final int poolSize,
+            @Value("${notification.queue.capacity:1000}") final int queueSize,
+            @Value("${notification.retry.max-attempts:3}") final int attempts,
+            @Value("${notification.retry.backoff.initial:1000}") final long backoff,
+            @Value("${notification.retry.backoff.max:60000}") final long backoffMax) {
+        final var threads = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(poolSize, runnable -> {
+            final var thread = new Thread(runnable,
+                    "subscriber-notification-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.capacity = queueSize;
+        this.maxAttempts = attempts;
+        this.initialBackoff = backoff;
+        this.maxBackoff = backoffMax;
+
+        registry.gauge("dsc.subscriber.notifications.pending", pending);
+        this.latency = Timer.builder("dsc.subscriber.notifications.delivery")
+                .description("Time from queueing a notification until it is delivered.")
+                .register(registry);
+        this.coalesced = Counter.builder("dsc.subscriber.notifications.coalesced")
+                .description("Notifications replaced by a newer one before delivery.")
+                .register(registry);
+        this.failed = Counter.builder("dsc.subscriber.notifications.failed")
+                .description("Notifications that could not be delivered.")
+                .register(registry);
+    }
+
+    /**
+     * Queue a notification for a subscription.
+     *
+     * @param subscription The subscription.
+     * @param delivery     Sends the notification.
+     */
+    public void submit(final Subscription subscription, final Delivery delivery) {
+        final var queue = queues.computeIfAbsent(subscription.getLocation(),
+                SubscriberQueue::new);
+        final var item = new Item(subscription.getId(), delivery, System.nanoTime());
+
+        synchronized (queue) {
+            if (queue.retry != null && queue.retry.key.equals(item.key)) {
+                queue.retry.delivery.release();
+                queue.retry = queue.retry.replaceWith(item);
+                coalesced.increment();
+                return;
+            }
+
+            final var queued = queue.items.get(item.key);
+            if (queued != null) {
+                queued.delivery.release();
+                queue.items.put(item.key, queued.replaceWith(item));
+                coalesced.increment();
+                return;
+            }
+
+            if (queue.items.size() >= capacity) {
+                failed.increment();
+                delivery.release();
+                if (log.isWarnEnabled()) {
+                    log.warn("Notification queue is full, dropping notification. [url=({})]",
+                            queue.location);
+                }
+                return;
+            }
+
+            queue.items.put(item.key, item);
+            pending.incrementAndGet();
+            if (!queue.scheduled) {
+                queue.scheduled = true;
+                schedule(queue, 0);
+            }
+        }
+    }
+
+    /**
+     * Get the number of notifications that have not been delivered or given up yet.
+     *
+     * @return The number of pending notifications.
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Stops delivering notifications.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        final var remaining = pending.get();
+        if (remaining > 0 && log.isWarnEnabled()) {
+            log.warn("Discarding undelivered notifications. [count=({})]", remaining);
+        }
+
+        for (final var queue : queues.values()) {
+            synchronized (queue) {
+                if (queue.retry != null) {
+                    queue.retry.delivery.release();
+                    queue.retry = null;
+                }
+                queue.items.values().forEach(x -> x.delivery.release());
+                queue.items.clear();
+            }
+        }
+    }
+
+    private void schedule(final SubscriberQueue queue, final long delay) {
+        try {
+            executor.schedule(() -> drain(queue), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The dispatcher is shutting down.
+            synchronized (queue) {
+                queue.scheduled = false;
+            }
+        }
+    }
+
+    private void drain(final SubscriberQueue queue) {
+        Item item;
+        synchronized (queue) {
+            if (queue.retry != null) {
+                item = queue.retry;
+                queue.retry = null;
+            } else if (!queue.items.isEmpty()) {
+                final var iterator = queue.items.values().iterator();
+                item = iterator.next();
+                iterator.remove();
+            } else {
+                queue.scheduled = false;
+                return;
+            }
+        }
+
+        try {
+            item.delivery.deliver();
+            latency.record(System.nanoTime() - item.queued, TimeUnit.NANOSECONDS);
+            pending.decrementAndGet();
+            item.delivery.release();
+        } catch (IOException | RuntimeException e) {
+            final var retry = item.attempts + 1 < maxAttempts;
+            final boolean superseded;
+            synchronized (queue) {
+                // A newer notification for the same subscription replaces the failed one.
+                superseded = queue.items.containsKey(item.key);
+                if (retry && !superseded) {
+                    queue.retry = item.nextAttempt();
+                }
+            }
+
+            if (superseded) {
+                pending.decrementAndGet();
+                coalesced.increment();
+                item.delivery.release();
+                if (log.isDebugEnabled()) {
+                    log.debug("Could not notify subscriber, newer notification queued. "
+                            + "[url=({}), exception=({})]", queue.location, e.getMessage());
+                }
+            } else if (retry) {
+                final var backoff = Math.min(initialBackoff << item.attempts, maxBackoff);
+                if (log.isDebugEnabled()) {
+                    log.debug("Could not notify subscriber, retrying. [url=({}), delay=({}), "
+                            + "exception=({})]", queue.location, backoff, e.getMessage());
+                }
+                schedule(queue, backoff);
+                return;
+            } else {
+                pending.decrementAndGet();
+                failed.increment();
+                item.delivery.release();
+                if (log.isWarnEnabled()) {
+                    log.warn("Could not notify subscriber. [url=({}), attempts=({}), "
+                            + "exception=({})]", queue.location, maxAttempts, e.getMessage());
+                }
+            }
+        }
+
+        // Give the other subscribers a turn before the next notification.
+        schedule(queue, 0);
+    }
+
+    /**
+     * Sends a single notification.
+     */
+    @FunctionalInterface
+    public interface Delivery {
+        /**
+         * Send the notification.
+         *
+         * @throws IOException if the notification could not be delivered.
+         */
+        void deliver() throws IOException;
+
+        /**
+         * Release the resources held for the notification. Called once, when the notification
+         * has been delivered, given up, replaced or discarded.
+         */
+        default void release() {
+        }
+    }
+
+    /**
+     * The notifications queued for a subscriber location.
+     */
+    private static final class SubscriberQueue {
+        /**
+         * The subscriber location.
+         */
+        private final URI location;
+
+        /**
+         * The queued notifications, by subscription, in order.
+         */
+        private final Map<UUID, Item> items = new LinkedHashMap<>();
+
+        /**
+         * The notification waiting for its next attempt, delivered before the others.
+         */
+        private Item retry;
+
+        /**
+         * Whether a thread is working off this queue.
+         */
+        private boolean scheduled;
+
+        private SubscriberQueue(final URI subscriberLocation) {
+            this.location = subscriberLocation;
+        }
+    }
+
+    /**
+     * A queued notification.
+     */
+    private static final class Item {
+        /**
+         * The subscription.
+         */
+        private final UUID key;
+
+        /**
+         * Sends the notification.
+         */
+        private final Delivery delivery;
+
+        /**
+         * The time the notification was first queued, in nanoseconds.
+         */
+        private final long queued;
+
+        /**
+         * The number of failed attempts.
+         */
+        private final int attempts;
+
+        private Item(final UUID subscription, final Delivery notification, final long time) {
+            this(subscription, notification, time, 0);
+        }
+
+        private Item(final UUID subscription, final Delivery notification, final long time,
+                     final int failedAttempts) {
+            this.key = subscription;
+            this.delivery = notification;
+            this.queued = time;
+            this.attempts = failedAttempts;
+        }
+
+        private Item replaceWith(final Item newer) {
+            // The newer notification has not failed yet, so it gets all attempts.
+            return new Item(key, newer.delivery, queued);
+        }
+
+        private Item nextAttempt() {
+            return new Item(key, delivery, queued, attempts + 1);
+        }
+    }
+}
@@ -20,9 +20,9 @@
 package io.dataspaceconnector.service.message;
 
 import de.fraunhofer.iais.eis.Resource;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dataspaceconnector.common.exception.DataDispatchException;
 import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
@@ -54,10 +54,15 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -133,6 +138,11 @@ public class SubscriberNotificationService {
      */
     private final @NonNull ApiReferenceHelper apiReferenceHelper;
 
+    /**
+     * Queues the notifications and sends them in the background.
+     */
+    private final @NonNull SubscriberNotificationDispatcher dispatcher;
+
     /**
      * Notify subscribers on database update event.
      *
@@ -161,6 +171,8 @@ public class SubscriberNotificationService {
 
     /**
      * Notifies all backend systems and ids participants that subscribed for updates to an entity.
+     * The notifications are queued and sent in the background by the
+     * {@link SubscriberNotificationDispatcher}.
      *
      * @param subscriptions List of subscriptions for a certain target.
      * @param target        The target of the subscriptions.
@@ -176,93 +188,78 @@ public class SubscriberNotificationService {
                                    final Entity entity) {
         // Get list of non-ids subscribers.
         final var recipients = subscriptions.stream()
-                .filter(subscription -> !subscription.isIdsProtocol() && !subscription.isPushData())
-                .map(Subscription::getLocation)
-                .collect(Collectors.toList());
-
-        // Get list of non-ids subscribers with isPushData == true.
-        final var recipientsWithData = subscriptions.stream()
-                .filter(subscription -> !subscription.isIdsProtocol() && subscription.isPushData())
-                .map(Subscription::getLocation)
+                .filter(subscription -> !subscription.isIdsProtocol())
                 .collect(Collectors.toList());
+        if (recipients.isEmpty()) {
+            return;
+        }
 
         // Update non-ids subscribers.
-        // final var notification = new Notification(new Date(), target, Event.UPDATED);
         final var notification = new HashMap<String, String>();
         notification.put("ids-target", target.toString());
         notification.put("ids-event", Event.UPDATED.toString());
-        if (!recipients.isEmpty()) {
-            sendNotification(recipients, notification, null);
-        }
 
-        // Only send data if entity is of type artifact.
-        if (!recipientsWithData.isEmpty()) {
-            if (entity instanceof Artifact) {
-                sendNotification(recipientsWithData, notification, retrieveDataByArtifact(entity));
+        // Only send data if entity is of type artifact. The data is retrieved once and every
+        // subscriber with isPushData == true reads its own stream of that copy.
+        final var pushRecipients = (int) recipients.stream()
+                .filter(Subscription::isPushData)
+                .count();
+        final var data = pushRecipients == 0 ? Optional.<SpooledData>empty()
+                : retrieveDataByArtifact(entity, pushRecipients);
+
+        for (final var subscription : recipients) {
+            final var location = subscription.getLocation();
+            if (subscription.isPushData() && data.isPresent()) {
+                dispatcher.submit(subscription, new DataDelivery(location, notification,
+                        data.get()));
             } else {
-                sendNotification(recipientsWithData, notification, InputStream.nullInputStream());
+                dispatcher.submit(subscription, () -> sendNotification(location, notification,
+                        InputStream.nullInputStream()));
             }
         }
     }
 
-    @SuppressFBWarnings(
-            value = "REC_CATCH_EXCEPTION",
-            justification = "caught exceptions are unchecked"
-    )
     private void notifyIdsSubscribers(final List<Subscription> subscriptions, final Entity entity) {
         final var idsRecipients = subscriptions.stream()
                 .filter(Subscription::isIdsProtocol)
-                .map(Subscription::getLocation)
                 .collect(Collectors.toList());
+        if (idsRecipients.isEmpty()) {
+            return;
+        }
 
+        // Build the ids resources while the entity can still be loaded.
         final var resources = getIdsResourcesFromEntity(entity);
 
-        // Iterate over all recipients and send ids resource update messages.
-        for (final var recipient : idsRecipients) {
-            // Send update message for every found resource.
-            for (final var resource : resources) {
-                try {
-                    if (connectorConfig.isIdscpEnabled()) {
-                        final var result = template.send("direct:resourceUpdateSender",
-                                ExchangeBuilder.anExchange(context)
-                                        .withProperty(ParameterUtils.RECIPIENT_PARAM, recipient)
-                                        .withProperty(ParameterUtils.RESOURCE_ID_PARAM,
-                                                resource.getId())
-                                        .build());
-                        final var response = result.getIn().getBody(Response.class);
-                        if (response != null) {
-                            if (log.isDebugEnabled()) {
-                                log.debug("Successfully sent update message. [url=({})]",
-                                        recipient);
-                            }
-                        } else {
-                            if (log.isDebugEnabled()) {
-                                log.debug("{} [url=({})]", ErrorMessage.UPDATE_MESSAGE_FAILED,
-                                        recipient);
-                            }
-                        }
-                    } else {
-                        final var response = messageSvc
-                                .sendResourceUpdateMessage(recipient, resource);
-                        if (response.isPresent()) {
-                            if (log.isDebugEnabled()) {
-                                log.debug("Successfully sent update message. [url=({})]",
-                                        recipient);
-                            }
-                        } else {
-                            if (log.isDebugEnabled()) {
-                                log.debug("{} [url=({})]", ErrorMessage.UPDATE_MESSAGE_FAILED,
-                                        recipient);
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("{} [url=({}), exception=({})]",
-                                ErrorMessage.UPDATE_MESSAGE_FAILED, recipient, e.getMessage());
-                    }
+        // Send update message for every found resource to every recipient.
+        for (final var subscription : idsRecipients) {
+            dispatcher.submit(subscription, () -> {
+                for (final var resource : resources) {
+                    sendResourceUpdate(subscription.getLocation(), resource);
                 }
-            }
+            });
+        }
+    }
+
+    private void sendResourceUpdate(final URI recipient, final Resource resource)
+            throws IOException {
+        boolean sent;
+        if (connectorConfig.isIdscpEnabled()) {
+            final var result = template.send("direct:resourceUpdateSender",
+                    ExchangeBuilder.anExchange(context)
+                            .withProperty(ParameterUtils.RECIPIENT_PARAM, recipient)
+                            .withProperty(ParameterUtils.RESOURCE_ID_PARAM, resource.getId())
+                            .build());
+            sent = result.getIn().getBody(Response.class) != null;
+        } else {
+            sent = messageSvc.sendResourceUpdateMessage(recipient, resource).isPresent();
+        }
+
+        if (!sent) {
+            throw new IOException(ErrorMessage.UPDATE_MESSAGE_FAILED.toString());
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Successfully sent update message. [url=({})]", recipient);
         }
     }
 
@@ -298,80 +295,139 @@ public class SubscriberNotificationService {
     }
 
     /**
-     * Retrieve data if the entity is of type {@link Artifact}.
+     * Retrieve data if the entity is of type {@link Artifact}. The data is copied to a temporary
+     * file, so that it is read from the artifact once, however many subscribers receive it and
+     * however often a delivery is retried.
      *
      * @param entity The database entity.
-     * @return Data as input stream.
+     * @param users  The number of deliveries sharing the copy.
+     * @return The copy, empty if the entity is no artifact or the data could not be retrieved.
      */
-    private InputStream retrieveDataByArtifact(final Entity entity) {
+    private Optional<SpooledData> retrieveDataByArtifact(final Entity entity, final int users) {
         if (entity instanceof Artifact) {
             final var id = entity.getId();
-            try {
-                return artifactSvc.getData(accessVerifier, dataReceiver, id, new QueryInput(),
-                        null);
-            } catch (IOException exception) {
+            try (var data = artifactSvc.getData(accessVerifier, dataReceiver, id,
+                    new QueryInput(), null)) {
+                final var file = Files.createTempFile("subscriber-notification-", ".tmp");
+                try {
+                    Files.copy(data, file, StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException exception) {
+                    Files.deleteIfExists(file);
+                    throw exception;
+                }
+                return Optional.of(new SpooledData(file, users));
+            } catch (IOException | PolicyRestrictionException exception) {
+                // A policy denial is final, the notification is sent without data.
                 if (log.isDebugEnabled()) {
                     log.debug("Failed to retrieve data. [exception=({})]", exception.getMessage());
                 }
             }
         }
-        return InputStream.nullInputStream();
+        return Optional.empty();
     }
 
-    private void sendNotification(final List<URI> recipients,
-                                  final Map<String, String> notification, final InputStream data) {
-        for (final var recipient : recipients) {
-            try {
-                InputStream dataCopy;
-                if (data == null) {
-                    dataCopy = InputStream.nullInputStream();
-                } else {
-                    // Reset the input stream to first position before each read.
-                    if (0 <= data.available()) {
-                        data.reset();
-                    }
-                    dataCopy = data;
-                }
-
-                if (apiReferenceHelper.isRouteReference(recipient.toURL())) {
-                    sendNotificationViaCamel(recipient, notification, dataCopy);
-                } else {
-                    sendNotificationViaHttp(recipient, notification, dataCopy);
-                }
-            } catch (IOException exception) {
-                if (log.isWarnEnabled()) {
-                    log.warn("Could not notify subscriber. [url=({})]",
-                            recipient);
-                }
-            }
+    private void sendNotification(final URI recipient, final Map<String, String> notification,
+                                  final InputStream data) throws IOException {
+        if (apiReferenceHelper.isRouteReference(recipient.toURL())) {
+            sendNotificationViaCamel(recipient, notification, data);
+        } else {
+            sendNotificationViaHttp(recipient, notification, data);
         }
     }
 
     private void sendNotificationViaCamel(final URI recipient,
                                           final Map<String, String> notification,
-                                          final InputStream data) {
+                                          final InputStream data) throws IOException {
         try {
             final var queryInput = new QueryInput();
             queryInput.setHeaders(notification);
-            routeDataDispatcher.send(recipient, data.readAllBytes(), queryInput);
-        } catch (DataDispatchException | IOException exception) {
-            if (log.isWarnEnabled()) {
-                log.warn("Could not notify subscriber. [url=({}), exception=({})]",
-                        recipient, exception.getMessage());
-            }
+            routeDataDispatcher.send(recipient, data, queryInput);
+        } catch (DataDispatchException exception) {
+            throw new IOException(exception.getMessage(), exception);
         }
     }
 
     private void sendNotificationViaHttp(final URI recipient,
                                          final Map<String, String> notification,
-                                         final InputStream data) {
+                                         final InputStream data) throws IOException {
         final var args = new HttpService.HttpArgs();
         args.setHeaders(notification);
-        try {
-            httpService.post(recipient.toURL(), args, data);
-        } catch (IOException exception) {
-            if (log.isWarnEnabled()) {
-                log.warn("Could not notify subscriber. [url=({})]", recipient);
+        httpService.post(recipient.toURL(), args, data);
+    }
+
+    /**
+     * Sends a notification with the data of an artifact.
+     */
+    private final class DataDelivery implements SubscriberNotificationDispatcher.Delivery {
+        /**
+         * The subscriber location.
+         */
+        private final URI recipient;
+
+        /**
+         * The notification headers.
+         */
+        private final Map<String, String> notification;
+
+        /**
+         * The copy of the artifact data.
+         */
+        private final SpooledData data;
+
+        private DataDelivery(final URI location, final Map<String, String> headers,
+                             final SpooledData spooledData) {
+            this.recipient = location;
+            this.notification = headers;
+            this.data = spooledData;
+        }
+
+        @Override
+        public void deliver() throws IOException {
+            try (var stream = data.open()) {
+                sendNotification(recipient, notification, stream);
+            }
+        }
+
+        @Override
+        public void release() {
+            data.release();
+        }
+    }
+
+    /**
+     * A copy of artifact data in a temporary file, shared by several deliveries. The file is
+     * deleted when the last delivery has released it.
+     */
+    private static final class SpooledData {
+        /**
+         * The temporary file.
+         */
+        private final Path file;
+
+        /**
+         * The number of deliveries that have not released the copy yet.
+         */
+        private final AtomicInteger users;
+
+        private SpooledData(final Path spoolFile, final int deliveries) {
+            this.file = spoolFile;
+            this.users = new AtomicInteger(deliveries);
+        }
+
+        private InputStream open() throws IOException {
+            return Files.newInputStream(file);
+        }
+
+        private void release() {
+            if (users.decrementAndGet() == 0) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException exception) {
+                    if (log.isWarnEnabled()) {
+                        log.warn("Failed to delete notification data. [file=({}), "
+                                + "exception=({})]", file, exception.getMessage());
+                    }
+                }
             }
         }
     }
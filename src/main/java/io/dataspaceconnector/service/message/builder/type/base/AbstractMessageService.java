@@ -35,6 +35,7 @@ import io.dataspaceconnector.common.exception.MessageResponseException;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.extension.telemetry.TracePropagation;
 import io.dataspaceconnector.model.message.MessageDesc;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -123,7 +124,12 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
             final var header = buildMessage(desc);
             final var body = buildMultipartBody(header, payload);
 
-            return idsHttpService.sendAndCheckDat(body, recipient);
+            final var traceHeaders = TracePropagation.getHeaders();
+            if (traceHeaders.isEmpty()) {
+                return idsHttpService.sendAndCheckDat(body, recipient);
+            }
+
+            return idsHttpService.sendWithHeadersAndCheckDat(body, recipient, traceHeaders);
         } catch (SerializeException | ConstraintViolationException | IllegalArgumentException e) {
             final var msg = ErrorMessage.MESSAGE_BUILDING_FAILED;
             if (log.isWarnEnabled()) {
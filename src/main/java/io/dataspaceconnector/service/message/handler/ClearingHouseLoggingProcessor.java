@@ -20,6 +20,7 @@ import io.dataspaceconnector.common.ids.message.ClearingHouseService;
 import io.dataspaceconnector.service.message.handler.dto.Request;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.message.handler.dto.RouteMsg;
+import io.dataspaceconnector.service.message.handler.dto.StreamResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.camel.Exchange;
@@ -50,6 +51,9 @@ public class ClearingHouseLoggingProcessor implements Processor {
         if (msg == null) {
             msg = exchange.getIn().getBody(Response.class);
         }
+        if (msg == null) {
+            msg = exchange.getIn().getBody(StreamResponse.class);
+        }
 
         clearingHouseSvc.logIdsMessage((Message) msg.getHeader());
     }
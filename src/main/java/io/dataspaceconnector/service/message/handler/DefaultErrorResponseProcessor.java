@@ -19,6 +19,7 @@ import de.fraunhofer.iais.eis.RejectionReason;
 import ids.messaging.response.ErrorResponse;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.service.message.handler.dto.Response;
+import io.dataspaceconnector.service.message.handler.dto.StreamResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.camel.Exchange;
@@ -50,7 +51,8 @@ public class DefaultErrorResponseProcessor implements Processor {
     @Override
     public void process(final Exchange exchange) throws Exception {
         final var response = exchange.getIn().getBody(Response.class);
-        if (response == null) {
+        final var streamResponse = exchange.getIn().getBody(StreamResponse.class);
+        if (response == null && streamResponse == null) {
             final var errorResponse = exchange.getIn().getBody(ErrorResponse.class);
             if (errorResponse == null) {
                 final var defaultResponse = ErrorResponse.withDefaultHeader(
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.message.handler.dto;
+
+import de.fraunhofer.iais.eis.Message;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.InputStream;
+
+/**
+ * Implementation of the {@link RouteMsg} interface for responses whose payload is streamed
+ * instead of being held as a string, e.g. the data of an artifact. The payload is read only once,
+ * when the response is written.
+ */
+@Data
+@RequiredArgsConstructor
+public class StreamResponse implements RouteMsg<Message, InputStream> {
+    /**
+     * The header.
+     */
+    private final @NonNull Message header;
+
+    /**
+     * The body/payload.
+     */
+    private final @NonNull InputStream body;
+}
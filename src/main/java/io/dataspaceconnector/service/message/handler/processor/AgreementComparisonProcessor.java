@@ -20,7 +20,7 @@ import de.fraunhofer.iais.eis.ContractAgreementMessageImpl;
 import io.dataspaceconnector.common.exception.ContractException;
 import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
-import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.common.ids.policy.ContractUtils;
 import io.dataspaceconnector.model.agreement.Agreement;
@@ -55,9 +55,9 @@ class AgreementComparisonProcessor extends IdsProcessor<
     private final @NonNull EntityResolver entityResolver;
 
     /**
-     * Service for ids deserialization.
+     * Cache of deserialized contract agreements.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull ContractAgreementCache agreementCache;
 
     /**
      * Service for updating database entities from ids object.
@@ -92,8 +92,7 @@ class AgreementComparisonProcessor extends IdsProcessor<
             throw new ResourceNotFoundException(ErrorMessage.EMTPY_ENTITY.toString());
         }
         final var storedAgreement = (Agreement) entity.get();
-        final var storedIdsAgreement =
-                deserializationService.getContractAgreement(storedAgreement.getValue());
+        final var storedIdsAgreement = agreementCache.get(storedAgreement);
 
         if (!ContractUtils.compareContractAgreements(agreement, storedIdsAgreement)) {
             throw new ContractException("Received agreement does not match stored agreement.");
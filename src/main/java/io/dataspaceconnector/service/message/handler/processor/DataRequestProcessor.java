@@ -24,7 +24,7 @@ import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.model.message.ArtifactResponseMessageDesc;
 import io.dataspaceconnector.service.EntityResolver;
 import io.dataspaceconnector.service.message.builder.type.ArtifactResponseService;
-import io.dataspaceconnector.service.message.handler.dto.Response;
+import io.dataspaceconnector.service.message.handler.dto.StreamResponse;
 import io.dataspaceconnector.service.message.handler.dto.RouteMsg;
 import io.dataspaceconnector.service.message.handler.processor.base.IdsProcessor;
 import io.jsonwebtoken.Claims;
@@ -33,7 +33,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
 /**
  * Fetches the data of an artifact as the response to an ArtifactRequestMessage.
@@ -59,13 +58,14 @@ class DataRequestProcessor extends IdsProcessor<
      * ArtifactResponseMessage as the response header.
      *
      * @param msg the incoming message.
-     * @return a Response object with an ArtifactResponseMessage as header and the data as payload.
+     * @return a StreamResponse with an ArtifactResponseMessage as header and the Base64-encoded
+     *         data as payload.
      * @throws Exception if the {@link QueryInput} given in the request's payload is invalid or
      *                   there is an error fetching the data or an error occurs building the
      *                   response.
      */
     @Override
-    protected Response processInternal(final RouteMsg<ArtifactRequestMessageImpl,
+    protected StreamResponse processInternal(final RouteMsg<ArtifactRequestMessageImpl,
             MessagePayload> msg, final Jws<Claims> claims) throws Exception {
         final var artifact = MessageUtils.extractRequestedArtifact(msg.getHeader());
         final var issuer = MessageUtils.extractIssuerConnector(msg.getHeader());
@@ -78,7 +78,7 @@ class DataRequestProcessor extends IdsProcessor<
         final var desc = new ArtifactResponseMessageDesc(issuer, messageId, transferContract);
         final var responseHeader = messageService.buildMessage(desc);
 
-        return new Response(responseHeader, Base64Utils.encodeToString(data.readAllBytes()));
+        return new StreamResponse(responseHeader, MessageUtils.encodePayload(data));
     }
 
     /**
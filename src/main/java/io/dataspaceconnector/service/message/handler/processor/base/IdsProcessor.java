@@ -17,8 +17,8 @@ package io.dataspaceconnector.service.message.handler.processor.base;
 
 import java.util.Optional;
 
+import de.fraunhofer.iais.eis.Message;
 import io.dataspaceconnector.service.message.handler.dto.Request;
-import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.message.handler.dto.RouteMsg;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
@@ -61,5 +61,6 @@ public abstract class IdsProcessor<I extends RouteMsg<?, ?>> implements Processo
      * @return the generated response.
      * @throws Exception if an error occurs.
      */
-    protected abstract Response processInternal(I msg, Jws<Claims> claims) throws Exception;
+    protected abstract RouteMsg<Message, ?> processInternal(I msg, Jws<Claims> claims)
+            throws Exception;
 }
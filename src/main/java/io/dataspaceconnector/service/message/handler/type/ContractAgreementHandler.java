@@ -19,6 +19,7 @@ import de.fraunhofer.iais.eis.ContractAgreementMessageImpl;
 import ids.messaging.handler.message.SupportedMessageType;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.service.message.handler.type.base.AbstractMessageHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.camel.CamelContext;
 import org.apache.camel.ProducerTemplate;
 import org.springframework.stereotype.Component;
@@ -39,11 +40,13 @@ public class ContractAgreementHandler extends AbstractMessageHandler<ContractAgr
      * @param template         Template for triggering Camel routes.
      * @param context          Camel Context required for constructing the {@link ProducerTemplate}.
      * @param connectorService Service for the current connector configuration.
+     * @param meterRegistry    The registry for the message handling metrics.
      */
     public ContractAgreementHandler(final ProducerTemplate template,
                                     final CamelContext context,
-                                    final ConnectorService connectorService) {
-        super(template, context, connectorService);
+                                    final ConnectorService connectorService,
+                                    final MeterRegistry meterRegistry) {
+        super(template, context, connectorService, meterRegistry);
     }
 
     /**
@@ -28,21 +28,31 @@ import ids.messaging.response.ErrorResponse;
 import ids.messaging.response.MessageResponse;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.extension.telemetry.CustomOpenTelemetry;
+import io.dataspaceconnector.extension.telemetry.TracePropagation;
 import io.dataspaceconnector.service.message.handler.dto.Request;
 import io.dataspaceconnector.service.message.handler.dto.Response;
+import io.dataspaceconnector.service.message.handler.dto.StreamResponse;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.ExchangeBuilder;
+import org.springframework.core.io.InputStreamResource;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Superclass for all message handlers, that contains the logic for processing an incoming request
@@ -54,6 +64,11 @@ import java.util.Optional;
 public abstract class AbstractMessageHandler<T extends Message>
         implements MessageAndClaimsHandler<T> {
 
+    /**
+     * The names of the message types, by message class.
+     */
+    private static final Map<Class<?>, String> MESSAGE_TYPES = new ConcurrentHashMap<>();
+
     /**
      * Template for triggering Camel routes.
      */
@@ -69,6 +84,16 @@ public abstract class AbstractMessageHandler<T extends Message>
      */
     private final @NonNull ConnectorService connectorService;
 
+    /**
+     * The registry for the message handling metrics.
+     */
+    private final @NonNull MeterRegistry meterRegistry;
+
+    /**
+     * The message handling timers, by message class and outcome.
+     */
+    private final Map<Class<?>, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
     /**
      * This message implements the logic that is needed to handle the message. It creates an
      * {@link org.apache.camel.Exchange} and triggers the route specified by the implementing class.
@@ -83,7 +108,10 @@ public abstract class AbstractMessageHandler<T extends Message>
                                          final MessagePayload payload,
                                          final Optional<Jws<Claims>> claims)
             throws RuntimeException {
-        Optional<Span> span = startSpan(message);
+        final var span = startSpan(message);
+        final var scope = span.map(Span::makeCurrent);
+        final var start = System.nanoTime();
+        var outcome = "error";
         try {
             final var result = template.send(getHandlerRouteDirect(),
                     ExchangeBuilder.anExchange(context)
@@ -92,9 +120,19 @@ public abstract class AbstractMessageHandler<T extends Message>
 
             final var response = result.getIn().getBody(Response.class);
             if (response != null) {
+                outcome = "success";
                 return BodyResponse.create(response.getHeader(), response.getBody());
+            }
+
+            final var streamResponse = result.getIn().getBody(StreamResponse.class);
+            if (streamResponse != null) {
+                outcome = "success";
+                // The resource is copied to the multipart response part by part.
+                return BodyResponse.create(streamResponse.getHeader(),
+                        new InputStreamResource(streamResponse.getBody()));
             } else {
                 final var errorResponse = result.getIn().getBody(ErrorResponse.class);
+                outcome = "rejected";
                 return Objects.requireNonNullElseGet(errorResponse,
                         () -> ErrorResponse.withDefaultHeader(
                                 RejectionReason.INTERNAL_RECIPIENT_ERROR,
@@ -102,11 +140,52 @@ public abstract class AbstractMessageHandler<T extends Message>
                                 connectorService.getConnectorId(),
                                 connectorService.getOutboundModelVersion()));
             }
+        } catch (RuntimeException e) {
+            span.ifPresent(x -> x.recordException(e).setStatus(StatusCode.ERROR));
+            throw e;
         } finally {
+            scope.ifPresent(Scope::close);
             span.ifPresent(Span::end);
+            recordLatency(message, outcome, System.nanoTime() - start);
         }
     }
 
+    /**
+     * Records the time it took to handle a message, by message type and outcome.
+     *
+     * @param message  The incoming message.
+     * @param outcome  Whether the message was handled successfully, rejected or failed.
+     * @param duration The duration in nanoseconds.
+     */
+    private void recordLatency(final T message, final String outcome, final long duration) {
+        final Class<?> type = message == null ? Message.class : message.getClass();
+        timers.computeIfAbsent(type, this::registerTimers)
+                .get(outcome)
+                .record(duration, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registers the timers of a message type for all outcomes.
+     *
+     * @param type The message class, {@link Message} if the message is unknown.
+     * @return The timers, by outcome.
+     */
+    private Map<String, Timer> registerTimers(final Class<?> type) {
+        final var name = Message.class.equals(type) ? "unknown" : getMessageType(type);
+        return Map.of(
+                "success", messageTimer(name, "success"),
+                "rejected", messageTimer(name, "rejected"),
+                "error", messageTimer(name, "error"));
+    }
+
+    private Timer messageTimer(final String type, final String outcome) {
+        return Timer.builder("dsc.ids.messages")
+                .description("Time taken to handle incoming IDS messages")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     /**
      * Starts the OTEL span if message is present.
      *
@@ -118,12 +197,21 @@ public abstract class AbstractMessageHandler<T extends Message>
         Optional<Span> span = Optional.empty();
         if (message != null) {
             span = Optional.of(CustomOpenTelemetry.getTracer()
-                    .spanBuilder("Handle " + message.getClass()
-                            .getSimpleName().replace("Impl", "")).startSpan());
+                    .spanBuilder("Handle " + getMessageType(message))
+                    .setParent(TracePropagation.getParentContext())
+                    .startSpan());
         }
         return span;
     }
 
+    private static String getMessageType(final Message message) {
+        return getMessageType(message.getClass());
+    }
+
+    private static String getMessageType(final Class<?> type) {
+        return MESSAGE_TYPES.computeIfAbsent(type, x -> x.getSimpleName().replace("Impl", ""));
+    }
+
     /**
      * Returns the direct-component-reference to this handler's Camel route.
      *
@@ -91,10 +91,12 @@ public abstract class AbstractRelationService<K extends Entity, W extends Entity
     protected abstract List<W> getInternal(K owner);
 
     /**
-     * Receives a page of children assigned to the entity.
+     * Receives a page of children assigned to the entity. The default implementation loads
+     * the complete collection and slices it in memory, relations that may grow large should
+     * override this with a paged repository query.
      *
      * @param owner    The entity whose children should be received.
-     * @param pageable The children assigned to the entity.
+     * @param pageable The range selection of the children.
      * @return The page of the children entities.
      */
     protected Page<W> getInternal(final K owner, final Pageable pageable) {
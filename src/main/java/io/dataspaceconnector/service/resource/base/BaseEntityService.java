@@ -30,6 +30,7 @@ import lombok.Setter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -112,6 +113,18 @@ public class BaseEntityService<T extends Entity, D extends Description>
         return entity.get();
     }
 
+    /**
+     * Get an entity by its id, if it exists.
+     *
+     * @param entityId The id of the entity.
+     * @return The entity, if it exists.
+     * @throws IllegalArgumentException if the passed id is null.
+     */
+    public Optional<T> find(final UUID entityId) {
+        Utils.requireNonNull(entityId, ErrorMessage.ENTITYID_NULL);
+        return repository.findById(entityId);
+    }
+
     /**
      * Get a list of all entities with of the same type.
      *
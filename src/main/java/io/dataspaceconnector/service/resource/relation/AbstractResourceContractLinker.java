@@ -21,6 +21,8 @@ import io.dataspaceconnector.service.resource.base.OwningRelationService;
 import io.dataspaceconnector.service.resource.type.ContractService;
 import io.dataspaceconnector.service.resource.type.ResourceService;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -42,4 +44,16 @@ public abstract class AbstractResourceContractLinker<T extends Resource>
     protected List<Contract> getInternal(final Resource owner) {
         return owner.getContracts();
     }
+
+    /**
+     * Get a page of the contracts owned by the resource, selected by the database.
+     *
+     * @param owner    The owner of the contracts.
+     * @param pageable The range selection.
+     * @return The page of owned contracts.
+     */
+    @Override
+    protected Page<Contract> getInternal(final T owner, final Pageable pageable) {
+        return getManyService().getAllByResource(owner.getId(), pageable);
+    }
 }
@@ -21,6 +21,8 @@ import io.dataspaceconnector.service.resource.base.OwningRelationService;
 import io.dataspaceconnector.service.resource.type.RepresentationService;
 import io.dataspaceconnector.service.resource.type.ResourceService;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -43,4 +45,16 @@ public abstract class AbstractResourceRepresentationLinker<T extends Resource>
     protected List<Representation> getInternal(final Resource owner) {
         return owner.getRepresentations();
     }
+
+    /**
+     * Get a page of the representations owned by the resource, selected by the database.
+     *
+     * @param owner    The owner of the representations.
+     * @param pageable The range selection.
+     * @return The page of owned representations.
+     */
+    @Override
+    protected Page<Representation> getInternal(final T owner, final Pageable pageable) {
+        return getManyService().getAllByResource(owner.getId(), pageable);
+    }
 }
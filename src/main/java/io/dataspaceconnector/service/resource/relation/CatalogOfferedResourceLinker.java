@@ -18,6 +18,8 @@ package io.dataspaceconnector.service.resource.relation;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.resource.OfferedResource;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -34,4 +36,9 @@ public final class CatalogOfferedResourceLinker
     protected List<OfferedResource> getInternal(final Catalog owner) {
         return owner.getOfferedResources();
     }
+
+    @Override
+    protected Page<OfferedResource> getInternal(final Catalog owner, final Pageable pageable) {
+        return getOneService().getOfferedResources(owner.getId(), pageable);
+    }
 }
@@ -18,6 +18,8 @@ package io.dataspaceconnector.service.resource.relation;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.resource.RequestedResource;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -34,4 +36,9 @@ public final class CatalogRequestedResourceLinker
     protected List<RequestedResource> getInternal(final Catalog owner) {
         return owner.getRequestedResources();
     }
+
+    @Override
+    protected Page<RequestedResource> getInternal(final Catalog owner, final Pageable pageable) {
+        return getOneService().getRequestedResources(owner.getId(), pageable);
+    }
 }
@@ -21,6 +21,8 @@ import io.dataspaceconnector.service.resource.base.OwningRelationService;
 import io.dataspaceconnector.service.resource.type.ContractService;
 import io.dataspaceconnector.service.resource.type.RuleService;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -42,4 +44,16 @@ public class ContractRuleLinker extends OwningRelationService<Contract, Contract
     protected List<ContractRule> getInternal(final Contract owner) {
         return owner.getRules();
     }
+
+    /**
+     * Get a page of the rules owned by the contract, selected by the database.
+     *
+     * @param owner    The owner of the rules.
+     * @param pageable The range selection.
+     * @return The page of owned rules.
+     */
+    @Override
+    protected Page<ContractRule> getInternal(final Contract owner, final Pageable pageable) {
+        return getManyService().getAllByContract(owner.getId(), pageable);
+    }
 }
@@ -21,6 +21,8 @@ import io.dataspaceconnector.service.resource.base.OwningRelationService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import io.dataspaceconnector.service.resource.type.RepresentationService;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -43,4 +45,16 @@ public class RepresentationArtifactLinker extends OwningRelationService<Represen
     protected List<Artifact> getInternal(final Representation owner) {
         return owner.getArtifacts();
     }
+
+    /**
+     * Get a page of the artifacts owned by the representation, selected by the database.
+     *
+     * @param owner    The owner of the artifacts.
+     * @param pageable The range selection.
+     * @return The page of owned artifacts.
+     */
+    @Override
+    protected Page<Artifact> getInternal(final Representation owner, final Pageable pageable) {
+        return getManyService().getAllByRepresentation(owner.getId(), pageable);
+    }
 }
@@ -19,7 +19,9 @@
  */
 package io.dataspaceconnector.service.resource.spring;
 
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
+import io.dataspaceconnector.common.routing.RouteDataMulticaster;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.agreement.AgreementFactory;
 import io.dataspaceconnector.model.app.AppFactory;
@@ -62,6 +64,7 @@ import io.dataspaceconnector.repository.RuleRepository;
 import io.dataspaceconnector.repository.SubscriptionRepository;
 import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.LocalDataService;
 import io.dataspaceconnector.service.appstore.portainer.PortainerService;
 import io.dataspaceconnector.service.resource.ids.builder.IdsConfigModelBuilder;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
@@ -85,6 +88,7 @@ import io.dataspaceconnector.service.resource.type.RuleService;
 import io.dataspaceconnector.service.resource.type.SubscriptionService;
 import io.dataspaceconnector.service.routing.BeanManager;
 import io.dataspaceconnector.service.routing.RouteHelper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -98,13 +102,15 @@ public class ResourceConfig {
     /**
      * Create an agreement service bean.
      *
-     * @param repo The agreement repo.
+     * @param repo  The agreement repo.
+     * @param cache The cache of deserialized contract agreements.
      * @return The agreement service.
      */
     @Bean("agreementService")
     public AgreementService createAgreementService(
-            @Qualifier("agreementRepository") final AgreementRepository repo) {
-        return new AgreementService(repo, new AgreementFactory());
+            @Qualifier("agreementRepository") final AgreementRepository repo,
+            final ContractAgreementCache cache) {
+        return new AgreementService(repo, new AgreementFactory(), cache);
     }
 
     /**
@@ -116,6 +122,9 @@ public class ResourceConfig {
      * @param artifactRouteSvc The artifact-route-relation service.
      * @param retriever        The data retriever.
      * @param dispatcher       The route data dispatcher.
+     * @param multicaster      The route data multicaster.
+     * @param localDataSvc     The local data service.
+     * @param meterRegistry    The registry for the data metrics.
      * @return The artifact service bean.
      */
     @Bean("artifactService")
@@ -125,9 +134,13 @@ public class ResourceConfig {
             final AuthenticationRepository authRepo,
             final ArtifactRouteService artifactRouteSvc,
             final DataRetriever retriever,
-            final RouteDataDispatcher dispatcher) {
+            final RouteDataDispatcher dispatcher,
+            final RouteDataMulticaster multicaster,
+            final LocalDataService localDataSvc,
+            final MeterRegistry meterRegistry) {
         return new ArtifactService(repository, new ArtifactFactory(),
-                dataRepository, authRepo, artifactRouteSvc, retriever, dispatcher);
+                dataRepository, authRepo, artifactRouteSvc, retriever, dispatcher,
+                multicaster, localDataSvc, meterRegistry);
     }
 
     /**
@@ -137,6 +150,7 @@ public class ResourceConfig {
      * @param appStoreSvc The appstore service.
      * @param dataRepo The data repository.
      * @param portainerSvc The portainer service.
+     * @param localDataSvc The local data service.
      * @return The app service bean.
      */
     @Bean("appService")
@@ -144,8 +158,10 @@ public class ResourceConfig {
             final AppRepository repository,
             final AppStoreService appStoreSvc,
             final DataRepository dataRepo,
-            final PortainerService portainerSvc) {
-        return new AppService(repository, new AppFactory(), appStoreSvc, dataRepo, portainerSvc);
+            final PortainerService portainerSvc,
+            final LocalDataService localDataSvc) {
+        return new AppService(repository, new AppFactory(), appStoreSvc, dataRepo, portainerSvc,
+                localDataSvc);
     }
 
     /**
@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
 import io.dataspaceconnector.model.agreement.Agreement;
 import io.dataspaceconnector.model.agreement.AgreementDesc;
 import io.dataspaceconnector.model.base.AbstractFactory;
@@ -22,21 +23,50 @@ import io.dataspaceconnector.repository.AgreementRepository;
 import io.dataspaceconnector.repository.BaseEntityRepository;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
 
+import java.util.UUID;
+
 /**
  * Handles the basic logic for contracts.
  */
 public class AgreementService extends BaseEntityService<Agreement, AgreementDesc> {
 
+    /**
+     * The cache of deserialized contract agreements.
+     */
+    private final ContractAgreementCache agreementCache;
+
     /**
      * Constructor.
      *
      * @param repository The underlying agreement repo.
      * @param factory    The factory for the agreement logic.
+     * @param cache      The cache of deserialized contract agreements.
      */
     public AgreementService(
             final BaseEntityRepository<Agreement> repository,
-            final AbstractFactory<Agreement, AgreementDesc> factory) {
+            final AbstractFactory<Agreement, AgreementDesc> factory,
+            final ContractAgreementCache cache) {
         super(repository, factory);
+        this.agreementCache = cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Agreement update(final UUID entityId, final AgreementDesc desc) {
+        final var agreement = super.update(entityId, desc);
+        agreementCache.evict(entityId);
+        return agreement;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(final UUID entityId) {
+        super.delete(entityId);
+        agreementCache.evict(entityId);
     }
 
     /**
@@ -55,6 +85,7 @@ public class AgreementService extends BaseEntityService<Agreement, AgreementDesc
         if (persisted.equals(agreement)) {
             final var repo = (AgreementRepository) getRepository();
             repo.confirmAgreement(agreement.getId());
+            agreementCache.evict(agreement.getId());
             isConfirmed = true;
         }
 
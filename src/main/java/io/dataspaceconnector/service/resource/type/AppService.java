@@ -19,8 +19,10 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
+import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.exception.NotImplemented;
 import io.dataspaceconnector.common.exception.UnreachableLineException;
+import io.dataspaceconnector.common.util.Utils;
 import io.dataspaceconnector.model.app.App;
 import io.dataspaceconnector.model.app.AppDesc;
 import io.dataspaceconnector.model.app.AppFactory;
@@ -31,6 +33,7 @@ import io.dataspaceconnector.model.base.AbstractFactory;
 import io.dataspaceconnector.repository.AppRepository;
 import io.dataspaceconnector.repository.BaseEntityRepository;
 import io.dataspaceconnector.repository.DataRepository;
+import io.dataspaceconnector.service.LocalDataService;
 import io.dataspaceconnector.service.appstore.portainer.PortainerService;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
 import io.dataspaceconnector.service.resource.base.RemoteResolver;
@@ -40,7 +43,6 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -70,6 +72,11 @@ public class AppService extends BaseEntityService<App, AppDesc> implements Remot
      */
     private final @NonNull PortainerService portainerRequestSvc;
 
+    /**
+     * Reads and writes the content of local data.
+     */
+    private final @NonNull LocalDataService localDataSvc;
+
     /**
      * Constructor for AppService.
      * @param repository The app repository.
@@ -77,19 +84,38 @@ public class AppService extends BaseEntityService<App, AppDesc> implements Remot
      * @param appStoreService The appstore service.
      * @param dataRepository The data repository.
      * @param portainerService The portainer request service.
+     * @param localDataService The local data service.
      */
     public AppService(
             final BaseEntityRepository<App> repository,
             final AbstractFactory<App, AppDesc> factory,
             final @NonNull AppStoreService appStoreService,
             final @NonNull DataRepository dataRepository,
-            final @NonNull PortainerService portainerService) {
+            final @NonNull PortainerService portainerService,
+            final @NonNull LocalDataService localDataService) {
         super(repository, factory);
         this.appStoreSvc = appStoreService;
         this.dataRepo = dataRepository;
         this.portainerRequestSvc = portainerService;
+        this.localDataSvc = localDataService;
     }
 
+    /**
+     * Deletes an app with the given id and releases the content of its local data.
+     *
+     * @param appId The id of the entity.
+     * @throws IllegalArgumentException if the passed id is null.
+     */
+    @Override
+    public void delete(final UUID appId) {
+        Utils.requireNonNull(appId, ErrorMessage.ENTITYID_NULL);
+
+        final var data = ((AppImpl) get(appId)).getData();
+        super.delete(appId);
+        if (data instanceof LocalData localData) {
+            localDataSvc.release(localData.getReference());
+        }
+    }
 
     /**
      * {@inheritDoc}
@@ -131,10 +157,8 @@ public class AppService extends BaseEntityService<App, AppDesc> implements Remot
     private void setAppTemplate(final UUID appArtifactId, final InputStream data,
                                 final LocalData localData) throws IOException {
         try {
-            // Update the internal database and return the new data.
-            final var bytes = data.readAllBytes();
-            data.close();
-            dataRepo.setLocalData(localData.getId(), bytes);
+            // Update the stored data.
+            localDataSvc.write(localData, data);
         } catch (IOException e) {
             if (log.isErrorEnabled()) {
                 log.error("Failed to store data. [artifactId=({}), exception=({})]",
@@ -150,8 +174,9 @@ public class AppService extends BaseEntityService<App, AppDesc> implements Remot
      *
      * @param app The app.
      * @return The data as input stream.
+     * @throws IOException if the data cannot be read.
      */
-    public InputStream getDataFromInternalDB(final AppImpl app) {
+    public InputStream getDataFromInternalDB(final AppImpl app) throws IOException {
         final var data = app.getData();
 
         InputStream rawData;
@@ -164,12 +189,8 @@ public class AppService extends BaseEntityService<App, AppDesc> implements Remot
         return rawData;
     }
 
-    private InputStream getData(final LocalData data) {
-        return toInputStream(data.getValue());
-    }
-
-    private InputStream toInputStream(final byte[] data) {
-        return new ByteArrayInputStream(data);
+    private InputStream getData(final LocalData data) throws IOException {
+        return localDataSvc.read(data);
     }
 
     /**
@@ -20,6 +20,7 @@
 package io.dataspaceconnector.service.resource.type;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -32,9 +33,13 @@ import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.exception.InvalidEntityException;
 import io.dataspaceconnector.common.exception.NotImplemented;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
+import io.dataspaceconnector.common.routing.RouteDataMulticaster;
+import io.dataspaceconnector.common.storage.StoredData;
+import io.dataspaceconnector.common.storage.StoredFileInputStream;
 import io.dataspaceconnector.common.usagecontrol.AccessVerificationInput;
 import io.dataspaceconnector.common.usagecontrol.PolicyVerifier;
 import io.dataspaceconnector.common.usagecontrol.VerificationResult;
@@ -54,9 +59,13 @@ import io.dataspaceconnector.repository.BaseEntityRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.ArtifactRetriever;
 import io.dataspaceconnector.service.DataRetriever;
+import io.dataspaceconnector.service.LocalDataService;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
 import io.dataspaceconnector.service.resource.base.RemoteResolver;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -64,6 +73,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.SerializationUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 /**
  * Handles the basic logic for artifacts.
@@ -99,6 +110,26 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      */
     private final @NonNull RouteDataDispatcher routeDispatcher;
 
+    /**
+     * Dispatches data using several Camel routes at once.
+     */
+    private final @NonNull RouteDataMulticaster routeMulticaster;
+
+    /**
+     * Reads and writes the content of local data.
+     */
+    private final @NonNull LocalDataService localDataSvc;
+
+    /**
+     * Counts the bytes of artifact data served.
+     */
+    private final @NonNull Counter bytesServed;
+
+    /**
+     * Counts the bytes of artifact data received and stored.
+     */
+    private final @NonNull Counter bytesReceived;
+
     /**
      * Constructor for ArtifactService.
      *
@@ -109,6 +140,9 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * @param artifactRouteService     The Artifact-Route-relation service.
      * @param retriever                The data retriever.
      * @param routeDataDispatcher      The route data dispatcher.
+     * @param routeDataMulticaster     The route data multicaster.
+     * @param localDataService         The local data service.
+     * @param meterRegistry            The registry for the data metrics.
      */
     public ArtifactService(final BaseEntityRepository<Artifact> repository,
                            final AbstractFactory<Artifact, ArtifactDesc> factory,
@@ -116,13 +150,28 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                            final @NonNull AuthenticationRepository authenticationRepository,
                            final @NonNull ArtifactRouteService artifactRouteService,
                            final @NonNull DataRetriever retriever,
-                           final @NonNull RouteDataDispatcher routeDataDispatcher) {
+                           final @NonNull RouteDataDispatcher routeDataDispatcher,
+                           final @NonNull RouteDataMulticaster routeDataMulticaster,
+                           final @NonNull LocalDataService localDataService,
+                           final @NonNull MeterRegistry meterRegistry) {
         super(repository, factory);
         this.dataRepo = dataRepository;
         this.authRepo = authenticationRepository;
         this.artifactRouteSvc = artifactRouteService;
         this.dataRetriever = retriever;
         this.routeDispatcher = routeDataDispatcher;
+        this.routeMulticaster = routeDataMulticaster;
+        this.localDataSvc = localDataService;
+        this.bytesServed = dataCounter("served", meterRegistry);
+        this.bytesReceived = dataCounter("received", meterRegistry);
+    }
+
+    private static Counter dataCounter(final String direction, final MeterRegistry registry) {
+        return Counter.builder("dsc.artifact.data")
+                .description("Bytes of artifact data served or received")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("direction", direction)
+                .register(registry);
     }
 
     /**
@@ -187,6 +236,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
 
         var artifact = get(artifactId);
         final var cached = SerializationUtils.clone(artifact);
+        final var previousData = ((ArtifactImpl) cached).getData();
 
         if (getFactory().update(artifact, desc)) {
             final var tmp = (ArtifactImpl) artifact;
@@ -230,6 +280,8 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                     throw exception;
                 }
             }
+
+            releaseData(previousData, ((ArtifactImpl) artifact).getData());
         }
 
         return artifact;
@@ -267,7 +319,8 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         // The artifact is not assigned to any requested resources. It must be offered if it exists.
         final var artifact = get(artifactId);
         var data = dataRetriever.retrieveData((ArtifactImpl) artifact, queryInput);
-        return returnData(artifact, data, routeIds);
+        incrementAccessCounter(artifact, Long.MAX_VALUE);
+        return returnData(data, routeIds);
     }
 
     private InputStream tryToAccessDataByUsingAnyAgreement(
@@ -310,20 +363,34 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     }
 
     /**
-     * Increases the access counter before returning data. If a list of route IDs for dispatching
-     * the data is specified, the data is dispatched via all referenced routes before returning it.
+     * Returns the data. If a list of route IDs for dispatching the data is specified, the data is
+     * dispatched via all referenced routes before returning it.
      *
-     * @param artifact The artifact.
      * @param data     The data.
      * @param routeIds The route IDs for dispatching data.
      * @return The data.
      * @throws IOException if the data cannot be read or there is a failure in one of the
      *                     routes.
      */
-    private InputStream returnData(final Artifact artifact, final InputStream data,
-                                   final List<URI> routeIds) throws IOException {
-        incrementAccessCounter(artifact);
-        return new DataDispatcher(routeIds, data).dispatch();
+    private InputStream returnData(final InputStream data, final List<URI> routeIds)
+            throws IOException {
+        return countServed(new DataDispatcher(routeIds, data).dispatch());
+    }
+
+    /**
+     * Count the bytes served from a stream. Data held in a file is not wrapped, so that it can
+     * still be served partially.
+     *
+     * @param data The data.
+     * @return The counted data.
+     */
+    private InputStream countServed(final InputStream data) {
+        if (data instanceof StoredFileInputStream file) {
+            file.setTransferListener(bytesServed::increment);
+            return file;
+        }
+
+        return new CountingInputStream(data, bytesServed);
     }
 
     /**
@@ -350,21 +417,29 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
             throws PolicyRestrictionException, IOException {
         // Check the artifact exists and access is granted.
         final var artifact = get(artifactId);
-        verifyDataAccess(accessVerifier,
-                new AccessVerificationInput(information.getTransferContract(), artifact));
-
-        // Make sure the data exists and is up to date.
-        if (shouldDownload(artifact, information)) {
-            final var data = downloadAndUpdateData(retriever, artifactId, information, artifact,
-                    routeIds);
-            incrementAccessCounter(artifact);
-            return data;
-        }
+        final var verificationInput =
+                new AccessVerificationInput(information.getTransferContract(), artifact);
+        verifyDataAccess(accessVerifier, verificationInput);
 
-        // Artifact exists, access granted, data exists and data up to date.
-        var data = dataRetriever.retrieveData((ArtifactImpl) artifact,
-                information.getQueryInput());
-        return returnData(artifact, data, routeIds);
+        // Count the access before retrieving the data, so that concurrent requests cannot
+        // exceed the number of allowed accesses.
+        incrementAccessCounter(artifact, verificationInput.getAccessLimit());
+        try {
+            // Make sure the data exists and is up to date.
+            if (shouldDownload(artifact, information)) {
+                return downloadAndUpdateData(retriever, artifactId, information, artifact,
+                        routeIds);
+            }
+
+            // Artifact exists, access granted, data exists and data up to date.
+            var data = dataRetriever.retrieveData((ArtifactImpl) artifact,
+                    information.getQueryInput());
+            return returnData(data, routeIds);
+        } catch (IOException | RuntimeException exception) {
+            // The data has not been accessed.
+            ((ArtifactRepository) getRepository()).decrementAccessCounter(artifact.getId());
+            throw exception;
+        }
     }
 
     private void verifyDataAccess(final PolicyVerifier<AccessVerificationInput> accessVerifier,
@@ -390,15 +465,30 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                 information.getQueryInput());
 
         if (routeIds != null && !routeIds.isEmpty()) {
-            return new DataDispatcher(routeIds, dataStream).dispatch();
+            return returnData(dataStream, routeIds);
         } else {
-            return setData(artifactId, dataStream);
+            return countServed(setData(artifactId, dataStream));
         }
     }
 
-    private void incrementAccessCounter(final Artifact artifact) {
-        artifact.incrementAccessCounter();
-        persist(artifact);
+    /**
+     * Increments the access counter of an artifact, if the given limit has not been reached yet.
+     *
+     * @param artifact The artifact.
+     * @param limit    The maximum number of accesses.
+     * @throws PolicyRestrictionException if the limit has been reached.
+     */
+    private void incrementAccessCounter(final Artifact artifact, final long limit)
+            throws PolicyRestrictionException {
+        final var updated = ((ArtifactRepository) getRepository())
+                .incrementAccessCounter(artifact.getId(), limit);
+        if (updated == 0 && limit < Long.MAX_VALUE) {
+            if (log.isDebugEnabled()) {
+                log.debug("Access number reached. [artifactId=({})]", artifact.getId());
+            }
+
+            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_NUMBER_REACHED);
+        }
     }
 
     private boolean shouldDownload(final Artifact artifact,
@@ -432,6 +522,35 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         return ((ArtifactRepository) getRepository()).findAllByAgreement(agreementId);
     }
 
+    /**
+     * Finds a page of the artifacts of a specific representation.
+     *
+     * @param representationId ID of the representation.
+     * @param pageable         Range selection of the artifacts.
+     * @return page of the artifacts of the representation.
+     */
+    public Page<Artifact> getAllByRepresentation(final UUID representationId,
+                                                 final Pageable pageable) {
+        Utils.requireNonNull(representationId, ErrorMessage.ENTITYID_NULL);
+        Utils.requireNonNull(pageable, ErrorMessage.PAGEABLE_NULL);
+        return ((ArtifactRepository) getRepository()).findAllByRepresentation(representationId,
+                pageable);
+    }
+
+    /**
+     * Get how often the data of an artifact has been accessed, without loading the artifact.
+     *
+     * @param artifactId The id of the artifact.
+     * @return The access counter.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     */
+    public long getNumAccessed(final UUID artifactId) throws ResourceNotFoundException {
+        Utils.requireNonNull(artifactId, ErrorMessage.ENTITYID_NULL);
+        return ((ArtifactRepository) getRepository()).findNumAccessed(artifactId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        this.getClass().getSimpleName() + ": " + artifactId));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -451,6 +570,23 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      */
     @NonNull
     public InputStream setData(final UUID artifactId, final InputStream data) throws IOException {
+        return localDataSvc.read(writeData(artifactId, data));
+    }
+
+    /**
+     * Update an artifacts underlying data without reading it back. The data is streamed to the
+     * storage, so its size does not affect the memory consumption.
+     *
+     * @param artifactId The artifact which should be updated.
+     * @param data       The new data.
+     * @throws IOException if the data could not be stored.
+     */
+    public void replaceData(final UUID artifactId, final InputStream data) throws IOException {
+        writeData(artifactId, data);
+    }
+
+    private StoredData writeData(final UUID artifactId, final InputStream data)
+            throws IOException {
         final var artifact = get(artifactId);
         final var currentData = ((ArtifactImpl) artifact).getData();
         if (currentData instanceof LocalData localData) {
@@ -460,24 +596,23 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         }
     }
 
-    @NonNull
-    private ByteArrayInputStream setLocalData(final UUID artifactId,
-                                              final InputStream data,
-                                              final Artifact artifact,
-                                              final LocalData localData)
+    private StoredData setLocalData(final UUID artifactId,
+                                    final InputStream data,
+                                    final Artifact artifact,
+                                    final LocalData localData)
             throws IOException {
         try {
-            // Update the internal database and return the new data.
-            final var bytes = data.readAllBytes();
-            data.close();
-            dataRepo.setLocalData(localData.getId(), bytes);
-            if (((ArtifactFactory) getFactory()).updateByteSize(artifact, bytes)) {
+            // Update the stored data. Size and checksum are calculated while writing.
+            final var stored = localDataSvc.write(localData, data);
+            bytesReceived.increment(stored.getSize());
+            if (((ArtifactFactory) getFactory()).updateByteSize(artifact, stored.getSize(),
+                    stored.getChecksum())) {
                 ((ArtifactRepository) getRepository()).setArtifactData(artifactId,
                         artifact.getCheckSum(),
                         artifact.getByteSize());
             }
 
-            return new ByteArrayInputStream(bytes);
+            return stored;
         } catch (IOException e) {
             if (log.isErrorEnabled()) {
                 log.error("Failed to store data. [artifactId=({}), exception=({})]",
@@ -503,6 +638,31 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         artifactRouteSvc.removeRouteLink(artifact);
 
         getRepository().deleteById(artifactId);
+        releaseData(artifact.getData(), null);
+    }
+
+    /**
+     * Releases the stored content of local data that has been replaced or deleted. Local data
+     * that is no longer assigned to the artifact is deleted as well.
+     *
+     * @param previous The data before the change.
+     * @param current  The data after the change, null if the artifact has been deleted.
+     */
+    private void releaseData(final Data previous, final Data current) {
+        if (!(previous instanceof LocalData localData) || localData.getReference() == null) {
+            return;
+        }
+
+        if (current instanceof LocalData currentData
+                && localData.getReference().equals(currentData.getReference())) {
+            return;
+        }
+
+        if (current != null && !localData.getId().equals(current.getId())) {
+            dataRepo.deleteById(localData.getId());
+        }
+
+        localDataSvc.release(localData.getReference());
     }
 
     /**
@@ -528,8 +688,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         final var artifact = get(artifactId);
         final var currentData = ((ArtifactImpl) artifact).getData();
         if (currentData instanceof LocalData localData) {
-            final var value = localData.getValue();
-            return (value == null || !(value.length > 0));
+            return localDataSvc.isEmpty(localData);
         } else {
             // Only local data deletion supported.
             return false;
@@ -553,7 +712,8 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         private final @NonNull InputStream dataStream;
 
         /**
-         * Dispatches the data via all specified routes.
+         * Dispatches the data via all specified routes. In multicast mode, the routes run
+         * concurrently and the data is returned while they are still running.
          *
          * @return the data.
          * @throws IOException if the data cannot be read or there is a failure in one of the
@@ -561,6 +721,10 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
          */
         public InputStream dispatch() throws IOException {
             if (routeIds != null && !routeIds.isEmpty()) {
+                if (routeMulticaster.isEnabled()) {
+                    return routeMulticaster.multicast(routeIds, dataStream);
+                }
+
                 try {
                     final var data = dataStream.readAllBytes();
                     dataStream.close();
@@ -581,4 +745,38 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
             }
         }
     }
+
+    /**
+     * Counts the bytes read from a stream. Skipped bytes are not counted.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        /**
+         * The counter for the bytes read.
+         */
+        private final Counter counter;
+
+        CountingInputStream(final InputStream data, final Counter bytes) {
+            super(data);
+            this.counter = bytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var value = super.read();
+            if (value != -1) {
+                counter.increment();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var read = super.read(b, off, len);
+            if (read > 0) {
+                counter.increment(read);
+            }
+            return read;
+        }
+    }
 }
@@ -15,11 +15,20 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.util.Utils;
 import io.dataspaceconnector.model.base.AbstractFactory;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.catalog.CatalogDesc;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.resource.RequestedResource;
 import io.dataspaceconnector.repository.BaseEntityRepository;
+import io.dataspaceconnector.repository.CatalogRepository;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
 
 /**
  * Handles the basic logic for catalogs.
@@ -36,4 +45,34 @@ public class CatalogService extends BaseEntityService<Catalog, CatalogDesc> {
                           final AbstractFactory<Catalog, CatalogDesc> factory) {
         super(repository, factory);
     }
+
+    /**
+     * Finds a page of the offered resources of a catalog.
+     *
+     * @param catalogId The id of the catalog.
+     * @param pageable  Range selection of the offered resources.
+     * @return The page of offered resources in the catalog.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public Page<OfferedResource> getOfferedResources(final UUID catalogId,
+                                                     final Pageable pageable) {
+        Utils.requireNonNull(catalogId, ErrorMessage.ENTITYID_NULL);
+        Utils.requireNonNull(pageable, ErrorMessage.PAGEABLE_NULL);
+        return ((CatalogRepository) getRepository()).findOfferedResources(catalogId, pageable);
+    }
+
+    /**
+     * Finds a page of the requested resources of a catalog.
+     *
+     * @param catalogId The id of the catalog.
+     * @param pageable  Range selection of the requested resources.
+     * @return The page of requested resources in the catalog.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public Page<RequestedResource> getRequestedResources(final UUID catalogId,
+                                                         final Pageable pageable) {
+        Utils.requireNonNull(catalogId, ErrorMessage.ENTITYID_NULL);
+        Utils.requireNonNull(pageable, ErrorMessage.PAGEABLE_NULL);
+        return ((CatalogRepository) getRepository()).findRequestedResources(catalogId, pageable);
+    }
 }
@@ -23,6 +23,7 @@ import de.fraunhofer.iais.eis.ConfigurationModel;
 import ids.messaging.core.config.ConfigContainer;
 import ids.messaging.core.config.ConfigProperties;
 import ids.messaging.core.config.ConfigUpdateException;
+import io.dataspaceconnector.common.ids.SelfDescriptionCache;
 import io.dataspaceconnector.common.runtime.ServiceResolver;
 import io.dataspaceconnector.model.auth.AuthenticationDesc;
 import io.dataspaceconnector.model.base.AbstractFactory;
@@ -296,6 +297,8 @@ public class ConfigurationService extends BaseEntityService<Configuration, Confi
             }
 
             configBean.updateConfiguration(configuration);
+            svcResolver.getService(SelfDescriptionCache.class)
+                    .ifPresent(SelfDescriptionCache::invalidate);
         }
     }
 
@@ -23,6 +23,8 @@ import io.dataspaceconnector.model.contract.ContractDesc;
 import io.dataspaceconnector.repository.BaseEntityRepository;
 import io.dataspaceconnector.repository.ContractRepository;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
@@ -54,4 +56,17 @@ public class ContractService extends BaseEntityService<Contract, ContractDesc> {
         return ((ContractRepository) getRepository()).findAllByArtifactId(artifactId);
     }
 
+    /**
+     * Finds a page of the contracts of a resource.
+     *
+     * @param resourceId The id of the resource.
+     * @param pageable   Range selection of the contracts.
+     * @return The page of contracts of the resource.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public Page<Contract> getAllByResource(final UUID resourceId, final Pageable pageable) {
+        Utils.requireNonNull(resourceId, ErrorMessage.ENTITYID_NULL);
+        Utils.requireNonNull(pageable, ErrorMessage.PAGEABLE_NULL);
+        return ((ContractRepository) getRepository()).findAllByResource(resourceId, pageable);
+    }
 }
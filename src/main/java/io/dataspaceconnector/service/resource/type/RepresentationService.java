@@ -15,6 +15,8 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.util.Utils;
 import io.dataspaceconnector.model.base.AbstractFactory;
 import io.dataspaceconnector.model.representation.Representation;
 import io.dataspaceconnector.model.representation.RepresentationDesc;
@@ -22,6 +24,8 @@ import io.dataspaceconnector.repository.BaseEntityRepository;
 import io.dataspaceconnector.repository.RepresentationRepository;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
 import io.dataspaceconnector.service.resource.base.RemoteResolver;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.net.URI;
 import java.util.Optional;
@@ -53,4 +57,20 @@ public class RepresentationService extends BaseEntityService<Representation,
         final var repo = (RepresentationRepository) getRepository();
         return repo.identifyByRemoteId(remoteId);
     }
+
+    /**
+     * Finds a page of the representations of a resource.
+     *
+     * @param resourceId The id of the resource.
+     * @param pageable   Range selection of the representations.
+     * @return The page of representations of the resource.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public Page<Representation> getAllByResource(final UUID resourceId,
+                                                 final Pageable pageable) {
+        Utils.requireNonNull(resourceId, ErrorMessage.ENTITYID_NULL);
+        Utils.requireNonNull(pageable, ErrorMessage.PAGEABLE_NULL);
+        return ((RepresentationRepository) getRepository()).findAllByResource(resourceId,
+                pageable);
+    }
 }
@@ -23,6 +23,8 @@ import io.dataspaceconnector.model.rule.ContractRuleDesc;
 import io.dataspaceconnector.repository.BaseEntityRepository;
 import io.dataspaceconnector.repository.RuleRepository;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
@@ -54,4 +56,17 @@ public class RuleService extends BaseEntityService<ContractRule, ContractRuleDes
         return ((RuleRepository) getRepository()).findAllByContract(contractId);
     }
 
+    /**
+     * Finds a page of the rules in a specific contract.
+     *
+     * @param contractId id of the contract.
+     * @param pageable   Range selection of the rules.
+     * @return page of the rules in the contract.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public Page<ContractRule> getAllByContract(final UUID contractId, final Pageable pageable) {
+        Utils.requireNonNull(contractId, ErrorMessage.ENTITYID_NULL);
+        Utils.requireNonNull(pageable, ErrorMessage.PAGEABLE_NULL);
+        return ((RuleRepository) getRepository()).findAllByContract(contractId, pageable);
+    }
 }
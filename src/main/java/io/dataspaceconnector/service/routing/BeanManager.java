@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import static io.dataspaceconnector.common.util.Utils.escapeForXml;
@@ -46,6 +47,11 @@ import static io.dataspaceconnector.common.util.Utils.escapeForXml;
 @RequiredArgsConstructor
 public class BeanManager {
 
+    /**
+     * Name of the bean that publishes the connection pool metrics of data source beans.
+     */
+    public static final String METRICS_TRACKER_FACTORY = "dataSourceMetricsTrackerFactory";
+
     /**
      * The Freemarker configuration.
      */
@@ -80,6 +86,19 @@ public class BeanManager {
         freemarkerInput.put("username", auth.getUsername());
         freemarkerInput.put("password", auth.getPassword());
 
+        // Settings missing on data sources persisted before pooling are left to the pool
+        // defaults.
+        putIfPresent(freemarkerInput, "maximumPoolSize", dataSource.getMaximumPoolSize());
+        putIfPresent(freemarkerInput, "minimumIdle", dataSource.getMinimumIdle());
+        putIfPresent(freemarkerInput, "connectionTimeout", dataSource.getConnectionTimeout());
+        putIfPresent(freemarkerInput, "idleTimeout", dataSource.getIdleTimeout());
+        putIfPresent(freemarkerInput, "maxLifetime", dataSource.getMaxLifetime());
+        freemarkerInput.put("validationQuery", dataSource.getValidationQuery() == null
+                ? "" : escapeForXml(dataSource.getValidationQuery()));
+        if (beanRegistry.containsBeanDefinition(METRICS_TRACKER_FACTORY)) {
+            freemarkerInput.put("metricsTrackerFactory", METRICS_TRACKER_FACTORY);
+        }
+
         try {
             final var template = freemarkerConfig.getTemplate("datasource_bean_template.ftl");
             final var writer = new StringWriter();
@@ -95,8 +114,16 @@ public class BeanManager {
         }
     }
 
+    private static void putIfPresent(final Map<String, Object> input, final String key,
+                                     final Object value) {
+        if (value != null) {
+            input.put(key, value);
+        }
+    }
+
     /**
-     * Deletes a data source bean corresponding to a {@link DatabaseDataSource}.
+     * Deletes a data source bean corresponding to a {@link DatabaseDataSource}. Removing the
+     * bean definition destroys the bean, which closes its connection pool.
      *
      * @param id ID of the {@link io.dataspaceconnector.model.datasource.DataSource} for which the
      *           bean should be deleted.
@@ -44,6 +44,7 @@ import io.dataspaceconnector.model.agreement.Agreement;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.service.EntityResolver;
 import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.service.EntityDependencyResolver;
 import lombok.NonNull;
@@ -66,6 +67,11 @@ public class ContractManager {
      */
     private final @NonNull DeserializationService deserializationService;
 
+    /**
+     * Cache of deserialized contract agreements.
+     */
+    private final @NonNull ContractAgreementCache agreementCache;
+
     /**
      * Service for resolving elements and its parents/children.
      */
@@ -90,18 +96,21 @@ public class ContractManager {
      * Constructs a ContractManager.
      *
      * @param deserializationSvc The deserialization service.
+     * @param cache The cache of deserialized contract agreements.
      * @param entityDependencyResolver The dependency resolver.
      * @param resolver The entity resolver.
      * @param connectorSvc The connector service.
      * @param linkHelper The self link helper.
      */
     public ContractManager(@NonNull final DeserializationService deserializationSvc,
+                           @NonNull final ContractAgreementCache cache,
                            @NonNull final EntityDependencyResolver entityDependencyResolver,
                            @NonNull final EntityResolver resolver,
                            @NonNull final ConnectorService connectorSvc,
                            @NonNull @Qualifier("utilSelfLinkHelper")
                            final SelfLinkHelper linkHelper) {
         this.deserializationService = deserializationSvc;
+        this.agreementCache = cache;
         this.dependencyResolver = entityDependencyResolver;
         this.entityResolver = resolver;
         this.connectorService = connectorSvc;
@@ -141,7 +150,7 @@ public class ContractManager {
                     + "agreement message to finish the negotiation sequence.");
         }
 
-        final var idsAgreement = deserializationService.getContractAgreement(agreement.getValue());
+        final var idsAgreement = agreementCache.get(agreement);
 
         // Validation of end date.
         final var endDate = idsAgreement.getContractEnd()
@@ -15,9 +15,8 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
-import io.dataspaceconnector.common.ids.policy.ContractUtils;
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
-import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
 import io.dataspaceconnector.common.exception.PolicyExecutionException;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
@@ -33,9 +32,10 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * A {@link PolicyVerifier} implementation that checks whether data access should be allowed.
@@ -45,6 +45,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public final class DataAccessVerifier implements PolicyVerifier<AccessVerificationInput> {
 
+    /**
+     * The patterns enforced on data access.
+     */
+    private static final Set<PolicyPattern> PATTERNS_TO_CHECK = Collections.unmodifiableSet(
+            EnumSet.of(PolicyPattern.PROVIDE_ACCESS,
+                    PolicyPattern.USAGE_DURING_INTERVAL,
+                    PolicyPattern.USAGE_UNTIL_DELETION,
+                    PolicyPattern.DURATION_USAGE,
+                    PolicyPattern.USAGE_LOGGING,
+                    PolicyPattern.N_TIMES_USAGE,
+                    PolicyPattern.USAGE_NOTIFICATION));
+
     /**
      * The policy execution point.
      */
@@ -65,32 +77,31 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
      */
     private final @NonNull SelfLinkHelper selfLinkHelper;
 
+    /**
+     * Cache of deserialized and compiled contract agreements.
+     */
+    private final @NonNull ContractAgreementCache agreementCache;
+
     /**
      * Policy check on data access on consumer side. Ignore if unknown patterns are allowed.
      *
      * @param target      The requested artifact.
      * @param agreementId The id of the transfer contract (agreement).
+     * @return The maximum number of accesses allowed by the checked rules.
      * @throws PolicyRestrictionException If a policy restriction has been detected.
      */
-    public void checkPolicy(final Artifact target, final URI agreementId) throws
+    public long checkPolicy(final Artifact target, final URI agreementId) throws
             PolicyRestrictionException {
-        final var patternsToCheck = Arrays.asList(
-                PolicyPattern.PROVIDE_ACCESS,
-                PolicyPattern.USAGE_DURING_INTERVAL,
-                PolicyPattern.USAGE_UNTIL_DELETION,
-                PolicyPattern.DURATION_USAGE,
-                PolicyPattern.USAGE_LOGGING,
-                PolicyPattern.N_TIMES_USAGE,
-                PolicyPattern.USAGE_NOTIFICATION);
-
         try {
             final var artifactId = selfLinkHelper.getSelfLink(target);
-            checkForAccess(patternsToCheck, artifactId, target.getRemoteId(), agreementId);
+            return checkForAccess(PATTERNS_TO_CHECK, artifactId, target.getRemoteId(),
+                    agreementId);
         } catch (PolicyRestrictionException exception) {
             // Unknown patterns cause an exception. Ignore if unsupported patterns are allowed.
             if (!connectorConfig.isAllowUnsupported()) {
                 throw exception;
             }
+            return Long.MAX_VALUE;
         }
     }
 
@@ -101,26 +112,32 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
      * @param artifactId  The requested artifact.
      * @param remoteId    The remote id of the requested artifact.
      * @param agreementId The id of the transfer contract (agreement).
+     * @return The maximum number of accesses allowed by the checked rules.
      * @throws io.dataspaceconnector.common.exception.UnsupportedPatternException if no suitable
      * pattern could be found.
      */
-    public void checkForAccess(final List<PolicyPattern> patterns, final URI artifactId,
+    public long checkForAccess(final Set<PolicyPattern> patterns, final URI artifactId,
                                final URI remoteId, final URI agreementId) {
         // Get the contract agreement's rules for the target.
         final var agreements = entityResolver.getContractAgreementsByTarget(artifactId);
+        var accessLimit = Long.MAX_VALUE;
         for (final var agreement : agreements) {
-            final var rules = ContractUtils.getRulesForTargetId(agreement, remoteId);
+            final var rules = agreementCache.getPolicy(agreement).getRules(remoteId);
 
             // Check the policy of each rule.
             for (final var rule : rules) {
-                final var pattern = RuleUtils.getPatternByRule(rule);
                 // Enforce only a set of patterns.
-                if (patterns.contains(pattern)) {
-                    ruleValidator.validatePolicy(pattern, rule, artifactId, null,
-                            Optional.empty(), agreementId);
+                if (patterns.contains(rule.getPattern())) {
+                    ruleValidator.validatePolicy(rule, artifactId, null, Optional.empty(),
+                            agreementId);
+                    if (rule.getPattern() == PolicyPattern.N_TIMES_USAGE) {
+                        accessLimit = Math.min(accessLimit, rule.getMaxAccess());
+                    }
                 }
             }
         }
+
+        return accessLimit;
     }
 
     /**
@@ -129,7 +146,7 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
     @Override
     public VerificationResult verify(final AccessVerificationInput input) {
         try {
-            this.checkPolicy(input.getArtifact(), input.getAgreementId());
+            input.setAccessLimit(checkPolicy(input.getArtifact(), input.getAgreementId()));
             return VerificationResult.ALLOWED;
         } catch (PolicyRestrictionException exception) {
             if (log.isDebugEnabled()) {
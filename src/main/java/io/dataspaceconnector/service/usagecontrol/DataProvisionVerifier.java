@@ -17,9 +17,8 @@ package io.dataspaceconnector.service.usagecontrol;
 
 import de.fraunhofer.iais.eis.ContractAgreement;
 import de.fraunhofer.iais.eis.SecurityProfile;
-import io.dataspaceconnector.common.ids.policy.ContractUtils;
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
-import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.common.usagecontrol.PolicyVerifier;
@@ -30,9 +29,10 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * A {@link PolicyVerifier} implementation that checks whether data provision should be allowed.
@@ -42,6 +42,17 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class DataProvisionVerifier implements PolicyVerifier<ProvisionVerificationInput> {
 
+    /**
+     * The patterns enforced on data provision.
+     */
+    private static final Set<PolicyPattern> PATTERNS_TO_CHECK = Collections.unmodifiableSet(
+            EnumSet.of(PolicyPattern.PROVIDE_ACCESS,
+                    PolicyPattern.PROHIBIT_ACCESS,
+                    PolicyPattern.USAGE_DURING_INTERVAL,
+                    PolicyPattern.USAGE_UNTIL_DELETION,
+                    PolicyPattern.CONNECTOR_RESTRICTED_USAGE,
+                    PolicyPattern.SECURITY_PROFILE_RESTRICTED_USAGE));
+
     /**
      * The policy execution point.
      */
@@ -52,6 +63,11 @@ public class DataProvisionVerifier implements PolicyVerifier<ProvisionVerificati
      */
     private final @NonNull ConnectorConfig connectorConfig;
 
+    /**
+     * Cache of deserialized and compiled contract agreements.
+     */
+    private final @NonNull ContractAgreementCache agreementCache;
+
     /**
      * Policy check on data provision on provider side.
      *
@@ -65,15 +81,8 @@ public class DataProvisionVerifier implements PolicyVerifier<ProvisionVerificati
                             final ContractAgreement agreement,
                             final Optional<SecurityProfile> profile)
             throws PolicyRestrictionException {
-        final var patternsToCheck = Arrays.asList(
-                PolicyPattern.PROVIDE_ACCESS,
-                PolicyPattern.PROHIBIT_ACCESS,
-                PolicyPattern.USAGE_DURING_INTERVAL,
-                PolicyPattern.USAGE_UNTIL_DELETION,
-                PolicyPattern.CONNECTOR_RESTRICTED_USAGE,
-                PolicyPattern.SECURITY_PROFILE_RESTRICTED_USAGE);
         try {
-            checkForAccess(patternsToCheck, target, issuerConnector, agreement, profile);
+            checkForAccess(PATTERNS_TO_CHECK, target, issuerConnector, agreement, profile);
         } catch (PolicyRestrictionException exception) {
             // Unknown patterns cause an exception. Ignore if unsupported patterns are allowed.
             if (!connectorConfig.isAllowUnsupported()) {
@@ -92,19 +101,18 @@ public class DataProvisionVerifier implements PolicyVerifier<ProvisionVerificati
      * @param profile         The security profile.
      * @throws PolicyRestrictionException If a policy restriction has been detected.
      */
-    public void checkForAccess(final List<PolicyPattern> patterns,
+    public void checkForAccess(final Set<PolicyPattern> patterns,
                                final URI target, final URI issuerConnector,
                                final ContractAgreement agreement,
                                final Optional<SecurityProfile> profile)
             throws PolicyRestrictionException {
-        final var rules = ContractUtils.getRulesForTargetId(agreement, target);
+        final var rules = agreementCache.getPolicy(agreement).getRules(target);
 
         // Check the policy of each rule.
         for (final var rule : rules) {
-            final var pattern = RuleUtils.getPatternByRule(rule);
             // Enforce only a set of patterns.
-            if (patterns.contains(pattern)) {
-                ruleValidator.validatePolicy(pattern, rule, target, issuerConnector, profile,
+            if (patterns.contains(rule.getPattern())) {
+                ruleValidator.validatePolicy(rule, target, issuerConnector, profile,
                         agreement.getId());
             }
         }
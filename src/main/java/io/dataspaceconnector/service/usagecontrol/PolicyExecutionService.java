@@ -105,14 +105,13 @@ public class PolicyExecutionService {
     }
 
     /**
-     * Send a message to the clearing house. Allow the access only if that operation was successful.
+     * Send a message to the clearing house. The message is queued and sent in the background,
+     * so it does not delay the data access. A failure to log the access does not deny it.
      *
      * @param target      The target object.
      * @param agreementId The agreement id.
-     * @throws PolicyExecutionException if the access could not be successfully logged.
      */
-    public void logDataAccess(final URI target, final URI agreementId)
-            throws PolicyExecutionException {
+    public void logDataAccess(final URI target, final URI agreementId) {
         try {
             final var logItem = buildLog(target);
             clearingHouseSvc.sendToClearingHouse(agreementId, logItem);
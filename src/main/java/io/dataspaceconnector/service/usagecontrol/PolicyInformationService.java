@@ -58,8 +58,6 @@ public class PolicyInformationService {
      */
     public long getAccessNumber(final URI target) {
         final var resourceId = EndpointUtils.getUUIDFromPath(target);
-        final var artifact = artifactService.get(resourceId);
-
-        return artifact.getNumAccessed();
+        return artifactService.getNumAccessed(resourceId);
     }
 }
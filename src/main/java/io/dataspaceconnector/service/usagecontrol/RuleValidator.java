@@ -17,25 +17,24 @@ package io.dataspaceconnector.service.usagecontrol;
 
 import de.fraunhofer.iais.eis.Rule;
 import de.fraunhofer.iais.eis.SecurityProfile;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.ids.policy.CompiledRule;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
-import io.dataspaceconnector.common.time.TimeInterval;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.contract.Contract;
 import io.dataspaceconnector.model.rule.ContractRule;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.service.EntityDependencyResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
-import java.time.Duration;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,7 +45,6 @@ import java.util.Optional;
  * request or access. Refers to the ids policy decision point (PDP).
  */
 @Service
-@RequiredArgsConstructor
 @Log4j2
 public class RuleValidator {
 
@@ -70,6 +68,53 @@ public class RuleValidator {
      */
     private final @NonNull DeserializationService deserializationService;
 
+    /**
+     * The registry for the policy evaluation metrics.
+     */
+    private final @NonNull MeterRegistry meterRegistry;
+
+    /**
+     * The evaluation timers of allowed accesses, by policy pattern.
+     */
+    private final Map<PolicyPattern, Timer> allowedTimers = new EnumMap<>(PolicyPattern.class);
+
+    /**
+     * The evaluation timers of denied accesses, by policy pattern.
+     */
+    private final Map<PolicyPattern, Timer> deniedTimers = new EnumMap<>(PolicyPattern.class);
+
+    /**
+     * The evaluation timer of rules without a recognized pattern. These are always denied.
+     */
+    private final Timer unknownTimer;
+
+    /**
+     * Constructor.
+     *
+     * @param execution       Policy execution point.
+     * @param information     Policy information point.
+     * @param resolver        Service for resolving elements and its parents/children.
+     * @param deserialization Service for deserialization.
+     * @param registry        The registry for the policy evaluation metrics.
+     */
+    public RuleValidator(final @NonNull PolicyExecutionService execution,
+                         final @NonNull PolicyInformationService information,
+                         final @NonNull EntityDependencyResolver resolver,
+                         final @NonNull DeserializationService deserialization,
+                         final @NonNull MeterRegistry registry) {
+        this.executionService = execution;
+        this.informationService = information;
+        this.dependencyResolver = resolver;
+        this.deserializationService = deserialization;
+        this.meterRegistry = registry;
+
+        for (final var pattern : PolicyPattern.values()) {
+            allowedTimers.put(pattern, evaluationTimer(pattern.toString(), "allowed"));
+            deniedTimers.put(pattern, evaluationTimer(pattern.toString(), "denied"));
+        }
+        this.unknownTimer = evaluationTimer("unknown", "denied");
+    }
+
     /**
      * Validates the data access for a given rule.
      *
@@ -84,7 +129,55 @@ public class RuleValidator {
     public void validatePolicy(final PolicyPattern pattern, final Rule rule, final URI target,
                                final URI issuerConnector, final Optional<SecurityProfile> profile,
                                final URI agreementId) throws PolicyRestrictionException {
-        switch (pattern) {
+        validatePolicy(new CompiledRule(rule, pattern), target, issuerConnector, profile,
+                agreementId);
+    }
+
+    /**
+     * Validates the data access for a given compiled rule.
+     *
+     * @param rule            The compiled rule.
+     * @param target          The requested/accessed element.
+     * @param issuerConnector The issuer connector.
+     * @param profile         The security profile.
+     * @param agreementId     The id of the transfer contract (agreement).
+     * @throws PolicyRestrictionException If a policy restriction was detected.
+     */
+    public void validatePolicy(final CompiledRule rule, final URI target,
+                               final URI issuerConnector, final Optional<SecurityProfile> profile,
+                               final URI agreementId) throws PolicyRestrictionException {
+        final var sample = Timer.start(meterRegistry);
+        var allowed = false;
+        try {
+            evaluate(rule, target, issuerConnector, profile, agreementId);
+            allowed = true;
+        } finally {
+            final var pattern = rule.getPattern();
+            if (pattern == null) {
+                sample.stop(unknownTimer);
+            } else {
+                sample.stop(allowed ? allowedTimers.get(pattern) : deniedTimers.get(pattern));
+            }
+        }
+    }
+
+    private Timer evaluationTimer(final String pattern, final String outcome) {
+        return Timer.builder("dsc.policy.evaluation")
+                .description("Time taken to evaluate usage policies")
+                .tag("pattern", pattern)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void evaluate(final CompiledRule rule, final URI target, final URI issuerConnector,
+                          final Optional<SecurityProfile> profile, final URI agreementId)
+            throws PolicyRestrictionException {
+        if (rule.getPattern() == null) {
+            checkError(rule);
+            throw unknownPattern(target);
+        }
+
+        switch (rule.getPattern()) {
             case PROVIDE_ACCESS:
                 break;
             case USAGE_DURING_INTERVAL:
@@ -101,7 +194,7 @@ public class RuleValidator {
                 validateAccessNumber(rule, target);
                 break;
             case USAGE_NOTIFICATION:
-                executionService.reportDataAccess(rule, target);
+                executionService.reportDataAccess(rule.getRule(), target);
                 break;
             case CONNECTOR_RESTRICTED_USAGE:
                 validateIssuerConnector(rule, issuerConnector);
@@ -112,13 +205,17 @@ public class RuleValidator {
             case PROHIBIT_ACCESS:
                 throw new PolicyRestrictionException(ErrorMessage.NOT_ALLOWED);
             default:
-                if (log.isDebugEnabled()) {
-                    log.debug("No pattern detected. [target=({})]", target);
-                }
-                throw new PolicyRestrictionException(ErrorMessage.POLICY_RESTRICTION);
+                throw unknownPattern(target);
         }
     }
 
+    private static PolicyRestrictionException unknownPattern(final URI target) {
+        if (log.isDebugEnabled()) {
+            log.debug("No pattern detected. [target=({})]", target);
+        }
+        return new PolicyRestrictionException(ErrorMessage.POLICY_RESTRICTION);
+    }
+
     /**
      * Compare content of rule offer and request with each other.
      *
@@ -173,25 +270,18 @@ public class RuleValidator {
     /**
      * Checks if the requested data access is in the allowed time interval.
      *
-     * @param rule The ids rule.
+     * @param rule The compiled rule.
      * @throws PolicyRestrictionException If the policy could not be read or a restriction is
      *                                    detected.
      */
-    private void validateInterval(final Rule rule) throws PolicyRestrictionException {
-        TimeInterval timeInterval;
-        try {
-            timeInterval = RuleUtils.getTimeInterval(rule);
-        } catch (DateTimeParseException e) {
-            if (log.isWarnEnabled()) {
-                log.warn("Could not read time interval. [exception=({})]", e.getMessage());
-            }
-            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL, e);
-        }
+    private void validateInterval(final CompiledRule rule) throws PolicyRestrictionException {
+        checkError(rule);
 
         final var current = RuleUtils.getCurrentDate();
-        if (!current.isAfter(timeInterval.getStart()) || !current.isBefore(timeInterval.getEnd())) {
+        if (!current.isAfter(rule.getStart()) || !current.isBefore(rule.getEnd())) {
             if (log.isWarnEnabled()) {
-                log.warn("Invalid time interval. [timeInterval=({})]", timeInterval);
+                log.warn("Invalid time interval. [start=({}), end=({})]", rule.getStart(),
+                        rule.getEnd());
             }
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
@@ -200,26 +290,18 @@ public class RuleValidator {
     /**
      * Adds a duration to a given date and checks if the duration has already been exceeded.
      *
-     * @param rule   The ids rule.
+     * @param rule   The compiled rule.
      * @param target The accessed element.
      * @throws PolicyRestrictionException If the policy could not be read or a restriction is
      *                                    detected.
      */
-    private void validateDuration(final Rule rule, final URI target)
+    private void validateDuration(final CompiledRule rule, final URI target)
             throws PolicyRestrictionException {
         final var created = informationService.getCreationDate(target);
 
-        final Duration duration;
-        try {
-            duration = RuleUtils.getDuration(rule);
-        } catch (DateTimeParseException e) {
-            if (log.isWarnEnabled()) {
-                log.warn("Could not read duration. [target=({}), exception=({})]",
-                        target, e.getMessage(), e);
-            }
-            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL, e);
-        }
+        checkError(rule);
 
+        final var duration = rule.getDuration();
         if (duration == null) {
             if (log.isWarnEnabled()) {
                 log.warn("Duration is null. [target=({})]", target);
@@ -238,15 +320,16 @@ public class RuleValidator {
     /**
      * Checks whether the maximum number of accesses has already been reached.
      *
-     * @param rule   The ids rule.
+     * @param rule   The compiled rule.
      * @param target The accessed element.
      * @throws PolicyRestrictionException If the access number has been reached.
      */
-    private void validateAccessNumber(final Rule rule, final URI target)
+    private void validateAccessNumber(final CompiledRule rule, final URI target)
             throws PolicyRestrictionException {
-        final var max = RuleUtils.getMaxAccess(rule);
+        checkError(rule);
+
         final var accessed = informationService.getAccessNumber(target);
-        if (accessed >= max) {
+        if (accessed >= rule.getMaxAccess()) {
             if (log.isDebugEnabled()) {
                 log.debug("Access number reached. [target=({})]", target);
             }
@@ -257,15 +340,15 @@ public class RuleValidator {
     /**
      * Checks whether the requesting connector corresponds to the allowed connector.
      *
-     * @param rule            The ids rule.
+     * @param rule            The compiled rule.
      * @param issuerConnector The issuer connector.
      * @throws PolicyRestrictionException If the connector ids do no match.
      */
-    private void validateIssuerConnector(final Rule rule, final URI issuerConnector)
+    private void validateIssuerConnector(final CompiledRule rule, final URI issuerConnector)
             throws PolicyRestrictionException {
-        final var allowedConsumer = RuleUtils.getEndpoint(rule);
-        final var allowedConsumerAsUri = URI.create(allowedConsumer);
-        if (!allowedConsumerAsUri.equals(issuerConnector)) {
+        checkError(rule);
+
+        if (!rule.getAllowedConnector().equals(issuerConnector)) {
             if (log.isDebugEnabled()) {
                 log.debug("Invalid consumer connector. [issuer=({})]", issuerConnector);
             }
@@ -276,27 +359,38 @@ public class RuleValidator {
     /**
      * Checks whether the requesting connector has the right security level.
      *
-     * @param rule    The ids rule.
+     * @param rule    The compiled rule.
      * @param profile The security profile.
      * @throws PolicyRestrictionException If the connector ids do no match.
      */
-    @SuppressFBWarnings("DCN_NULLPOINTER_EXCEPTION")
-    private void validateSecurityProfile(final Rule rule, final Optional<SecurityProfile> profile)
+    private void validateSecurityProfile(final CompiledRule rule,
+                                         final Optional<SecurityProfile> profile)
             throws PolicyRestrictionException {
         if (profile.isEmpty()) {
             throw new PolicyRestrictionException(ErrorMessage.MISSING_SECURITY_PROFILE_CLAIM);
         }
 
-        try {
-            final var allowedProfile = RuleUtils.getSecurityProfile(rule);
-            final var securityProfile = profile.get();
-            if (!allowedProfile.equals(securityProfile.toString())) {
-                throw new PolicyRestrictionException(
-                        ErrorMessage.DATA_ACCESS_INVALID_SECURITY_PROFILE);
-            }
-        } catch (NullPointerException e) {
+        final var allowedProfile = rule.getSecurityProfile();
+        if (rule.getError() != null || allowedProfile == null
+                || !allowedProfile.equals(profile.get().toString())) {
             throw new PolicyRestrictionException(
                     ErrorMessage.DATA_ACCESS_INVALID_SECURITY_PROFILE);
         }
     }
+
+    /**
+     * Checks whether the rule could be read when it was compiled.
+     *
+     * @param rule The compiled rule.
+     * @throws PolicyRestrictionException If the rule could not be read.
+     */
+    private static void checkError(final CompiledRule rule) throws PolicyRestrictionException {
+        if (rule.getError() != null) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not read rule. [pattern=({}), exception=({})]",
+                        rule.getPattern(), rule.getErrorDetail());
+            }
+            throw new PolicyRestrictionException(rule.getError());
+        }
+    }
 }
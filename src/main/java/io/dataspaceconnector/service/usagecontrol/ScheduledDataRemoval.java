@@ -20,7 +20,7 @@ import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.ids.policy.UsageControlFramework;
 import io.dataspaceconnector.config.ConnectorConfig;
-import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
 import io.dataspaceconnector.service.resource.type.AgreementService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import lombok.NonNull;
@@ -56,9 +56,9 @@ public class ScheduledDataRemoval {
     private final @NonNull ConnectorConfig connectorConfig;
 
     /**
-     * Service for ids deserialization.
+     * Cache of deserialized contract agreements.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull ContractAgreementCache agreementCache;
 
     /**
      * Service for ids deserialization.
@@ -99,8 +99,7 @@ public class ScheduledDataRemoval {
     private void scanAgreements() throws DateTimeParseException, IllegalArgumentException,
             ResourceNotFoundException {
         for (final var agreement : agreementService.getAll(Pageable.unpaged())) {
-            final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
+            final var idsAgreement = agreementCache.get(agreement);
             for (final var rule : ContractUtils.extractRulesFromContract(idsAgreement)) {
                 if (RuleUtils.checkRuleForPostDuties(rule)) {
                     final var artifactId = artifactService.identifyByRemoteId(rule.getTarget());
@@ -129,7 +128,7 @@ public class ScheduledDataRemoval {
      */
     private void removeDataFromArtifact(final UUID artifactId) {
         try {
-            artifactService.setData(artifactId, InputStream.nullInputStream());
+            artifactService.replaceData(artifactId, InputStream.nullInputStream());
             if (log.isDebugEnabled()) {
                 log.debug("Removed data from artifact. [id=({})]", artifactId);
             }
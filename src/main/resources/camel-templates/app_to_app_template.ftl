@@ -1,14 +1,13 @@
 <routes xmlns="http://camel.apache.org/schema/spring">
 
-    <route id="${routeId}" errorHandlerRef="${errorHandlerRef}">
+    <route id="${routeId}" errorHandlerRef="${errorHandlerRef}" streamCache="true">
 
         <from uri="timer://app-to-app-route?fixedRate=true&amp;period=60000"/>
 
         <setHeader name="CamelHttpMethod"><constant>GET</constant></setHeader>
         <to uri="${startUrl}"/>
 
-        <convertBodyTo type="java.lang.String"/>
-        <log message="Sending data: ${r"${body}"}"/>
+        <log loggingLevel="DEBUG" message="Sending data."/>
 
         <#list routeStepEndpoints as endpoint>
             <setHeader name="CamelHttpMethod"><constant>${endpoint.getHttpMethod().toString()}</constant></setHeader>
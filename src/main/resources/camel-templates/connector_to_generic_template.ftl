@@ -1,6 +1,6 @@
 <routes xmlns="http://camel.apache.org/schema/spring">
 
-    <route id="${routeId}" errorHandlerRef="${errorHandlerRef}">
+    <route id="${routeId}" errorHandlerRef="${errorHandlerRef}" streamCache="true">
 
         <from uri="direct:${routeId}"/>
 
@@ -10,8 +10,7 @@
             <to uri="${startUrl}"/>
         </#if>
 
-        <convertBodyTo type="java.lang.String"/>
-        <log message="Sending data: ${r"${body}"}"/>
+        <log loggingLevel="DEBUG" message="Sending data."/>
 
         <#list routeStepEndpoints as endpoint>
             <setHeader name="CamelHttpMethod"><constant>${endpoint.getHttpMethod().toString()}</constant></setHeader>
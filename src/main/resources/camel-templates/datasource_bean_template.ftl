@@ -4,11 +4,33 @@
        http://www.springframework.org/schema/beans http://www.springframework.org/schema/beans/spring-beans.xsd
        http://camel.apache.org/schema/spring http://camel.apache.org/schema/spring/camel-spring.xsd">
 
-    <bean id="${dataSourceId}" class="org.springframework.jdbc.datasource.DriverManagerDataSource">
-        <property name="url" value="${url}"/>
+    <bean id="${dataSourceId}" class="com.zaxxer.hikari.HikariDataSource" destroy-method="close">
+        <property name="poolName" value="datasource-${dataSourceId}"/>
+        <property name="jdbcUrl" value="${url}"/>
         <property name="driverClassName" value="${driver}" />
         <property name="username" value="${username}" />
         <property name="password" value="${password}"/>
+        <#if maximumPoolSize??>
+        <property name="maximumPoolSize" value="${maximumPoolSize?c}"/>
+        </#if>
+        <#if minimumIdle??>
+        <property name="minimumIdle" value="${minimumIdle?c}"/>
+        </#if>
+        <#if connectionTimeout??>
+        <property name="connectionTimeout" value="${connectionTimeout?c}"/>
+        </#if>
+        <#if idleTimeout??>
+        <property name="idleTimeout" value="${idleTimeout?c}"/>
+        </#if>
+        <#if maxLifetime??>
+        <property name="maxLifetime" value="${maxLifetime?c}"/>
+        </#if>
+        <#if validationQuery?has_content>
+        <property name="connectionTestQuery" value="${validationQuery}"/>
+        </#if>
+        <#if metricsTrackerFactory??>
+        <property name="metricsTrackerFactory" ref="${metricsTrackerFactory}"/>
+        </#if>
     </bean>
 
 </beans>
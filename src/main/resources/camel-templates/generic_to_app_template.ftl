@@ -1,6 +1,6 @@
 <routes xmlns="http://camel.apache.org/schema/spring">
 
-    <route id="${routeId}" errorHandlerRef="${errorHandlerRef}">
+    <route id="${routeId}" errorHandlerRef="${errorHandlerRef}" streamCache="true">
 
         <from uri="timer://generic-to-app-route?fixedRate=true&amp;period=60000"/>
 
@@ -10,8 +10,11 @@
         </#if>
         <to uri="${startUrl}"/>
 
-        <convertBodyTo type="java.lang.String"/>
-        <log message="Sending data: ${r"${body}"}"/>
+        <#-- Query results have no byte representation, all other bodies are passed on as is. -->
+        <#if startUrl?? && startUrl?starts_with("sql:")>
+            <convertBodyTo type="java.lang.String"/>
+        </#if>
+        <log loggingLevel="DEBUG" message="Sending data."/>
 
         <#list routeStepEndpoints as endpoint>
             <setHeader name="CamelHttpMethod"><constant>${endpoint.getHttpMethod().toString()}</constant></setHeader>
@@ -0,0 +1,11 @@
+ALTER TABLE public.data ADD COLUMN localdata_reference VARCHAR(255);
+ALTER TABLE public.data ADD COLUMN localdata_size BIGINT;
+ALTER TABLE public.data ADD COLUMN localdata_checksum BIGINT;
+
+ALTER TABLE public.datasource
+    ADD COLUMN maximum_pool_size integer,
+    ADD COLUMN minimum_idle integer,
+    ADD COLUMN connection_timeout bigint,
+    ADD COLUMN idle_timeout bigint,
+    ADD COLUMN max_lifetime bigint,
+    ADD COLUMN validation_query character varying(255);
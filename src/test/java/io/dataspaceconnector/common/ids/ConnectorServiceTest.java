@@ -17,6 +17,7 @@ package io.dataspaceconnector.common.ids;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import de.fraunhofer.iais.eis.BaseConnectorBuilder;
@@ -38,7 +39,6 @@ import de.fraunhofer.iais.eis.SecurityProfile;
 import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import ids.messaging.core.config.ConfigContainer;
-import ids.messaging.core.daps.DapsTokenProvider;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.resource.OfferedResource;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
@@ -61,6 +61,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -77,12 +78,13 @@ public class ConnectorServiceTest {
 
     private final ConnectorService connectorService = new ConnectorService(
             configContainer,
-            Mockito.mock(DapsTokenProvider.class),
+            Mockito.mock(DatManager.class),
             catalogService,
             catalogBuilder,
             resourceBuilder,
             offeredResourceService,
-            configurationService
+            configurationService,
+            new SelfDescriptionCache()
     );
 
     @Test
@@ -183,8 +185,7 @@ public class ConnectorServiceTest {
         final var resource = getOfferedResource(uuid);
         final var idsResource = getIdsResource();
 
-        when(offeredResourceService.getAll(Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(resource)));
+        when(offeredResourceService.find(uuid)).thenReturn(Optional.of(resource));
         when(resourceBuilder.create(resource)).thenReturn(idsResource);
 
         /* ACT */
@@ -193,6 +194,7 @@ public class ConnectorServiceTest {
         /* ASSERT */
         assertTrue(result.isPresent());
         assertEquals(idsResource, result.get());
+        verify(offeredResourceService, never()).getAll(any());
     }
 
     @Test
@@ -200,10 +202,8 @@ public class ConnectorServiceTest {
         /* ARRANGE */
         final var uuid = UUID.randomUUID();
         final var uri = URI.create("https://resource-id.com/" + uuid);
-        final var resource = getOfferedResource(UUID.randomUUID());
 
-        when(offeredResourceService.getAll(Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(resource)));
+        when(offeredResourceService.find(uuid)).thenReturn(Optional.empty());
 
         /* ACT */
         final var result = connectorService.getOfferedResourceById(uri);
@@ -212,6 +212,64 @@ public class ConnectorServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void getOfferedResourceById_nestedUri_lookUpLastIdOnly() {
+        /* ARRANGE */
+        final var catalogId = UUID.randomUUID();
+        final var offerId = UUID.randomUUID();
+        final var uri = URI.create("https://connector.com/api/catalogs/" + catalogId
+                + "/offers/" + offerId);
+        final var idsResource = getIdsResource();
+
+        when(offeredResourceService.find(offerId))
+                .thenReturn(Optional.of(getOfferedResource(offerId)));
+        when(resourceBuilder.create(any())).thenReturn(idsResource);
+
+        /* ACT */
+        final var result = connectorService.getOfferedResourceById(uri);
+
+        /* ASSERT */
+        assertEquals(Optional.of(idsResource), result);
+        verify(offeredResourceService, times(1)).find(any());
+        verify(offeredResourceService, never()).getAll(any());
+    }
+
+    @Test
+    public void getOfferedResourceById_lastIdNoOffer_lookUpPreviousId() {
+        /* ARRANGE */
+        final var offerId = UUID.randomUUID();
+        final var representationId = UUID.randomUUID();
+        final var uri = URI.create("https://connector.com/api/offers/" + offerId
+                + "/representations/" + representationId);
+        final var offer = getOfferedResource(offerId);
+        final var idsResource = getIdsResource();
+
+        when(offeredResourceService.find(representationId)).thenReturn(Optional.empty());
+        when(offeredResourceService.find(offerId)).thenReturn(Optional.of(offer));
+        when(resourceBuilder.create(offer)).thenReturn(idsResource);
+
+        /* ACT */
+        final var result = connectorService.getOfferedResourceById(uri);
+
+        /* ASSERT */
+        assertEquals(Optional.of(idsResource), result);
+        verify(offeredResourceService, times(2)).find(any());
+    }
+
+    @Test
+    public void getOfferedResourceById_uriWithoutId_returnEmpty() {
+        /* ARRANGE */
+        final var uri = URI.create("https://connector.com/api/offers");
+
+        /* ACT */
+        final var result = connectorService.getOfferedResourceById(uri);
+
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+        verify(offeredResourceService, never()).find(any());
+        verify(offeredResourceService, never()).getAll(any());
+    }
+
     /**************************************************************************
      * Utilities.
      *************************************************************************/
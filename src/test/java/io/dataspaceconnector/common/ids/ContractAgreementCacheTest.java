@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContractAgreementCacheTest {
+
+    private final DeserializationService deserializationService =
+            Mockito.mock(DeserializationService.class);
+
+    private final ContractAgreement idsAgreement = new ContractAgreementBuilder().build();
+
+    @Test
+    void get_sameVersion_deserializeOnce() {
+        /* ARRANGE */
+        final var cache = new ContractAgreementCache(deserializationService, 10);
+        final var agreement = getAgreement(UUID.randomUUID(), ZonedDateTime.now());
+        when(deserializationService.getContractAgreement("AGREEMENT")).thenReturn(idsAgreement);
+
+        /* ACT */
+        final var first = cache.get(agreement);
+        final var second = cache.get(agreement);
+
+        /* ASSERT */
+        assertSame(idsAgreement, first);
+        assertSame(idsAgreement, second);
+        verify(deserializationService, times(1)).getContractAgreement("AGREEMENT");
+    }
+
+    @Test
+    void get_modifiedAgreement_deserializeAgain() {
+        /* ARRANGE */
+        final var cache = new ContractAgreementCache(deserializationService, 10);
+        final var agreementId = UUID.randomUUID();
+        final var version = ZonedDateTime.now();
+        when(deserializationService.getContractAgreement("AGREEMENT")).thenReturn(idsAgreement);
+
+        /* ACT */
+        cache.get(getAgreement(agreementId, version));
+        cache.get(getAgreement(agreementId, version.plusSeconds(1)));
+
+        /* ASSERT */
+        verify(deserializationService, times(2)).getContractAgreement("AGREEMENT");
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void evict_cachedAgreement_deserializeAgain() {
+        /* ARRANGE */
+        final var cache = new ContractAgreementCache(deserializationService, 10);
+        final var agreement = getAgreement(UUID.randomUUID(), ZonedDateTime.now());
+        when(deserializationService.getContractAgreement("AGREEMENT")).thenReturn(idsAgreement);
+        cache.get(agreement);
+
+        /* ACT */
+        cache.evict(agreement.getId());
+        cache.get(agreement);
+
+        /* ASSERT */
+        verify(deserializationService, times(2)).getContractAgreement("AGREEMENT");
+    }
+
+    @Test
+    void get_maximumSizeReached_dropLeastRecentlyUsed() {
+        /* ARRANGE */
+        final var cache = new ContractAgreementCache(deserializationService, 1);
+        when(deserializationService.getContractAgreement("AGREEMENT")).thenReturn(idsAgreement);
+
+        /* ACT */
+        cache.get(getAgreement(UUID.randomUUID(), ZonedDateTime.now()));
+        cache.get(getAgreement(UUID.randomUUID(), ZonedDateTime.now()));
+
+        /* ASSERT */
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void bindTo_lookups_countHitsAndMisses() {
+        /* ARRANGE */
+        final var cache = new ContractAgreementCache(deserializationService, 10);
+        final var registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        final var agreement = getAgreement(UUID.randomUUID(), ZonedDateTime.now());
+        when(deserializationService.getContractAgreement("AGREEMENT")).thenReturn(idsAgreement);
+
+        /* ACT */
+        cache.get(agreement);
+        cache.get(agreement);
+        cache.get(agreement);
+
+        /* ASSERT */
+        assertEquals(2.0, registry.get("dsc.agreement.cache.requests")
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("dsc.agreement.cache.requests")
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    private Agreement getAgreement(final UUID agreementId, final ZonedDateTime version) {
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "id", agreementId);
+        ReflectionTestUtils.setField(agreement, "modificationDate", version);
+        ReflectionTestUtils.setField(agreement, "value", "AGREEMENT");
+        return agreement;
+    }
+}
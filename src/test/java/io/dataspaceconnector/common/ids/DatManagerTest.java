@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import ids.messaging.core.daps.DapsConnectionException;
+import ids.messaging.core.daps.DapsTokenManagerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DatManagerTest {
+
+    private static final String URL = "https://daps/token";
+
+    private final DapsTokenManagerService tokenManager =
+            Mockito.mock(DapsTokenManagerService.class);
+
+    private DatManager manager;
+
+    @AfterEach
+    void stop() {
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+
+    @Test
+    void getDat_validToken_requestOnce() throws Exception {
+        /* ARRANGE */
+        final var now = Instant.now();
+        manager = new DatManager(tokenManager, URL, 60000, 10000,
+                Clock.fixed(now, ZoneOffset.UTC));
+        final var jwt = getToken(now.plusSeconds(3600));
+        when(tokenManager.acquireToken(URL)).thenReturn(jwt);
+
+        /* ACT */
+        final var first = manager.getDat();
+        final var second = manager.getDat();
+
+        /* ASSERT */
+        assertEquals(jwt, first.getTokenValue());
+        assertSame(first, second);
+        verify(tokenManager, times(1)).acquireToken(URL);
+    }
+
+    @Test
+    void getDat_expiredToken_requestAgain() throws Exception {
+        /* ARRANGE */
+        final var now = Instant.now();
+        manager = new DatManager(tokenManager, URL, 60000, 10000,
+                Clock.fixed(now, ZoneOffset.UTC));
+        when(tokenManager.acquireToken(URL)).thenReturn(getToken(now.minusSeconds(1)));
+
+        /* ACT */
+        manager.getDat();
+        manager.getDat();
+
+        /* ASSERT */
+        verify(tokenManager, times(2)).acquireToken(URL);
+    }
+
+    @Test
+    void getDat_tokenAboutToExpire_renewInBackground() throws Exception {
+        /* ARRANGE */
+        manager = new DatManager(tokenManager, URL, 60000, 10000, Clock.systemUTC());
+        final var first = getToken(Instant.now().plusSeconds(2));
+        final var second = getToken(Instant.now().plusSeconds(3600));
+        when(tokenManager.acquireToken(URL)).thenReturn(first, second);
+        manager.getDat();
+
+        /* ACT */
+        verify(tokenManager, Mockito.timeout(5000).times(2)).acquireToken(URL);
+        final var result = manager.getDat();
+
+        /* ASSERT */
+        assertEquals(second, result.getTokenValue());
+        verify(tokenManager, times(2)).acquireToken(URL);
+    }
+
+    @Test
+    void getDat_dapsNotReachable_throwDapsConnectionException() throws Exception {
+        /* ARRANGE */
+        manager = new DatManager(tokenManager, URL, 60000, 10000, Clock.systemUTC());
+        when(tokenManager.acquireToken(URL)).thenThrow(new DapsConnectionException("offline"));
+
+        /* ACT && ASSERT */
+        assertThrows(DapsConnectionException.class, () -> manager.getDat());
+    }
+
+    private static String getToken(final Instant expiration) {
+        final var encoder = Base64.getUrlEncoder().withoutPadding();
+        final var header = encoder.encodeToString(
+                "{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8));
+        final var payload = encoder.encodeToString(("{\"sub\":\"connector\",\"exp\":"
+                + expiration.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SelfDescriptionCacheTest {
+
+    private final SelfDescriptionCache cache = new SelfDescriptionCache();
+
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @Test
+    void get_unchanged_buildOnce() {
+        /* ACT */
+        final var first = cache.get(this::build);
+        final var second = cache.get(this::build);
+
+        /* ASSERT */
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void get_invalidated_rebuildWithNewETag() {
+        /* ARRANGE */
+        final var first = cache.get(this::build);
+
+        /* ACT */
+        cache.invalidate();
+        final var second = cache.get(this::build);
+
+        /* ASSERT */
+        assertEquals(2, builds.get());
+        assertEquals("{\"build\":2}", second.getRdf());
+        assertNotEquals(first.getETag(), second.getETag());
+    }
+
+    @Test
+    void get_invalidatedWhileBuilding_rebuildOnNextCall() {
+        /* ARRANGE */
+        cache.get(() -> {
+            cache.invalidate();
+            return build();
+        });
+
+        /* ACT */
+        cache.get(this::build);
+
+        /* ASSERT */
+        assertEquals(2, builds.get());
+    }
+
+    private String build() {
+        return "{\"build\":" + builds.incrementAndGet() + "}";
+    }
+}
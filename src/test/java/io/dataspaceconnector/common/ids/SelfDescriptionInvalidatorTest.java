@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.model.catalog.CatalogDesc;
+import io.dataspaceconnector.model.catalog.CatalogFactory;
+import io.dataspaceconnector.repository.CatalogRepository;
+import io.dataspaceconnector.repository.ConfigurationRepository;
+import io.dataspaceconnector.repository.DataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class SelfDescriptionInvalidatorTest {
+
+    @Autowired
+    private SelfDescriptionCache cache;
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @Autowired
+    private ConfigurationRepository configurationRepository;
+
+    @Autowired
+    private DataRepository dataRepository;
+
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @BeforeEach
+    void init() {
+        cache.invalidate();
+    }
+
+    @Test
+    void save_entity_invalidateSelfDescription() {
+        /* ARRANGE */
+        build();
+
+        /* ACT */
+        catalogRepository.saveAndFlush(new CatalogFactory().create(new CatalogDesc()));
+
+        /* ASSERT */
+        assertEquals(2, build());
+    }
+
+    @Test
+    void delete_entity_invalidateSelfDescription() {
+        /* ARRANGE */
+        final var catalog = catalogRepository.saveAndFlush(
+                new CatalogFactory().create(new CatalogDesc()));
+        build();
+
+        /* ACT */
+        catalogRepository.deleteById(catalog.getId());
+
+        /* ASSERT */
+        assertEquals(2, build());
+    }
+
+    @Test
+    void modifyingQuery_entityRepository_invalidateSelfDescription() {
+        /* ARRANGE */
+        build();
+
+        /* ACT */
+        configurationRepository.unsetActive();
+
+        /* ASSERT */
+        assertEquals(2, build());
+    }
+
+    @Test
+    void modifyingQuery_dataRepository_invalidateSelfDescription() {
+        /* ARRANGE */
+        final var data = dataRepository.saveAndFlush(new LocalData());
+        build();
+
+        /* ACT */
+        dataRepository.setLocalData(data.getId(), "data".getBytes(StandardCharsets.UTF_8));
+
+        /* ASSERT */
+        assertEquals(2, build());
+    }
+
+    @Test
+    void query_noChange_keepSelfDescription() {
+        /* ARRANGE */
+        build();
+
+        /* ACT */
+        catalogRepository.findAll();
+        configurationRepository.findActive();
+
+        /* ASSERT */
+        assertEquals(1, build());
+    }
+
+    private int build() {
+        cache.get(() -> "self-description-" + builds.incrementAndGet());
+        return builds.get();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VerifiedDatCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final AtomicInteger validations = new AtomicInteger();
+
+    @Test
+    void get_sameToken_validateOnce() throws Throwable {
+        /* ARRANGE */
+        final var cache = newCache(NOW, 10);
+        final var token = getToken(NOW.plusSeconds(3600));
+        final var claims = new Object();
+
+        /* ACT */
+        final var first = cache.get(token, "claims", () -> validate(claims));
+        final var second = cache.get(token, "claims", () -> validate(claims));
+
+        /* ASSERT */
+        assertSame(claims, first);
+        assertSame(claims, second);
+        assertEquals(1, validations.get());
+    }
+
+    @Test
+    void get_tokenExpired_notCached() throws Throwable {
+        /* ARRANGE */
+        final var cache = newCache(NOW, 10);
+        final var token = getToken(NOW);
+
+        /* ACT */
+        cache.get(token, "claims", () -> validate(true));
+        cache.get(token, "claims", () -> validate(true));
+
+        /* ASSERT */
+        assertEquals(2, validations.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_expiresAfterCaching_validateAgain() throws Throwable {
+        /* ARRANGE */
+        final var clock = new MutableClock(NOW);
+        final var cache = new VerifiedDatCache(10, clock);
+        final var token = getToken(NOW.plusSeconds(60));
+        cache.get(token, "claims", () -> validate(true));
+
+        /* ACT */
+        clock.instant = NOW.plus(Duration.ofMinutes(2));
+        cache.get(token, "claims", () -> validate(true));
+
+        /* ASSERT */
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void get_failedValidation_notCached() throws Throwable {
+        /* ARRANGE */
+        final var cache = newCache(NOW, 10);
+        final var token = getToken(NOW.plusSeconds(3600));
+
+        /* ACT */
+        cache.get(token, "check", () -> validate(false));
+        assertThrows(IllegalStateException.class, () -> cache.get(token, "claims", () -> {
+            validations.incrementAndGet();
+            throw new IllegalStateException("invalid");
+        }));
+        cache.get(token, "check", () -> validate(false));
+
+        /* ASSERT */
+        assertEquals(3, validations.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_differentContext_validateEach() throws Throwable {
+        /* ARRANGE */
+        final var cache = newCache(NOW, 10);
+        final var token = getToken(NOW.plusSeconds(3600));
+
+        /* ACT */
+        cache.get(token, "claims", () -> validate(new Object()));
+        cache.get(token, "check", () -> validate(true));
+        cache.get(token, "check", () -> validate(true));
+
+        /* ASSERT */
+        assertEquals(2, validations.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void get_tokenWithoutExpiration_notCached() throws Throwable {
+        /* ARRANGE */
+        final var cache = newCache(NOW, 10);
+
+        /* ACT */
+        cache.get("not-a-jwt", "check", () -> validate(true));
+        cache.get("not-a-jwt", "check", () -> validate(true));
+
+        /* ASSERT */
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void get_maxSizeReached_evictLeastRecentlyUsed() throws Throwable {
+        /* ARRANGE */
+        final var cache = newCache(NOW, 2);
+        final var first = getToken(NOW.plusSeconds(3600));
+        final var second = getToken(NOW.plusSeconds(3601));
+        final var third = getToken(NOW.plusSeconds(3602));
+
+        /* ACT */
+        cache.get(first, "check", () -> validate(true));
+        cache.get(second, "check", () -> validate(true));
+        cache.get(first, "check", () -> validate(true));
+        cache.get(third, "check", () -> validate(true));
+        cache.get(first, "check", () -> validate(true));
+        cache.get(second, "check", () -> validate(true));
+
+        /* ASSERT */
+        assertEquals(4, validations.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void bindTo_lookups_countHitsAndMisses() throws Throwable {
+        /* ARRANGE */
+        final var cache = newCache(NOW, 10);
+        final var registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        final var token = getToken(NOW.plusSeconds(3600));
+
+        /* ACT */
+        cache.get(token, "check", () -> validate(true));
+        cache.get(token, "check", () -> validate(true));
+        cache.get(token, "check", () -> validate(true));
+
+        /* ASSERT */
+        assertEquals(2, registry.get("dsc.ids.dat.cache.requests")
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("dsc.ids.dat.cache.requests")
+                .tag("result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("dsc.ids.dat.cache.size").gauge().value());
+    }
+
+    private <T> T validate(final T result) {
+        validations.incrementAndGet();
+        return result;
+    }
+
+    private static VerifiedDatCache newCache(final Instant now, final int size) {
+        return new VerifiedDatCache(size, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static String getToken(final Instant expiration) {
+        final var encoder = Base64.getUrlEncoder().withoutPadding();
+        final var header = encoder.encodeToString(
+                "{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8));
+        final var payload = encoder.encodeToString(("{\"sub\":\"connector\",\"exp\":"
+                + expiration.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
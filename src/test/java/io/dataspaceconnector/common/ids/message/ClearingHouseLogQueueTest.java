@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids.message;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.dataspaceconnector.common.exception.PolicyExecutionException;
+import io.dataspaceconnector.service.message.builder.type.LogMessageService;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ClearingHouseLogQueueTest {
+
+    @TempDir
+    Path root;
+
+    private final URI recipient = URI.create("https://ch.com/messages/log/1");
+
+    private final LogMessageService logMessageService = Mockito.mock(LogMessageService.class);
+
+    @Test
+    @SneakyThrows
+    void submit_clearingHouseAvailable_sendItem() {
+        /* ARRANGE */
+        final var queue = newQueue();
+        queue.start();
+
+        /* ACT */
+        queue.submit(recipient, () -> "item");
+
+        /* ASSERT */
+        verify(logMessageService, timeout(5000).times(1)).sendMessage(recipient, "item");
+        queue.stop();
+        assertFalse(Files.exists(root.resolve("ch.spool")));
+    }
+
+    @Test
+    @SneakyThrows
+    void submit_clearingHouseUnavailable_spoolAndResendItem() {
+        /* ARRANGE */
+        doThrow(new PolicyExecutionException("unavailable"))
+                .doNothing()
+                .when(logMessageService).sendMessage(any(), any());
+        final var queue = newQueue();
+        queue.start();
+
+        /* ACT */
+        queue.submit(recipient, () -> "item");
+
+        /* ASSERT */
+        verify(logMessageService, timeout(5000).times(2)).sendMessage(recipient, "item");
+        queue.stop();
+        assertFalse(Files.exists(root.resolve("ch.spool")));
+        assertFalse(Files.exists(root.resolve("ch.spool.replay")));
+    }
+
+    @Test
+    @SneakyThrows
+    void stop_itemsQueued_resendAfterRestart() {
+        /* ARRANGE */
+        final var queue = newQueue();
+        queue.submit(recipient, () -> "item");
+
+        /* ACT */
+        queue.stop();
+
+        /* ASSERT */
+        verify(logMessageService, never()).sendMessage(any(), any());
+        assertEquals(0, queue.size());
+        assertTrue(Files.exists(root.resolve("ch.spool")));
+
+        doNothing().when(logMessageService).sendMessage(any(), any());
+        final var restarted = newQueue();
+        restarted.start();
+        verify(logMessageService, timeout(5000).times(1)).sendMessage(recipient, "item");
+        restarted.stop();
+    }
+
+    private ClearingHouseLogQueue newQueue() {
+        return new ClearingHouseLogQueue(logMessageService, new SimpleMeterRegistry(), 10, 5, 10, 100,
+                root.resolve("ch.spool").toString());
+    }
+}
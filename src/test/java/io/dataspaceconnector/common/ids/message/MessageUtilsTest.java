@@ -29,13 +29,18 @@ import de.fraunhofer.iais.eis.ResourceUpdateMessageBuilder;
 import de.fraunhofer.iais.eis.TokenFormat;
 import de.fraunhofer.iais.eis.util.Util;
 import io.dataspaceconnector.common.exception.MessageEmptyException;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 
 import static ids.messaging.util.IdsMessageUtils.getGregorianNow;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -352,6 +357,39 @@ class MessageUtilsTest {
      * Utilities.                                                                                  *
      **********************************************************************************************/
 
+    @Test
+    @SneakyThrows
+    public void encodePayload_data_returnBase64EncodedStream() {
+        /* ARRANGE */
+        final var data = "some data".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT */
+        final var result = MessageUtils.encodePayload(new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertEquals(Base64.getEncoder().encodeToString(data),
+                new String(result.readAllBytes(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @SneakyThrows
+    public void decodePayload_base64String_returnDecodedStream() {
+        /* ARRANGE */
+        final var data = "some data".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT */
+        final var result = MessageUtils.decodePayload(Base64.getEncoder().encodeToString(data));
+
+        /* ASSERT */
+        assertArrayEquals(data, result.readAllBytes());
+    }
+
+    @Test
+    public void decodePayload_null_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class, () -> MessageUtils.decodePayload(null));
+    }
+
     private DescriptionRequestMessage getDescriptionRequestMessageWithRequestedElement() {
         return new DescriptionRequestMessageBuilder(messageId)
                 ._issued_(getGregorianNow())
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.policy;
+
+import java.net.URI;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.BinaryOperator;
+import de.fraunhofer.iais.eis.Constraint;
+import de.fraunhofer.iais.eis.ConstraintBuilder;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.LeftOperand;
+import de.fraunhofer.iais.eis.Permission;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.ProhibitionBuilder;
+import de.fraunhofer.iais.eis.util.RdfResource;
+import de.fraunhofer.iais.eis.util.Util;
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static ids.messaging.util.IdsMessageUtils.getGregorianNow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledPolicyTest {
+
+    private final URI target = URI.create("https://target.com");
+
+    @Test
+    public void compile_agreement_groupRulesByTargetInAgreementOrder() {
+        /* ARRANGE */
+        final var agreement = new ContractAgreementBuilder(URI.create("https://agreement.com"))
+                ._contractStart_(getGregorianNow())
+                ._permission_(Util.asList(getNTimesUsage("2", target),
+                        getNTimesUsage("5", URI.create("https://other.com"))))
+                ._prohibition_(Util.asList(new ProhibitionBuilder()
+                        ._action_(Util.asList(Action.USE))
+                        ._target_(target)
+                        .build()))
+                .build();
+
+        /* ACT */
+        final var result = CompiledPolicy.compile(agreement);
+
+        /* ASSERT */
+        final var rules = result.getRules(target);
+        assertEquals(URI.create("https://agreement.com"), result.getAgreementId());
+        assertEquals(2, rules.size());
+        assertEquals(PolicyPattern.N_TIMES_USAGE, rules.get(0).getPattern());
+        assertEquals(2, rules.get(0).getMaxAccess());
+        assertEquals(PolicyPattern.PROHIBIT_ACCESS, rules.get(1).getPattern());
+        assertTrue(result.getRules(URI.create("https://unknown.com")).isEmpty());
+    }
+
+    @Test
+    public void compile_invalidInterval_keepErrorReason() {
+        /* ARRANGE */
+        final var permission = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                        ._operator_(BinaryOperator.AFTER)
+                        ._rightOperand_(new RdfResource("not a date",
+                                URI.create("xsd:dateTimeStamp")))
+                        .build(), new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                        ._operator_(BinaryOperator.BEFORE)
+                        ._rightOperand_(new RdfResource("2020-07-11T00:00:00Z",
+                                URI.create("xsd:dateTimeStamp")))
+                        .build()))
+                ._target_(target)
+                .build();
+
+        /* ACT */
+        final var result = CompiledRule.compile(permission);
+
+        /* ASSERT */
+        assertEquals(PolicyPattern.USAGE_DURING_INTERVAL, result.getPattern());
+        assertEquals(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL, result.getError());
+        assertNotNull(result.getErrorDetail());
+        assertNull(result.getStart());
+    }
+
+    @Test
+    public void compile_unreadableConstraint_keepErrorWithoutPattern() {
+        /* ARRANGE */
+        final var permission = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(Mockito.mock(Constraint.class)))
+                ._target_(target)
+                .build();
+
+        /* ACT */
+        final var result = CompiledRule.compile(permission);
+
+        /* ASSERT */
+        assertNull(result.getPattern());
+        assertEquals(ErrorMessage.POLICY_RESTRICTION, result.getError());
+    }
+
+    @Test
+    public void compile_null_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class, () -> CompiledPolicy.compile(null));
+    }
+
+    private Permission getNTimesUsage(final String maxAccess, final URI ruleTarget) {
+        return new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.COUNT)
+                        ._operator_(BinaryOperator.EQ)
+                        ._rightOperand_(new RdfResource(maxAccess,
+                                URI.create("xsd:decimal")))
+                        .build()))
+                ._target_(ruleTarget)
+                .build();
+    }
+}
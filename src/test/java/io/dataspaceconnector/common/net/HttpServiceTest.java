@@ -35,8 +35,10 @@ import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.bouncycastle.util.Arrays;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -46,6 +48,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class HttpServiceTest {
@@ -233,6 +238,55 @@ class HttpServiceTest {
         assertArrayEquals(bytes, result.getData().readAllBytes());
     }
 
+    @Test
+    @SneakyThrows
+    void post_data_streamRequestBody() {
+        /* ARRANGE */
+        final var target = new URL("https://target");
+        final var bytes = "data".getBytes(StandardCharsets.UTF_8);
+        final var captor = ArgumentCaptor.forClass(Request.class);
+
+        when(httpSvc.send(captor.capture())).thenReturn(response);
+        when(response.code()).thenReturn(200);
+
+        /* ACT */
+        service.post(target, new HttpService.HttpArgs(), new ByteArrayInputStream(bytes));
+
+        /* ASSERT */
+        final var body = captor.getValue().body();
+        assertNotNull(body);
+        assertTrue(body.isOneShot());
+        assertEquals(-1, body.contentLength());
+        final var sink = new Buffer();
+        body.writeTo(sink);
+        assertArrayEquals(bytes, sink.readByteArray());
+    }
+
+    @Test
+    @SneakyThrows
+    void getStream_responseBody_releaseConnectionOnClose() {
+        /* ARRANGE */
+        final var target = new URL("https://target");
+        final var bytes = "response".getBytes(StandardCharsets.UTF_8);
+
+        when(httpSvc.get(any())).thenReturn(response);
+        when(response.code()).thenReturn(200);
+        when(response.body()).thenReturn(responseBody);
+        when(responseBody.byteStream()).thenReturn(new ByteArrayInputStream(bytes));
+
+        /* ACT */
+        final var result = (HttpResponse) service.getStream(target, new HttpService.HttpArgs());
+
+        /* ASSERT */
+        assertEquals(200, result.getCode());
+        assertArrayEquals(bytes, result.getData().readAllBytes());
+        verify(response, never()).close();
+        verify(responseBody, never()).bytes();
+
+        result.getData().close();
+        verify(response, times(1)).close();
+    }
+
     @Test
     @SneakyThrows
     void get_withAlreadyDefinedQuery() {
@@ -25,11 +25,13 @@ import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Message;
 import org.apache.camel.ProducerTemplate;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -69,6 +71,22 @@ class RouteDataDispatcherTest {
         assertDoesNotThrow(() -> dispatcher.send(routeId, data));
     }
 
+    @Test
+    void send_binaryData_sendBytesUnchanged() {
+        /* ARRANGE */
+        final var binary = new byte[]{(byte) 0xff, (byte) 0xfe, 0x00, (byte) 0x80};
+        final var captor = ArgumentCaptor.forClass(Exchange.class);
+        when(producerTemplate.send(anyString(), captor.capture())).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+
+        /* ACT */
+        assertDoesNotThrow(() -> dispatcher.send(routeId, binary));
+
+        /* ASSERT */
+        assertArrayEquals(binary, (byte[]) captor.getValue().getIn().getBody());
+    }
+
     @Test
     void send_exceptionInRoute_throwDataDispatchException() {
         /* ARRANGE */
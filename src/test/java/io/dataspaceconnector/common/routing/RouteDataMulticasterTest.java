@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.routing;
+
+import io.dataspaceconnector.common.exception.DataDispatchException;
+import io.dataspaceconnector.common.routing.RouteDataMulticaster.FailurePolicy;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class RouteDataMulticasterTest {
+
+    private final RouteDataDispatcher dispatcher = mock(RouteDataDispatcher.class);
+
+    private final Map<URI, byte[]> received = new ConcurrentHashMap<>();
+
+    private final URI route1 = URI.create("https://connector/api/routes/1");
+
+    private final URI route2 = URI.create("https://connector/api/routes/2");
+
+    private final byte[] data = new byte[100_000];
+
+    private RouteDataMulticaster multicaster;
+
+    @AfterEach
+    void tearDown() {
+        multicaster.stop();
+    }
+
+    @Test
+    @SneakyThrows
+    void multicast_allRoutesSucceed_returnDataAndSendToAllRoutes() {
+        /* ARRANGE */
+        multicaster = newMulticaster(0, FailurePolicy.FAIL);
+        receive(route1);
+        receive(route2);
+
+        /* ACT */
+        final byte[] result;
+        try (var stream = multicaster.multicast(List.of(route1, route2),
+                new ByteArrayInputStream(data))) {
+            result = stream.readAllBytes();
+        }
+
+        /* ASSERT */
+        assertArrayEquals(data, result);
+        assertArrayEquals(data, received.get(route1));
+        assertArrayEquals(data, received.get(route2));
+    }
+
+    @Test
+    @SneakyThrows
+    void multicast_routeFailsWithFailPolicy_throwIOExceptionAtEnd() {
+        /* ARRANGE */
+        multicaster = newMulticaster(0, FailurePolicy.FAIL);
+        receive(route1);
+        doThrow(new DataDispatchException("failed"))
+                .when(dispatcher).send(eq(route2), any(InputStream.class), isNull());
+
+        /* ACT */
+        final var stream = multicaster.multicast(List.of(route1, route2),
+                new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertThrows(IOException.class, stream::readAllBytes);
+        assertArrayEquals(data, received.get(route1));
+    }
+
+    @Test
+    @SneakyThrows
+    void multicast_routeFailsWithIgnorePolicy_returnData() {
+        /* ARRANGE */
+        multicaster = newMulticaster(0, FailurePolicy.IGNORE);
+        doThrow(new DataDispatchException("failed"))
+                .when(dispatcher).send(eq(route1), any(InputStream.class), isNull());
+
+        /* ACT */
+        final var result = multicaster.multicast(List.of(route1),
+                new ByteArrayInputStream(data)).readAllBytes();
+
+        /* ASSERT */
+        assertArrayEquals(data, result);
+    }
+
+    @Test
+    @SneakyThrows
+    void multicast_slowRoute_returnDataWithoutWaiting() {
+        /* ARRANGE */
+        multicaster = newMulticaster(0, FailurePolicy.IGNORE);
+        final var proceed = new CountDownLatch(1);
+        final var done = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            proceed.await();
+            received.put(route1, ((InputStream) invocation.getArgument(1)).readAllBytes());
+            done.countDown();
+            return null;
+        }).when(dispatcher).send(eq(route1), any(InputStream.class), isNull());
+
+        /* ACT */
+        final var result = multicaster.multicast(List.of(route1),
+                new ByteArrayInputStream(data)).readAllBytes();
+
+        /* ASSERT */
+        assertArrayEquals(data, result);
+        assertEquals(1, done.getCount());
+        proceed.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertArrayEquals(data, received.get(route1));
+    }
+
+    @Test
+    @SneakyThrows
+    void multicast_routeExceedsTimeout_throwIOExceptionAtEnd() {
+        /* ARRANGE */
+        multicaster = newMulticaster(100, FailurePolicy.FAIL);
+        doAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        }).when(dispatcher).send(eq(route1), any(InputStream.class), isNull());
+
+        /* ACT */
+        final var stream = multicaster.multicast(List.of(route1),
+                new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertThrows(IOException.class, stream::readAllBytes);
+    }
+
+    @Test
+    @SneakyThrows
+    void multicast_closedEarly_sendCompleteDataToRoutes() {
+        /* ARRANGE */
+        multicaster = newMulticaster(0, FailurePolicy.FAIL);
+        receive(route1);
+
+        /* ACT */
+        try (var stream = multicaster.multicast(List.of(route1),
+                new ByteArrayInputStream(data))) {
+            stream.readNBytes(10);
+        }
+
+        /* ASSERT */
+        assertArrayEquals(data, received.get(route1));
+    }
+
+    @SneakyThrows
+    private void receive(final URI routeId) {
+        doAnswer(invocation -> {
+            received.put(routeId, ((InputStream) invocation.getArgument(1)).readAllBytes());
+            return null;
+        }).when(dispatcher).send(eq(routeId), any(InputStream.class), isNull());
+    }
+
+    private RouteDataMulticaster newMulticaster(final long timeout, final FailurePolicy policy) {
+        new Random(42).nextBytes(data);
+        // A small threshold, so that the data is spilled to disk.
+        return new RouteDataMulticaster(dispatcher, true, 2, timeout, policy, 1024);
+    }
+}
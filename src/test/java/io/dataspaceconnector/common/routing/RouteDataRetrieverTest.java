@@ -15,6 +15,8 @@
  */
 package io.dataspaceconnector.common.routing;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.UUID;
@@ -26,16 +28,23 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Message;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.spi.UnitOfWorkFactory;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {RouteDataRetriever.class})
@@ -53,9 +62,22 @@ class RouteDataRetrieverTest {
     @MockBean
     private ProducerTemplate producerTemplate;
 
+    @Mock
+    private UnitOfWorkFactory unitOfWorkFactory;
+
+    @Mock
+    private UnitOfWork unitOfWork;
+
     @Autowired
     private RouteDataRetriever routeDataRetriever;
 
+    @BeforeEach
+    void init() {
+        when(camelContext.adapt(ExtendedCamelContext.class)).thenReturn(camelContext);
+        when(camelContext.getUnitOfWorkFactory()).thenReturn(unitOfWorkFactory);
+        when(unitOfWorkFactory.createUnitOfWork(any())).thenReturn(unitOfWork);
+    }
+
     @Test
     @SneakyThrows
     void get_noExceptionInRoute_returnData() {
@@ -75,6 +97,46 @@ class RouteDataRetrieverTest {
         assertEquals(response, new String(result.getData().readAllBytes()));
     }
 
+    @Test
+    @SneakyThrows
+    void get_binaryBody_returnBytesUnchanged() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+        final var response = new byte[]{(byte) 0xff, (byte) 0xfe, 0x00, (byte) 0x80};
+
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody(InputStream.class)).thenReturn(new ByteArrayInputStream(response));
+
+        /* ACT */
+        final var result = routeDataRetriever.get(url, null);
+
+        /* ASSERT */
+        assertArrayEquals(response, result.getData().readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_dataClosed_completeUnitOfWork() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody(InputStream.class)).thenReturn(new ByteArrayInputStream(new byte[1]));
+
+        final var result = routeDataRetriever.get(url, null);
+        verify(unitOfWork, never()).done(any());
+
+        /* ACT */
+        result.getData().close();
+
+        /* ASSERT */
+        verify(unitOfWork, times(1)).done(exchange);
+    }
+
     @Test
     @SneakyThrows
     void get_exceptionInRoute_throwDataRetrievalException() {
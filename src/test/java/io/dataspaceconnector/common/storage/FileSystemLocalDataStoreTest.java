@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ */
+package io.dataspaceconnector.common.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileSystemLocalDataStoreTest {
+
+    @TempDir
+    Path root;
+
+    private final byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @SneakyThrows
+    void write_data_storeAndReturnSizeAndChecksum() {
+        /* ARRANGE */
+        final var store = new FileSystemLocalDataStore(root.toString());
+        final var checksum = new CRC32C();
+        checksum.update(data);
+
+        /* ACT */
+        final var result = store.write(new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertEquals(data.length, result.getSize());
+        assertEquals(checksum.getValue(), result.getChecksum());
+        try (var stream = store.read(result.getReference())) {
+            assertArrayEquals(data, stream.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void write_sameDataTwice_returnSameReference() {
+        /* ARRANGE */
+        final var store = new FileSystemLocalDataStore(root.toString());
+
+        /* ACT */
+        final var first = store.write(new ByteArrayInputStream(data));
+        final var second = store.write(new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertEquals(first.getReference(), second.getReference());
+        try (var files = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void delete_storedData_removeFile() {
+        /* ARRANGE */
+        final var store = new FileSystemLocalDataStore(root.toString());
+        final var stored = store.write(new ByteArrayInputStream(data));
+        assertTrue(Files.exists(store.resolve(stored.getReference())));
+
+        /* ACT */
+        store.delete(stored.getReference());
+
+        /* ASSERT */
+        assertFalse(Files.exists(store.resolve(stored.getReference())));
+    }
+
+    @Test
+    @SneakyThrows
+    void read_transferSection_writeOnlySection() {
+        /* ARRANGE */
+        final var store = new FileSystemLocalDataStore(root.toString());
+        final var stored = store.write(new ByteArrayInputStream(data));
+        final var output = new ByteArrayOutputStream();
+
+        /* ACT */
+        try (var stream = (StoredFileInputStream) store.read(stored.getReference())) {
+            stream.transferTo(1, 2, output);
+
+            /* ASSERT */
+            assertEquals(data.length, stream.size());
+            assertEquals(stored.getReference(), stream.getReference());
+        }
+        assertEquals("at", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SneakyThrows
+    void read_transferListenerSet_reportReadAndTransferredBytes() {
+        /* ARRANGE */
+        final var store = new FileSystemLocalDataStore(root.toString());
+        final var stored = store.write(new ByteArrayInputStream(data));
+        final var transferred = new AtomicLong();
+
+        /* ACT */
+        try (var stream = (StoredFileInputStream) store.read(stored.getReference())) {
+            stream.setTransferListener(transferred::addAndGet);
+            stream.transferTo(1, 2, new ByteArrayOutputStream());
+            stream.readAllBytes();
+        }
+
+        /* ASSERT */
+        assertEquals(2 + data.length, transferred.get());
+    }
+
+    @Test
+    @SneakyThrows
+    void read_invalidReference_throwIllegalArgumentException() {
+        /* ARRANGE */
+        final var store = new FileSystemLocalDataStore(root.toString());
+
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class, () -> store.read("../config.json"));
+    }
+}
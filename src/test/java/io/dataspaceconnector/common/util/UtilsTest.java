@@ -165,6 +165,34 @@ class UtilsTest {
         assertTrue(result.toList().contains(3));
     }
 
+    @Test
+    public void toPage_offsetBeyondPageSize_returnPage() {
+        /* ARRANGE */
+        final var list = List.of(9, 8, 7, 6, 5, 4, 3, 2, 1);
+        final var pageable = PageRequest.of(3, 2);
+
+        /* ACT */
+        final var result = Utils.toPage(list, pageable);
+
+        /* ASSERT */
+        assertEquals(List.of(3, 2), result.toList());
+        assertEquals(list.size(), result.getTotalElements());
+    }
+
+    @Test
+    public void toPage_offsetBeyondList_returnEmptyPage() {
+        /* ARRANGE */
+        final var list = List.of(3, 2, 1);
+        final var pageable = PageRequest.of(2, 2);
+
+        /* ACT */
+        final var result = Utils.toPage(list, pageable);
+
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+        assertEquals(list.size(), result.getTotalElements());
+    }
+
     /***********************************************************************************************
      * toPageRequest.                                                                              *
      **********************************************************************************************/
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.config.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingPasswordEncoderTest {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    public void matches_sameCredentials_verifyOnce() {
+        /* ARRANGE */
+        when(delegate.matches("password", "hash")).thenReturn(true);
+        final var encoder = new CachingPasswordEncoder(delegate, Duration.ofMinutes(5), 10, clock);
+
+        /* ACT */
+        final var first = encoder.matches("password", "hash");
+        final var second = encoder.matches("password", "hash");
+
+        /* ASSERT */
+        assertTrue(first);
+        assertTrue(second);
+        verify(delegate, times(1)).matches("password", "hash");
+        assertEquals(1, encoder.size());
+    }
+
+    @Test
+    public void matches_wrongPassword_neverCached() {
+        /* ARRANGE */
+        when(delegate.matches("wrong", "hash")).thenReturn(false);
+        final var encoder = new CachingPasswordEncoder(delegate, Duration.ofMinutes(5), 10, clock);
+
+        /* ACT */
+        final var first = encoder.matches("wrong", "hash");
+        final var second = encoder.matches("wrong", "hash");
+
+        /* ASSERT */
+        assertFalse(first);
+        assertFalse(second);
+        verify(delegate, times(2)).matches("wrong", "hash");
+        assertEquals(0, encoder.size());
+    }
+
+    @Test
+    public void matches_changedHash_verifyAgain() {
+        /* ARRANGE */
+        when(delegate.matches("password", "hash")).thenReturn(true);
+        when(delegate.matches("password", "other")).thenReturn(false);
+        final var encoder = new CachingPasswordEncoder(delegate, Duration.ofMinutes(5), 10, clock);
+        encoder.matches("password", "hash");
+
+        /* ACT */
+        final var result = encoder.matches("password", "other");
+
+        /* ASSERT */
+        assertFalse(result);
+        verify(delegate, times(1)).matches("password", "other");
+    }
+
+    @Test
+    public void matches_entryExpired_verifyAgain() {
+        /* ARRANGE */
+        when(delegate.matches("password", "hash")).thenReturn(true);
+        final var encoder = new CachingPasswordEncoder(delegate, Duration.ofMinutes(5), 10, clock);
+        encoder.matches("password", "hash");
+        clock.advance(Duration.ofMinutes(6));
+
+        /* ACT */
+        final var result = encoder.matches("password", "hash");
+
+        /* ASSERT */
+        assertTrue(result);
+        verify(delegate, times(2)).matches("password", "hash");
+    }
+
+    @Test
+    public void matches_cacheDisabled_verifyEveryTime() {
+        /* ARRANGE */
+        when(delegate.matches("password", "hash")).thenReturn(true);
+        final var encoder = new CachingPasswordEncoder(delegate, Duration.ZERO, 10, clock);
+
+        /* ACT */
+        encoder.matches("password", "hash");
+        encoder.matches("password", "hash");
+
+        /* ASSERT */
+        verify(delegate, times(2)).matches("password", "hash");
+        assertEquals(0, encoder.size());
+    }
+
+    @Test
+    public void matches_maxSizeReached_evictLeastRecentlyUsed() {
+        /* ARRANGE */
+        when(delegate.matches(any(), anyString())).thenReturn(true);
+        final var encoder = new CachingPasswordEncoder(delegate, Duration.ofMinutes(5), 2, clock);
+        encoder.matches("a", "hash");
+        encoder.matches("b", "hash");
+        encoder.matches("a", "hash");
+
+        /* ACT */
+        encoder.matches("c", "hash");
+        encoder.matches("b", "hash");
+
+        /* ASSERT */
+        assertEquals(2, encoder.size());
+        verify(delegate, times(1)).matches("a", "hash");
+        verify(delegate, times(2)).matches("b", "hash");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import de.fraunhofer.iais.eis.BaseConnectorBuilder;
 import de.fraunhofer.iais.eis.ConnectorEndpointBuilder;
 import de.fraunhofer.iais.eis.SecurityProfile;
 import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.SelfDescription;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -102,7 +103,8 @@ public class MainControllerTest {
                         ._accessURL_(URI.create("https://accessUrl"))
                         .build())
                 .build();
-        Mockito.doReturn(connector).when(connectorService).getConnectorWithOfferedResources();
+        final var selfDescription = new SelfDescription(connector.toRdf());
+        Mockito.doReturn(selfDescription).when(connectorService).getSelfDescription();
 
         /* ACT */
         final var result =
@@ -110,6 +112,23 @@ public class MainControllerTest {
 
         /* ASSERT */
         assertEquals(connector.toRdf(), result.getResponse().getContentAsString());
+        assertEquals(selfDescription.getETag(), result.getResponse().getHeader("ETag"));
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getPrivateSelfDescription_eTagMatches_returnNotModified() throws Exception {
+        /* ARRANGE */
+        final var selfDescription = new SelfDescription("{}");
+        Mockito.doReturn(selfDescription).when(connectorService).getSelfDescription();
+
+        /* ACT */
+        final var result = mockMvc.perform(get("/api/connector")
+                        .header("If-None-Match", selfDescription.getETag()))
+                .andExpect(status().isNotModified()).andReturn();
+
+        /* ASSERT */
+        assertEquals("", result.getResponse().getContentAsString());
     }
 
 
@@ -117,7 +136,7 @@ public class MainControllerTest {
     @WithMockUser("ADMIN")
     public void getPrivateSelfDescription_serviceFails_InternalServerError() throws Exception {
         /* ARRANGE */
-        Mockito.doThrow(ConstraintViolationException.class).when(connectorService).getConnectorWithOfferedResources();
+        Mockito.doThrow(ConstraintViolationException.class).when(connectorService).getSelfDescription();
 
         /* ACT */
         final var result = mockMvc.perform(get("/api/connector"))
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.controller.resource.type;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Serves artifact data held by the {@link io.dataspaceconnector.common.storage
+ * .FileSystemLocalDataStore} through the REST API.
+ */
+@SpringBootTest(properties = {
+        "storage.local.type=filesystem",
+        "storage.local.path=${java.io.tmpdir}/dsc-artifact-range-it"})
+@AutoConfigureMockMvc(addFilters = false)
+class ArtifactControllerRangeIT {
+
+    private final byte[] data = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String dataPath;
+
+    @BeforeEach
+    void createArtifact() throws Exception {
+        final var created = mockMvc.perform(post("/api/artifacts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"range\"}")).andReturn().getResponse();
+        assertEquals(201, created.getStatus());
+
+        dataPath = created.getHeader(HttpHeaders.LOCATION) + "/data";
+        final var stored = mockMvc.perform(put(dataPath)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(data)).andReturn().getResponse();
+        assertEquals(204, stored.getStatus());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    void getData_singleRange_returnPartialContentAndCountServedBytes() throws Exception {
+        /* ARRANGE */
+        final var served = getServedBytes();
+
+        /* ACT */
+        final var result = perform(get(dataPath).header(HttpHeaders.RANGE, "bytes=2-5"));
+
+        /* ASSERT */
+        final var response = result.getResponse();
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 2-5/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("4", response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertEquals("2345", response.getContentAsString());
+        assertEquals(served + 4, getServedBytes());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    void getData_noRange_returnCompleteDataWithValidators() throws Exception {
+        /* ACT */
+        final var response = perform(get(dataPath)).getResponse();
+
+        /* ASSERT */
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(getETag(), response.getHeader(HttpHeaders.ETAG));
+        assertEquals("10", response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertEquals("0123456789", response.getContentAsString());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    void getData_openEndedRange_returnRemainingData() throws Exception {
+        /* ACT */
+        final var response = perform(get(dataPath).header(HttpHeaders.RANGE, "bytes=7-"))
+                .getResponse();
+
+        /* ASSERT */
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 7-9/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("789", response.getContentAsString());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    void getData_rangeBeyondData_returnRangeNotSatisfiable() throws Exception {
+        /* ACT */
+        final var response = perform(get(dataPath).header(HttpHeaders.RANGE, "bytes=20-30"))
+                .getResponse();
+
+        /* ASSERT */
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(0, response.getContentLength());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    void getData_multipleRanges_returnCompleteData() throws Exception {
+        /* ACT */
+        final var response = perform(get(dataPath).header(HttpHeaders.RANGE, "bytes=0-1,4-5"))
+                .getResponse();
+
+        /* ASSERT */
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    void getData_ifRangeMatchesETag_returnPartialContent() throws Exception {
+        /* ACT */
+        final var response = perform(get(dataPath)
+                .header(HttpHeaders.RANGE, "bytes=0-2")
+                .header(HttpHeaders.IF_RANGE, getETag())).getResponse();
+
+        /* ASSERT */
+        assertEquals(206, response.getStatus());
+        assertEquals("012", response.getContentAsString());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    void getData_ifRangeStaleETag_returnCompleteData() throws Exception {
+        /* ACT */
+        final var response = perform(get(dataPath)
+                .header(HttpHeaders.RANGE, "bytes=0-2")
+                .header(HttpHeaders.IF_RANGE, "\"stale\"")).getResponse();
+
+        /* ASSERT */
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("0123456789", response.getContentAsString());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    void headData_fileInStore_returnLengthWithoutReadingData() throws Exception {
+        /* ARRANGE */
+        final var served = getServedBytes();
+
+        /* ACT */
+        final var response = perform(head(dataPath)).getResponse();
+
+        /* ASSERT */
+        assertEquals(200, response.getStatus());
+        assertEquals("10", response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(getETag(), response.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(served, getServedBytes());
+    }
+
+    /**
+     * Perform a request and wait for the streamed response body.
+     */
+    private MvcResult perform(final RequestBuilder request) throws Exception {
+        final var result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            return mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+
+        return result;
+    }
+
+    private String getETag() throws Exception {
+        final var hash = MessageDigest.getInstance("SHA-256").digest(data);
+        return "\"" + HexFormat.of().formatHex(hash) + "\"";
+    }
+
+    private double getServedBytes() {
+        return meterRegistry.get("dsc.artifact.data").tag("direction", "served").counter()
+                .count();
+    }
+}
@@ -26,6 +26,7 @@ import io.dataspaceconnector.repository.ArtifactRepository;
 import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.DataRetriever;
+import io.dataspaceconnector.service.LocalDataService;
 import io.dataspaceconnector.service.MultipartArtifactRetriever;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.service.message.SubscriberNotificationService;
@@ -40,6 +41,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -91,6 +93,9 @@ class ArtifactControllerTest {
     @MockBean
     private RouteDataDispatcher routeDataDispatcher;
 
+    @MockBean
+    private LocalDataService localDataService;
+
     @MockBean
     private RouteViewAssembler routeViewAssembler;
 
@@ -105,16 +110,19 @@ class ArtifactControllerTest {
         /* ARRANGE */
         final var artifactId = UUID.randomUUID();
         final byte[] data = {0 , 1, 2, 3};
+        final var request = new MockHttpServletRequest();
+        request.setContent(data);
 
-        Mockito.doReturn(null).when(service).setData(eq(artifactId), any());
+        Mockito.doNothing().when(service).replaceData(eq(artifactId), any());
         Mockito.doReturn(null).when(service).get(any());
         Mockito.doNothing().when(subscriberNotificationService).notifyOnUpdate(any());
 
         /* ACT */
-        final var result = controller.putData(artifactId, data);
+        final var result = controller.putData(artifactId, request);
 
         /* ASSERT */
         assertEquals(HttpStatus.NO_CONTENT.value(), result.getStatusCode().value());
+        Mockito.verify(service).replaceData(eq(artifactId), any());
     }
 
     @Test
@@ -15,24 +15,32 @@
  */
 package io.dataspaceconnector.extension.filter.httptracing;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.context.ApplicationEventPublisher;
 
-@SpringBootTest(classes = {HttpTraceEventHandler.class})
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class HttpTraceEventHandlerTest {
 
-    @MockBean
-    private ApplicationEventPublisher publisher;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
 
-    @Autowired
-    private HttpTraceEventHandler handler;
+    private final HttpTraceEventHandler handler =
+            Mockito.spy(new HttpTraceEventHandler(registry, 1));
+
+    @AfterEach
+    public void stop() {
+        handler.stop();
+    }
 
     @Test
-    public void sendHttpTraceEvent_validTrace_publishHttpTraceEvent() {
+    public void sendHttpTraceEvent_validTrace_handleHttpTraceEvent() {
         /* ARRANGE */
         final var trace = new HttpTrace();
         trace.setBody("HELLO");
@@ -41,28 +49,51 @@ public class HttpTraceEventHandlerTest {
         handler.sendHttpTraceEvent(trace);
 
         /* ASSERT */
-        Mockito.verify(publisher, Mockito.atMostOnce()).publishEvent(Mockito.eq(trace));
+        Mockito.verify(handler, Mockito.timeout(5000)).handleHttpTraceEvent(Mockito.eq(trace));
     }
 
     @Test
-    public void sendHttpTraceEvent_null_dontPublishEvent() {
+    public void sendHttpTraceEvent_null_dontHandleEvent() {
         /* ARRANGE */
         /* ACT */
         handler.sendHttpTraceEvent(null);
 
         /* ASSERT */
-        Mockito.verify(publisher, Mockito.never()).publishEvent(Mockito.any());
+        Mockito.verify(handler, Mockito.never()).handleHttpTraceEvent(Mockito.any());
     }
 
     @Test
-    public void handleHttpTraceEvent_validTrace_logIt() {
+    public void sendHttpTraceEvent_queueFull_dropTrace() throws InterruptedException {
         /* ARRANGE */
-        final var trace = new HttpTrace();
-        trace.setBody("HELLO");
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(handler).handleHttpTraceEvent(Mockito.any());
+
+        handler.sendHttpTraceEvent(new HttpTrace());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        handler.sendHttpTraceEvent(new HttpTrace());
 
         /* ACT */
-        handler.handleHttpTraceEvent(trace);
+        handler.sendHttpTraceEvent(new HttpTrace());
 
         /* ASSERT */
+        assertEquals(1, registry.get("dsc.httptrace.dropped").counter().count());
+        assertEquals(1, registry.get("dsc.httptrace.pending").gauge().value());
+        release.countDown();
+        Mockito.verify(handler, Mockito.timeout(5000).times(2)).handleHttpTraceEvent(Mockito.any());
+    }
+
+    @Test
+    public void handleHttpTraceEvent_validTrace_logIt() {
+        /* ARRANGE */
+        final var trace = new HttpTrace();
+        trace.setBody("HELLO");
+
+        /* ACT && ASSERT */
+        assertDoesNotThrow(() -> handler.handleHttpTraceEvent(trace));
     }
 }
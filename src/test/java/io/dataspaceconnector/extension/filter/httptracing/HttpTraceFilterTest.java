@@ -15,28 +15,24 @@
  */
 package io.dataspaceconnector.extension.filter.httptracing;
 
-import java.nio.charset.StandardCharsets;
-import java.time.ZonedDateTime;
-import java.util.Collections;
-import java.util.HashMap;
-
-import io.dataspaceconnector.extension.filter.httptracing.internal.RequestWrapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import javax.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 public class HttpTraceFilterTest {
@@ -44,52 +40,43 @@ public class HttpTraceFilterTest {
     @Mock
     HttpTraceEventHandler eventHandler;
 
-    @Mock
-    MockHttpServletRequest request;
-
-    @Mock
-    MockHttpServletResponse response;
-
-    @Mock
-    MockFilterChain filterChain;
-
     @Captor
     private ArgumentCaptor<HttpTrace> traceCaptor;
 
-    @InjectMocks
-    private HttpTraceFilter filter;
+    /**
+     * Reads the request and writes the response like a controller would.
+     */
+    private static final FilterChain ECHO_CHAIN = (request, response) -> {
+        final var body = request.getInputStream().readAllBytes();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getOutputStream().write("RESPONSE: ".getBytes(StandardCharsets.UTF_8));
+        response.getOutputStream().write(body);
+    };
+
+    private HttpTraceFilter newFilter(final double sampleRate, final int bodyLimit) {
+        return new HttpTraceFilter(eventHandler, sampleRate, bodyLimit,
+                List.of("/api/artifacts/*/data/**"));
+    }
+
+    private static MockHttpServletRequest newRequest(final String uri) {
+        final var request = new MockHttpServletRequest("METHOD", uri);
+        request.addHeader("SOME", "HEADER");
+        request.addParameter("OTHER", "PARAMETER");
+        request.setRemoteAddr("CLIENT");
+        request.setContent("REQUEST BODY".getBytes(StandardCharsets.UTF_8));
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return request;
+    }
 
     @Test
     public void doFilterInternal_validRequest_captureRequest() throws Exception {
         /* ARRANGE */
-        final var now = ZonedDateTime.now();
-        final var headers = new HashMap<>();
-        headers.put("SOME", "HEADER");
-
-        final var headerNames = Collections.enumeration(headers.keySet());
-
-        Mockito.doReturn(headerNames).when(request).getHeaderNames();
-        Mockito.doReturn("/URI").when(request).getRequestURI();
-        Mockito.doReturn("METHOD").when(request).getMethod();
-        Mockito.doReturn("CLIENT").when(request).getRemoteAddr();
-
-        final var params = new HashMap<>();
-        params.put("OTHER", "PARAMETER");
-
-        final var parameterNames = Collections.enumeration(params.keySet());
-        Mockito.doReturn(parameterNames).when(request).getParameterNames();
-
-        final var customServletIS =
-                RequestWrapper.class.getDeclaredClasses()[0].getDeclaredConstructor(byte[].class);
-        customServletIS.setAccessible(true);
-        final var requestBody =
-                customServletIS.newInstance("BODY".getBytes(StandardCharsets.UTF_8));
-
-        Mockito.doReturn(requestBody).when(request).getInputStream();
-        Mockito.doReturn(StandardCharsets.UTF_8.name()).when(request).getCharacterEncoding();
+        final var filter = newFilter(1.0, 1024);
+        final var request = newRequest("/URI");
+        final var response = new MockHttpServletResponse();
 
         /* ACT */
-        filter.doFilter(request, response, filterChain);
+        filter.doFilter(request, response, ECHO_CHAIN);
 
         /* ASSERT */
         Mockito.verify(eventHandler, Mockito.times(2)).sendHttpTraceEvent(traceCaptor.capture());
@@ -99,22 +86,105 @@ public class HttpTraceFilterTest {
 
         final var requestTrace = traces.get(0);
         assertNotNull(requestTrace.getTraceId());
-        // FIXME HttpTraceFilterTest.doFilterInternal_validRequest_captureRequest:102 expected: <true> but was: <false>
-//        assertTrue(requestTrace.getTimestamp().isAfter(now));
+        assertNotNull(requestTrace.getTimestamp());
         assertEquals("/URI", requestTrace.getUrl());
         assertEquals("METHOD", requestTrace.getMethod());
         assertEquals("CLIENT", requestTrace.getClient());
+        assertEquals("HEADER", requestTrace.getHeaders().get("SOME"));
+        assertEquals("PARAMETER", requestTrace.getParameterMap().get("OTHER"));
+        assertEquals("REQUEST BODY", requestTrace.getBody());
 
         final var responseTrace = traces.get(1);
         assertEquals(responseTrace.getTraceId(), requestTrace.getTraceId());
-        // FIXME HttpTraceFilterTest.doFilterInternal_validRequest_captureRequest:109 expected: <true> but was: <false>
-//        assertTrue(responseTrace.getTimestamp().isAfter(requestTrace.getTimestamp()));
         assertNull(responseTrace.getMethod());
         assertNull(responseTrace.getUrl());
-        assertEquals("ERROR", responseTrace.getBody());
-        assertEquals(0, responseTrace.getHeaders().size());
-        assertEquals(0, responseTrace.getStatus());
+        assertEquals("RESPONSE: REQUEST BODY", responseTrace.getBody());
+        assertEquals(200, responseTrace.getStatus());
         assertNull(responseTrace.getClient());
         assertNull(responseTrace.getParameterMap());
+
+        assertEquals("RESPONSE: REQUEST BODY", response.getContentAsString());
+    }
+
+    @Test
+    public void doFilterInternal_largeBodies_captureOnlyStartAndPassAllData() throws Exception {
+        /* ARRANGE */
+        final var filter = newFilter(1.0, 4);
+        final var request = newRequest("/URI");
+        final var response = new MockHttpServletResponse();
+
+        /* ACT */
+        filter.doFilter(request, response, ECHO_CHAIN);
+
+        /* ASSERT */
+        Mockito.verify(eventHandler, Mockito.times(2)).sendHttpTraceEvent(traceCaptor.capture());
+        final var traces = traceCaptor.getAllValues();
+        assertEquals("REQU", traces.get(0).getBody());
+        assertEquals("RESP", traces.get(1).getBody());
+        assertEquals("RESPONSE: REQUEST BODY", response.getContentAsString());
+    }
+
+    @Test
+    public void doFilterInternal_noBody_bodyNotSet() throws Exception {
+        /* ARRANGE */
+        final var filter = newFilter(1.0, 1024);
+        final var request = new MockHttpServletRequest("GET", "/URI");
+        final var response = new MockHttpServletResponse();
+
+        /* ACT */
+        filter.doFilter(request, response, (req, res) -> { });
+
+        /* ASSERT */
+        Mockito.verify(eventHandler, Mockito.times(2)).sendHttpTraceEvent(traceCaptor.capture());
+        final var traces = traceCaptor.getAllValues();
+        assertNull(traces.get(0).getBody());
+        assertNull(traces.get(1).getBody());
+        assertEquals(0, traces.get(1).getHeaders().size());
+    }
+
+    @Test
+    public void doFilterInternal_concurrentTraces_ownTraceIds() throws Exception {
+        /* ARRANGE */
+        final var filter = newFilter(1.0, 1024);
+
+        /* ACT */
+        filter.doFilter(newRequest("/A"), new MockHttpServletResponse(), ECHO_CHAIN);
+        filter.doFilter(newRequest("/B"), new MockHttpServletResponse(), ECHO_CHAIN);
+
+        /* ASSERT */
+        Mockito.verify(eventHandler, Mockito.times(4)).sendHttpTraceEvent(traceCaptor.capture());
+        final var traces = traceCaptor.getAllValues();
+        assertEquals(traces.get(0).getTraceId(), traces.get(1).getTraceId());
+        assertEquals(traces.get(2).getTraceId(), traces.get(3).getTraceId());
+        assertNotEquals(traces.get(0).getTraceId(), traces.get(2).getTraceId());
+    }
+
+    @Test
+    public void doFilterInternal_notSampled_passWithoutTrace() throws Exception {
+        /* ARRANGE */
+        final var filter = newFilter(0.0, 1024);
+        final var response = new MockHttpServletResponse();
+
+        /* ACT */
+        filter.doFilter(newRequest("/URI"), response, ECHO_CHAIN);
+
+        /* ASSERT */
+        Mockito.verifyNoInteractions(eventHandler);
+        assertEquals("RESPONSE: REQUEST BODY", response.getContentAsString());
+    }
+
+    @Test
+    public void doFilterInternal_dataEndpoint_passWithoutTrace() throws Exception {
+        /* ARRANGE */
+        final var filter = newFilter(1.0, 1024);
+        final var request = newRequest("/api/artifacts/a0b8bcea-6ad6-4bd5-b9ad-d1f2a9a4bb3f/data");
+        final var response = new MockHttpServletResponse();
+
+        /* ACT */
+        filter.doFilter(request, response, ECHO_CHAIN);
+
+        /* ASSERT */
+        Mockito.verifyNoInteractions(eventHandler);
+        assertEquals("RESPONSE: REQUEST BODY", response.getContentAsString());
     }
 }
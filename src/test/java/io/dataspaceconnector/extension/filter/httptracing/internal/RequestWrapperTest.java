@@ -18,74 +18,74 @@ package io.dataspaceconnector.extension.filter.httptracing.internal;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RequestWrapperTest {
 
-    @Test
-    public void getRequestBody_copyBody_returnContent() throws IOException {
-        /* ARRANGE */
+    private static MockHttpServletRequest newRequest() {
         final var request = new MockHttpServletRequest();
         request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
-        request.setCharacterEncoding(String.valueOf(Charset.defaultCharset()));
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return request;
+    }
 
-        final var wrapper = new RequestWrapper(request);
+    @Test
+    public void getRequestBody_bodyNotRead_returnEmpty() {
+        /* ARRANGE */
+        final var wrapper = new RequestWrapper(newRequest(), 1024);
 
         /* ACT */
         final var result = wrapper.getRequestBody();
 
         /* ASSERT */
-        assertTrue(Arrays.equals("HELLO".getBytes(StandardCharsets.UTF_8), result));
+        assertEquals(0, result.length);
+        assertNull(wrapper.getRequestBodyAsString());
     }
 
     @Test
     public void getInputStream_copyBody_returnContent() throws IOException {
         /* ARRANGE */
-        final var request = new MockHttpServletRequest();
-        request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
-        request.setCharacterEncoding(String.valueOf(Charset.defaultCharset()));
-        final var wrapper = new RequestWrapper(request);
+        final var wrapper = new RequestWrapper(newRequest(), 1024);
 
         /* ACT */
         final var result = wrapper.getInputStream();
 
         /* ASSERT */
-        assertTrue(Arrays.equals("HELLO".getBytes(StandardCharsets.UTF_8), result.readAllBytes()));
+        assertArrayEquals("HELLO".getBytes(StandardCharsets.UTF_8), result.readAllBytes());
         assertTrue(result.isFinished());
         assertTrue(result.isReady());
+        assertArrayEquals("HELLO".getBytes(StandardCharsets.UTF_8), wrapper.getRequestBody());
+    }
+
+    @Test
+    public void getInputStream_bodyExceedsLimit_captureOnlyStart() throws IOException {
+        /* ARRANGE */
+        final var wrapper = new RequestWrapper(newRequest(), 2);
+
+        /* ACT */
+        final var result = wrapper.getInputStream().readAllBytes();
+
+        /* ASSERT */
+        assertArrayEquals("HELLO".getBytes(StandardCharsets.UTF_8), result);
+        assertEquals("HE", wrapper.getRequestBodyAsString());
     }
 
     @Test
     public void getReader_copyBody_returnContent() throws IOException {
         /* ARRANGE */
-        final var request = new MockHttpServletRequest();
-        request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
-        request.setCharacterEncoding(String.valueOf(Charset.defaultCharset()));
-        final var wrapper = new RequestWrapper(request);
-        wrapper.getRequestBody();
-
-        final var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(
-                "HELLO".getBytes(StandardCharsets.UTF_8))));
-
-        /* ACT && ASSERT */
-        final var result = wrapper.getReader();
-
-        while (true) {
-            final var x = result.read();
-            final var y = reader.read();
-            assertEquals(x, y);
-            if (x == -1 || y == -1) {
-                break;
-            }
-        }
+        final var wrapper = new RequestWrapper(newRequest(), 1024);
+
+        /* ACT */
+        final var result = wrapper.getReader().readLine();
+
+        /* ASSERT */
+        assertEquals("HELLO", result);
+        assertEquals("HELLO", wrapper.getRequestBodyAsString());
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020-2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.telemetry;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TracePropagationTest {
+
+    private static final SpanContext SPAN_CONTEXT = SpanContext.create(
+            "0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331",
+            TraceFlags.getSampled(), TraceState.getDefault());
+
+    @Test
+    public void getHeaders_noActiveSpan_returnEmpty() {
+        /* ARRANGE */
+        // Nothing to arrange here.
+
+        /* ACT */
+        final var result = TracePropagation.getHeaders();
+
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void getHeaders_activeSpan_returnTraceParent() {
+        /* ARRANGE */
+        final var span = Span.wrap(SPAN_CONTEXT);
+
+        /* ACT */
+        Map<String, String> result;
+        try (var scope = span.makeCurrent()) {
+            result = TracePropagation.getHeaders();
+        }
+
+        /* ASSERT */
+        assertEquals("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01",
+                result.get("traceparent"));
+    }
+
+    @Test
+    public void extract_headersOfActiveSpan_returnSpanContext() {
+        /* ARRANGE */
+        final var headers = new HashMap<String, Object>();
+        try (var scope = Span.wrap(SPAN_CONTEXT).makeCurrent()) {
+            headers.putAll(TracePropagation.getHeaders());
+        }
+
+        /* ACT */
+        final var result = TracePropagation.extract(headers);
+
+        /* ASSERT */
+        assertTrue(TracePropagation.hasTraceContext(headers));
+        final var spanContext = Span.fromContext(result).getSpanContext();
+        assertEquals(SPAN_CONTEXT.getTraceId(), spanContext.getTraceId());
+        assertEquals(SPAN_CONTEXT.getSpanId(), spanContext.getSpanId());
+        assertTrue(spanContext.isRemote());
+    }
+
+    @Test
+    public void extract_noTraceContext_returnCurrentContext() {
+        /* ARRANGE */
+        final var headers = new HashMap<String, Object>();
+        headers.put("Content-Type", "text/plain");
+
+        /* ACT */
+        final var result = TracePropagation.extract(headers);
+
+        /* ASSERT */
+        assertFalse(TracePropagation.hasTraceContext(headers));
+        assertFalse(Span.fromContext(result).getSpanContext().isValid());
+    }
+
+    @Test
+    public void getParentContext_noActiveSpanAndNoRequest_returnInvalidSpan() {
+        /* ARRANGE */
+        // Nothing to arrange here.
+
+        /* ACT */
+        final var result = TracePropagation.getParentContext();
+
+        /* ASSERT */
+        assertFalse(Span.fromContext(result).getSpanContext().isValid());
+    }
+}
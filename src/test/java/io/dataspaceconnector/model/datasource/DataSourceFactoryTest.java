@@ -254,6 +254,65 @@ class DataSourceFactoryTest {
         assertFalse(result);
     }
 
+    @Test
+    void create_databaseDescWithoutPoolSettings_setDefaultPoolSettings() {
+        /* ARRANGE */
+        final var desc = new DatabaseDataSourceDesc();
+        desc.setUrl("https://someUrl");
+        desc.setDriverClassName("driverClass");
+
+        /* ACT */
+        final var dataSource = (DatabaseDataSource) factory.create(desc);
+
+        /* ASSERT */
+        assertEquals(DataSourceFactory.DEFAULT_MAXIMUM_POOL_SIZE, dataSource.getMaximumPoolSize());
+        assertEquals(DataSourceFactory.DEFAULT_MINIMUM_IDLE, dataSource.getMinimumIdle());
+        assertEquals(DataSourceFactory.DEFAULT_CONNECTION_TIMEOUT,
+                dataSource.getConnectionTimeout());
+        assertEquals(DataSourceFactory.DEFAULT_IDLE_TIMEOUT, dataSource.getIdleTimeout());
+        assertEquals(DataSourceFactory.DEFAULT_MAX_LIFETIME, dataSource.getMaxLifetime());
+        assertEquals(DataSourceFactory.DEFAULT_VALIDATION_QUERY, dataSource.getValidationQuery());
+    }
+
+    @Test
+    void update_newMaximumPoolSize_willUpdate() {
+        /* ARRANGE */
+        final var desc = new DatabaseDataSourceDesc();
+        desc.setUrl("https://someUrl");
+        desc.setDriverClassName("driverClass");
+        final var dataSource = factory.create(desc);
+
+        final var newDesc = new DatabaseDataSourceDesc();
+        newDesc.setUrl("https://someUrl");
+        newDesc.setDriverClassName("driverClass");
+        newDesc.setMaximumPoolSize(20);
+
+        /* ACT */
+        final var result = factory.update(dataSource, newDesc);
+
+        /* ASSERT */
+        assertTrue(result);
+        assertEquals(20, ((DatabaseDataSource) dataSource).getMaximumPoolSize());
+    }
+
+    @Test
+    void update_minimumIdleAboveMaximumPoolSize_throwInvalidEntityException() {
+        /* ARRANGE */
+        final var desc = new DatabaseDataSourceDesc();
+        desc.setUrl("https://someUrl");
+        desc.setDriverClassName("driverClass");
+        final var dataSource = factory.create(desc);
+
+        final var newDesc = new DatabaseDataSourceDesc();
+        newDesc.setUrl("https://someUrl");
+        newDesc.setDriverClassName("driverClass");
+        newDesc.setMaximumPoolSize(2);
+        newDesc.setMinimumIdle(3);
+
+        /* ACT && ASSERT */
+        assertThrows(InvalidEntityException.class, () -> factory.update(dataSource, newDesc));
+    }
+
     @Test
     void update_databaseDescWithRestDataSource_throwInvalidEntityException() {
         /* ARRANGE */
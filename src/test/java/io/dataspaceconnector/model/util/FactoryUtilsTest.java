@@ -53,6 +53,25 @@ public class FactoryUtilsTest {
         assertEquals(newInt, result);
     }
 
+    @Test
+    void updateNumber_newNumberNull_returnDefault() {
+        /* ACT */
+        final var result = FactoryUtils.updateNumber(5, null, 10);
+
+        /* ASSERT */
+        assertTrue(result.isPresent());
+        assertEquals(10, result.get());
+    }
+
+    @Test
+    void updateNumber_same_returnEmpty() {
+        /* ACT */
+        final var result = FactoryUtils.updateNumber(30000L, 30000L, 1000L);
+
+        /* ASSERT */
+        assertFalse(result.isPresent());
+    }
+
     @Test
     void updateBoolean_newBooleanNull_returnDefault() {
         /* ACT */
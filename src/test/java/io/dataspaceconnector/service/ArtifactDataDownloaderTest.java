@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service;
 
+import io.dataspaceconnector.common.exception.MessageException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
 import io.dataspaceconnector.model.agreement.Agreement;
 import io.dataspaceconnector.service.message.builder.type.ArtifactRequestService;
@@ -30,12 +31,15 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 
-@SpringBootTest(classes = { ArtifactDataDownloader.class })
+@SpringBootTest(classes = { ArtifactDataDownloader.class, DownloadExecutor.class })
 class ArtifactDataDownloaderTest {
     @MockBean
     private ArtifactRequestService artifactReqSvc;
@@ -92,4 +96,33 @@ class ArtifactDataDownloaderTest {
         /* ACT && ASSERT */
         assertDoesNotThrow(() -> downloader.download(recipient, artifacts, agreementId));
     }
+
+    @Test
+    public void download_oneRequestFails_downloadOtherArtifactsAndThrow() throws IOException, UnexpectedResponseException {
+        /* ARRANGE */
+        final var recipient = URI.create("https://provider");
+        final var artifacts = Arrays.asList(URI.create("https://artifact1"),
+                URI.create("https://artifact2"));
+        final var agreementId = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
+        final var progress = new DownloadProgress(agreementId, artifacts.size());
+
+        final var response = new HashMap<String, String>();
+        response.put("Hi", "Bye");
+
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "remoteId", URI.create("https//remoteId"));
+
+        Mockito.when(agreementService.get(eq(agreementId))).thenReturn(agreement);
+        Mockito.when(artifactReqSvc.sendMessage(eq(recipient), eq(artifacts.get(0)), eq(agreement.getRemoteId()))).thenThrow(MessageException.class);
+        Mockito.when(artifactReqSvc.sendMessage(eq(recipient), eq(artifacts.get(1)), eq(agreement.getRemoteId()))).thenReturn(response);
+
+        /* ACT */
+        assertThrows(MessageException.class,
+                () -> downloader.download(recipient, artifacts, agreementId, progress));
+
+        /* ASSERT */
+        Mockito.verify(persistenceSvc, Mockito.times(1)).saveData(eq(response), eq(artifacts.get(1)));
+        assertEquals(1, progress.getSucceeded());
+        assertEquals(List.of(artifacts.get(0)), progress.getFailed());
+    }
 }
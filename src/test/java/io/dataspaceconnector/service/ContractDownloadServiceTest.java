@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.MessageException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class ContractDownloadServiceTest {
+
+    private final MetadataDownloader metadataDownloader = Mockito.mock(MetadataDownloader.class);
+
+    private final ArtifactDataDownloader artifactDataDownloader =
+            Mockito.mock(ArtifactDataDownloader.class);
+
+    private final EntityUpdateService updateService = Mockito.mock(EntityUpdateService.class);
+
+    private final DownloadExecutor executor = new DownloadExecutor(2, 2, 1);
+
+    private final ContractDownloadService service = new ContractDownloadService(
+            metadataDownloader, artifactDataDownloader, updateService, executor,
+            Mockito.mock(PlatformTransactionManager.class));
+
+    private final URI recipient = URI.create("https://provider");
+
+    private final List<URI> resources = List.of(URI.create("https://resource"));
+
+    private final List<URI> artifacts = List.of(URI.create("https://artifact"));
+
+    private final UUID agreementId = UUID.randomUUID();
+
+    @AfterEach
+    void stop() {
+        executor.stop();
+    }
+
+    @Test
+    @SneakyThrows
+    void downloadInBackground_validInput_completeProgress() {
+        /* ARRANGE */
+        // Nothing to arrange here.
+
+        /* ACT */
+        final var progress = service.downloadInBackground(recipient, resources, artifacts, true,
+                agreementId);
+
+        /* ASSERT */
+        Mockito.verify(artifactDataDownloader, Mockito.timeout(5000).times(1))
+                .download(eq(recipient), eq(artifacts), eq(agreementId), eq(progress));
+        Mockito.verify(updateService).linkArtifactToAgreement(eq(artifacts), eq(agreementId));
+        assertEquals(2, progress.getTotal());
+        assertEquals(progress, service.getProgress(agreementId).orElseThrow());
+    }
+
+    @Test
+    @SneakyThrows
+    void download_metadataFails_abortProgressAndThrow() {
+        /* ARRANGE */
+        Mockito.doThrow(MessageException.class).when(metadataDownloader)
+                .download(eq(recipient), eq(resources), eq(artifacts), eq(false), any());
+
+        /* ACT */
+        assertThrows(MessageException.class,
+                () -> service.download(recipient, resources, artifacts, false, agreementId));
+
+        /* ASSERT */
+        final var progress = service.getProgress(agreementId).orElseThrow();
+        assertEquals(DownloadProgress.Status.FAILED, progress.getStatus());
+        Mockito.verifyNoInteractions(artifactDataDownloader);
+    }
+}
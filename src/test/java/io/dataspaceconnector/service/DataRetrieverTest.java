@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URL;
@@ -33,6 +34,7 @@ import io.dataspaceconnector.model.artifact.Data;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
 import io.dataspaceconnector.model.auth.Authentication;
+import io.dataspaceconnector.repository.DataRepository;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,7 +48,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {DataRetriever.class})
+@SpringBootTest(classes = {DataRetriever.class, LocalDataService.class, RemoteDataCache.class,
+        SimpleMeterRegistry.class})
 class DataRetrieverTest {
 
     @MockBean
@@ -58,6 +61,9 @@ class DataRetrieverTest {
     @MockBean
     private ApiReferenceHelper apiReferenceHelper;
 
+    @MockBean
+    private DataRepository dataRepository;
+
     @Autowired
     private DataRetriever retriever;
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.MessageException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DownloadExecutorTest {
+
+    private final DownloadExecutor executor = new DownloadExecutor(8, 2, 1);
+
+    private final URI recipient = URI.create("https://provider/api/ids/data");
+
+    @AfterEach
+    void stop() {
+        executor.stop();
+    }
+
+    @Test
+    void forEach_manyItems_boundRequestsPerRecipient() {
+        /* ARRANGE */
+        final var items = IntStream.range(0, 10)
+                .mapToObj(i -> URI.create("https://artifact" + i))
+                .collect(Collectors.toList());
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+
+        /* ACT */
+        final var results = executor.forEach(recipient, items, item -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return item.toString();
+        });
+
+        /* ASSERT */
+        assertEquals(items.size(), results.size());
+        assertTrue(maxInFlight.get() <= 2);
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(items.get(i), results.get(i).getItem());
+            assertEquals(items.get(i).toString(), results.get(i).getValue());
+        }
+    }
+
+    @Test
+    void forEach_oneItemFails_keepOtherResults() {
+        /* ARRANGE */
+        final var failing = URI.create("https://artifact1");
+        final var items = List.of(failing, URI.create("https://artifact2"));
+
+        /* ACT */
+        final var results = executor.forEach(recipient, items, item -> {
+            if (item.equals(failing)) {
+                throw new IllegalStateException("failed");
+            }
+            return item;
+        });
+
+        /* ASSERT */
+        assertFalse(results.get(0).isSuccess());
+        assertThrows(IllegalStateException.class, () -> results.get(0).get());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(items.get(1), results.get(1).getValue());
+    }
+
+    @Test
+    void forEach_interrupted_failRemainingItems() {
+        /* ARRANGE */
+        final var items = List.of(URI.create("https://artifact1"));
+        Thread.currentThread().interrupt();
+
+        /* ACT */
+        final var results = executor.forEach(recipient, items, item -> item);
+
+        /* ASSERT */
+        assertTrue(Thread.interrupted());
+        assertThrows(MessageException.class, () -> results.get(0).get());
+    }
+}
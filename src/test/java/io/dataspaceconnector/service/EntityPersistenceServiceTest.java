@@ -15,7 +15,6 @@
  */
 package io.dataspaceconnector.service;
 
-import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -120,13 +119,12 @@ public class EntityPersistenceServiceTest {
 
         when(artifactService.identifyByRemoteId(any())).thenReturn(Optional.of(artifact.getId()));
         when(artifactService.get(artifact.getId())).thenReturn(artifact);
-        when(artifactService.setData(any(), any())).thenReturn(new ByteArrayInputStream("".getBytes()));
 
         /* ACT */
         entityPersistenceService.saveData(response, URI.create("https://remote.com"));
 
         /* ASSERT */
-        verify(artifactService, times(1)).setData(eq(artifact.getId()), any());
+        verify(artifactService, times(1)).replaceData(eq(artifact.getId()), any());
     }
 
     private Resource getResource() {
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ */
+package io.dataspaceconnector.service;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+import io.dataspaceconnector.common.storage.LocalDataStore;
+import io.dataspaceconnector.common.storage.StoredData;
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.repository.DataRepository;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {LocalDataService.class})
+class LocalDataServiceTest {
+
+    @MockBean
+    private DataRepository dataRepository;
+
+    @Autowired
+    private LocalDataService localDataService;
+
+    private final byte[] value = "data".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @SneakyThrows
+    void write_noStoreConfigured_storeInDatabaseWithSizeAndChecksum() {
+        /* ARRANGE */
+        final var data = new LocalData();
+        final var checksum = new CRC32C();
+        checksum.update(value);
+
+        /* ACT */
+        final var result = localDataService.write(data, new ByteArrayInputStream(value));
+
+        /* ASSERT */
+        assertNull(result.getReference());
+        assertEquals(value.length, result.getSize());
+        assertEquals(checksum.getValue(), result.getChecksum());
+        assertArrayEquals(value, localDataService.read(result).readAllBytes());
+        verify(dataRepository).setLocalData(any(), eq(value));
+    }
+
+    @Test
+    @SneakyThrows
+    void read_dataInDatabase_returnValue() {
+        /* ARRANGE */
+        final var data = new LocalData();
+        data.setValue(value);
+
+        /* ACT */
+        final var result = localDataService.read(data);
+
+        /* ASSERT */
+        assertArrayEquals(value, result.readAllBytes());
+    }
+
+    @Test
+    void isEmpty_noValue_returnTrue() {
+        /* ARRANGE */
+        final var data = new LocalData();
+
+        /* ACT && ASSERT */
+        assertTrue(localDataService.isEmpty(data));
+    }
+
+    @Test
+    void isEmpty_referenceWithSize_returnFalse() {
+        /* ARRANGE */
+        final var data = new LocalData();
+        data.setReference("reference");
+        data.setSize(4L);
+
+        /* ACT && ASSERT */
+        assertFalse(localDataService.isEmpty(data));
+    }
+
+    @Test
+    @SneakyThrows
+    void write_referenceReplaced_removePreviousData() {
+        /* ARRANGE */
+        final var store = mock(LocalDataStore.class);
+        final var service = new LocalDataService(dataRepository, Optional.of(store));
+        final var data = new LocalData();
+        data.setReference("previous");
+        when(store.write(any())).thenReturn(new StoredData("current", 4, 1));
+        when(dataRepository.countByReference("previous")).thenReturn(0L);
+
+        /* ACT */
+        service.write(data, new ByteArrayInputStream(value));
+
+        /* ASSERT */
+        verify(dataRepository).setLocalDataReference(any(), eq("current"), eq(4L), eq(1L));
+        verify(store).delete("previous");
+    }
+
+    @Test
+    @SneakyThrows
+    void release_referenceStillUsed_keepData() {
+        /* ARRANGE */
+        final var store = mock(LocalDataStore.class);
+        final var service = new LocalDataService(dataRepository, Optional.of(store));
+        when(dataRepository.countByReference("reference")).thenReturn(1L);
+
+        /* ACT */
+        service.release("reference");
+
+        /* ASSERT */
+        verify(store, never()).delete(any());
+    }
+
+    @Test
+    @SneakyThrows
+    void release_insideTransaction_removeDataAfterCommit() {
+        /* ARRANGE */
+        final var store = mock(LocalDataStore.class);
+        final var service = new LocalDataService(dataRepository, Optional.of(store));
+        when(dataRepository.countByReference("reference")).thenReturn(0L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            /* ACT */
+            service.release("reference");
+            verify(store, never()).delete(any());
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        /* ASSERT */
+        verify(store).delete("reference");
+    }
+
+    @Test
+    @SneakyThrows
+    void release_transactionRolledBack_keepData() {
+        /* ARRANGE */
+        final var store = mock(LocalDataStore.class);
+        final var service = new LocalDataService(dataRepository, Optional.of(store));
+        when(dataRepository.countByReference("reference")).thenReturn(0L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            /* ACT */
+            service.release("reference");
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        /* ASSERT */
+        verify(store, never()).delete(any());
+    }
+
+    private static void completeTransaction(final int status) {
+        final var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(x -> x.afterCompletion(status));
+    }
+}
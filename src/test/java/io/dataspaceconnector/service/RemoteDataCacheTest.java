@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.net.HttpResponse;
+import io.dataspaceconnector.common.net.HttpService;
+import io.dataspaceconnector.common.net.QueryInput;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RemoteDataCacheTest {
+
+    private final HttpService httpService = mock(HttpService.class);
+
+    private final byte[] value = "some remote data".getBytes();
+
+    private URL url;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    @SneakyThrows
+    void init() {
+        url = new URL("https://backend/data");
+    }
+
+    @Test
+    @SneakyThrows
+    void get_freshEntry_returnDataWithoutRequest() {
+        /* ARRANGE */
+        final var cache = newCache(60000, 10, 1024);
+        when(httpService.get(eq(url), any(), any())).thenReturn(ok(Map.of()));
+        cache.get(url, null, List.of()).readAllBytes();
+
+        /* ACT */
+        final var result = cache.get(url, null, List.of()).readAllBytes();
+
+        /* ASSERT */
+        assertArrayEquals(value, result);
+        verify(httpService, times(1)).get(eq(url), any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_expiredEntryNotModified_revalidateAndReturnCachedData() {
+        /* ARRANGE */
+        final var cache = newCache(0, 10, 1024);
+        when(httpService.get(eq(url), any(), any()))
+                .thenReturn(ok(Map.of("etag", "\"v1\"")))
+                .thenReturn(new HttpResponse(304, InputStream.nullInputStream()));
+        cache.get(url, null, List.of()).readAllBytes();
+
+        /* ACT */
+        final var result = cache.get(url, null, List.of()).readAllBytes();
+
+        /* ASSERT */
+        assertArrayEquals(value, result);
+        final var captor = ArgumentCaptor.forClass(QueryInput.class);
+        verify(httpService, times(2)).get(eq(url), captor.capture(), any());
+        assertNull(captor.getAllValues().get(0));
+        assertEquals("\"v1\"", captor.getAllValues().get(1).getHeaders().get("If-None-Match"));
+    }
+
+    @Test
+    @SneakyThrows
+    void get_largeResponse_spillToDisk() {
+        /* ARRANGE */
+        final var cache = newCache(60000, 10, 4);
+        when(httpService.get(eq(url), any(), any())).thenReturn(ok(Map.of()));
+
+        /* ACT */
+        cache.get(url, null, List.of()).readAllBytes();
+
+        /* ASSERT */
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        assertArrayEquals(value, cache.get(url, null, List.of()).readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_streamClosedEarly_doNotCache() {
+        /* ARRANGE */
+        final var cache = newCache(60000, 10, 4);
+        when(httpService.get(eq(url), any(), any())).thenReturn(ok(Map.of()));
+
+        /* ACT */
+        try (var data = cache.get(url, null, List.of())) {
+            data.readNBytes(8);
+        }
+
+        /* ASSERT */
+        assertEquals(0, cache.getEntryCount());
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void get_noStore_doNotCache() {
+        /* ARRANGE */
+        final var cache = newCache(60000, 10, 1024);
+        when(httpService.get(eq(url), any(), any()))
+                .thenReturn(ok(Map.of("cache-control", "no-store")));
+
+        /* ACT */
+        cache.get(url, null, List.of()).readAllBytes();
+
+        /* ASSERT */
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_maxEntriesExceeded_evictEldestEntry() {
+        /* ARRANGE */
+        final var cache = newCache(60000, 1, 1024);
+        final var input = new QueryInput();
+        input.getParams().put("page", "2");
+        when(httpService.get(eq(url), any(), any()))
+                .thenReturn(ok(Map.of()))
+                .thenReturn(ok(Map.of()))
+                .thenReturn(ok(Map.of()));
+        cache.get(url, null, List.of()).readAllBytes();
+        cache.get(url, input, List.of()).readAllBytes();
+
+        /* ACT */
+        cache.get(url, null, List.of()).readAllBytes();
+
+        /* ASSERT */
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(value.length, cache.getSize());
+        verify(httpService, times(3)).get(eq(url), any(), any());
+    }
+
+    @SneakyThrows
+    private RemoteDataCache newCache(final long ttl, final int maxEntries,
+                                     final int memoryThreshold) {
+        return new RemoteDataCache(httpService, true, ttl, maxEntries, 1024 * 1024,
+                memoryThreshold, directory.toString());
+    }
+
+    private HttpResponse ok(final Map<String, String> headers) {
+        return new HttpResponse(200, new ByteArrayInputStream(value), headers);
+    }
+}
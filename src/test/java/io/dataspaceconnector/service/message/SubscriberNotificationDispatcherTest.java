@@ -0,0 +1,272 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.message;
+
+import io.dataspaceconnector.model.subscription.Subscription;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubscriberNotificationDispatcherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final SubscriberNotificationDispatcher dispatcher =
+            new SubscriberNotificationDispatcher(registry, 2, 10, 3, 10, 100);
+
+    private final URI location = URI.create("https://subscriber");
+
+    @AfterEach
+    void stop() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void submit_sameSubscriber_deliverInOrder() throws InterruptedException {
+        /* ARRANGE */
+        final var delivered = new CopyOnWriteArrayList<Integer>();
+        final var done = new CountDownLatch(5);
+
+        /* ACT */
+        for (int i = 0; i < 5; i++) {
+            final var index = i;
+            dispatcher.submit(getSubscription(location), () -> {
+                delivered.add(index);
+                done.countDown();
+            });
+        }
+
+        /* ASSERT */
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 1, 2, 3, 4), delivered);
+        assertEquals(5, registry.timer("dsc.subscriber.notifications.delivery").count());
+    }
+
+    @Test
+    void submit_subscriptionAlreadyQueued_deliverNewestOnly() throws InterruptedException {
+        /* ARRANGE */
+        final var blocker = new CountDownLatch(1);
+        final var done = new CountDownLatch(2);
+        final var delivered = new CopyOnWriteArrayList<String>();
+        final var subscription = getSubscription(location);
+
+        // Keep the queue busy so that the following notifications stay queued.
+        dispatcher.submit(getSubscription(location), () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+
+        /* ACT */
+        dispatcher.submit(subscription, () -> delivered.add("first"));
+        dispatcher.submit(subscription, () -> {
+            delivered.add("second");
+            done.countDown();
+        });
+        blocker.countDown();
+
+        /* ASSERT */
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("second"), delivered);
+        assertEquals(1, registry.counter("dsc.subscriber.notifications.coalesced").count());
+    }
+
+    @Test
+    void submit_deliveryFailsOnce_retry() throws InterruptedException {
+        /* ARRANGE */
+        final var attempts = new AtomicInteger();
+        final var done = new CountDownLatch(1);
+
+        /* ACT */
+        dispatcher.submit(getSubscription(location), () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IOException("Unreachable.");
+            }
+            done.countDown();
+        });
+
+        /* ASSERT */
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+        assertEquals(0, registry.counter("dsc.subscriber.notifications.failed").count());
+    }
+
+    @Test
+    void submit_deliveryAlwaysFails_giveUpAfterMaxAttempts() throws InterruptedException {
+        /* ARRANGE */
+        final var attempts = new AtomicInteger();
+
+        /* ACT */
+        dispatcher.submit(getSubscription(location), () -> {
+            attempts.incrementAndGet();
+            throw new IOException("Unreachable.");
+        });
+
+        /* ASSERT */
+        final var deadline = System.currentTimeMillis() + 5000;
+        while (dispatcher.getPending() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, dispatcher.getPending());
+        assertEquals(3, attempts.get());
+        assertEquals(1, registry.counter("dsc.subscriber.notifications.failed").count());
+    }
+
+    @Test
+    void submit_retryReplacedByNewer_allowAllAttemptsForNewer() throws InterruptedException {
+        /* ARRANGE */
+        final var slowDispatcher = new SubscriberNotificationDispatcher(registry, 2, 10, 3, 200,
+                200);
+        final var subscription = getSubscription(location);
+        final var firstAttempts = new AtomicInteger();
+        final var secondAttempts = new AtomicInteger();
+        final var firstFailed = new CountDownLatch(1);
+
+        try {
+            slowDispatcher.submit(subscription, () -> {
+                firstAttempts.incrementAndGet();
+                firstFailed.countDown();
+                throw new IOException("Unreachable.");
+            });
+            assertTrue(firstFailed.await(5, TimeUnit.SECONDS));
+
+            /* ACT */
+            slowDispatcher.submit(subscription, () -> {
+                secondAttempts.incrementAndGet();
+                throw new IOException("Unreachable.");
+            });
+
+            /* ASSERT */
+            final var deadline = System.currentTimeMillis() + 5000;
+            while (slowDispatcher.getPending() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, slowDispatcher.getPending());
+            assertEquals(1, firstAttempts.get());
+            assertEquals(3, secondAttempts.get());
+        } finally {
+            slowDispatcher.stop();
+        }
+    }
+
+    @Test
+    void submit_deliveryFailsWithNewerQueued_dropFailedNotification()
+            throws InterruptedException {
+        /* ARRANGE */
+        final var subscription = getSubscription(location);
+        final var started = new CountDownLatch(1);
+        final var proceed = new CountDownLatch(1);
+        final var done = new CountDownLatch(1);
+        final var delivered = new CopyOnWriteArrayList<String>();
+        final var firstAttempts = new AtomicInteger();
+
+        dispatcher.submit(subscription, () -> {
+            firstAttempts.incrementAndGet();
+            started.countDown();
+            try {
+                proceed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("Unreachable.");
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        /* ACT */
+        dispatcher.submit(subscription, () -> {
+            delivered.add("second");
+            done.countDown();
+        });
+        proceed.countDown();
+
+        /* ASSERT */
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, firstAttempts.get());
+        assertEquals(List.of("second"), delivered);
+        assertEquals(1, registry.counter("dsc.subscriber.notifications.coalesced").count());
+        assertEquals(0, registry.counter("dsc.subscriber.notifications.failed").count());
+    }
+
+    @Test
+    void submit_deliveredOrReplaced_releaseEveryNotificationOnce() throws InterruptedException {
+        /* ARRANGE */
+        final var blocker = new CountDownLatch(1);
+        final var subscription = getSubscription(location);
+        final var released = new CopyOnWriteArrayList<String>();
+
+        // Keep the queue busy so that the following notifications stay queued.
+        dispatcher.submit(getSubscription(location), () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        /* ACT */
+        dispatcher.submit(subscription, getDelivery("first", released));
+        dispatcher.submit(subscription, getDelivery("second", released));
+        blocker.countDown();
+
+        /* ASSERT */
+        final var deadline = System.currentTimeMillis() + 5000;
+        while (dispatcher.getPending() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("first", "second"), released);
+    }
+
+    private SubscriberNotificationDispatcher.Delivery getDelivery(final String name,
+                                                                  final List<String> released) {
+        return new SubscriberNotificationDispatcher.Delivery() {
+            @Override
+            public void deliver() {
+            }
+
+            @Override
+            public void release() {
+                released.add(name);
+            }
+        };
+    }
+
+    private Subscription getSubscription(final URI subscriber) {
+        final var subscription = new Subscription();
+        ReflectionTestUtils.setField(subscription, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(subscription, "location", subscriber);
+        return subscription;
+    }
+}
@@ -15,12 +15,19 @@
  */
 package io.dataspaceconnector.service.message;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.common.net.HttpService;
+import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
 import io.dataspaceconnector.common.net.ApiReferenceHelper;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
@@ -30,6 +37,7 @@ import io.dataspaceconnector.model.representation.Representation;
 import io.dataspaceconnector.model.resource.OfferedResource;
 import io.dataspaceconnector.model.resource.OfferedResourceDesc;
 import io.dataspaceconnector.model.subscription.Subscription;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
 import io.dataspaceconnector.service.resource.templatebuilder.AbstractResourceTemplateBuilder;
 import io.dataspaceconnector.service.resource.relation.AbstractResourceContractLinker;
 import io.dataspaceconnector.service.resource.relation.AbstractResourceRepresentationLinker;
@@ -42,7 +50,11 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -71,6 +83,9 @@ class SubscriberNotificationServiceTest {
     @MockBean
     private HttpService httpService;
 
+    @MockBean
+    private ArtifactService artifactService;
+
     private final URI target = URI.create("https://artifact");
 
     @Test
@@ -123,8 +138,66 @@ class SubscriberNotificationServiceTest {
         subscriberNotificationSvc.notifyAll(subscriptions, target, artifact);
 
         /* ASSERT */
-        verify(routeDataDispatcher, times(1)).send(any(), any(), any());
-        verify(httpService, times(1)).post(any(), any(), any());
+        verify(routeDataDispatcher, timeout(5000).times(1))
+                .send(any(), any(InputStream.class), any());
+        verify(httpService, timeout(5000).times(1)).post(any(), any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void notifyAll_pushDataSubscribers_retrieveDataOnceAndSendToEach() {
+        /* ARRANGE */
+        final var first = getSubscription(URI.create("https://first"));
+        final var second = getSubscription(URI.create("https://second"));
+        ReflectionTestUtils.setField(first, "pushData", true);
+        ReflectionTestUtils.setField(second, "pushData", true);
+        final var artifact = getArtifact();
+
+        when(artifactService.getData(any(), any(), eq(artifact.getId()), any(QueryInput.class),
+                any())).thenAnswer(invocation -> new ByteArrayInputStream(
+                        "data".getBytes(StandardCharsets.UTF_8)));
+        final var received = new CopyOnWriteArrayList<String>();
+        doAnswer(invocation -> {
+            final InputStream data = invocation.getArgument(2);
+            received.add(new String(data.readAllBytes(), StandardCharsets.UTF_8));
+            return null;
+        }).when(httpService).post(any(), any(), any());
+
+        /* ACT */
+        subscriberNotificationSvc.notifyAll(List.of(first, second), target, artifact);
+
+        /* ASSERT */
+        verify(httpService, timeout(5000).times(2)).post(any(), any(), any());
+        verify(artifactService, times(1)).getData(any(), any(), eq(artifact.getId()),
+                any(QueryInput.class), any());
+        assertEquals(List.of("data", "data"), received);
+    }
+
+    @Test
+    @SneakyThrows
+    void notifyAll_dataAccessDenied_sendNotificationWithoutDataOnce() {
+        /* ARRANGE */
+        final var subscription = getSubscription(URI.create("https://subscriber"));
+        ReflectionTestUtils.setField(subscription, "pushData", true);
+        final var artifact = getArtifact();
+
+        when(artifactService.getData(any(), any(), eq(artifact.getId()), any(QueryInput.class),
+                any())).thenThrow(new PolicyRestrictionException(ErrorMessage.NOT_ALLOWED));
+        final var received = new CopyOnWriteArrayList<Integer>();
+        doAnswer(invocation -> {
+            final InputStream data = invocation.getArgument(2);
+            received.add(data.readAllBytes().length);
+            return null;
+        }).when(httpService).post(any(), any(), any());
+
+        /* ACT */
+        subscriberNotificationSvc.notifyAll(List.of(subscription), target, artifact);
+
+        /* ASSERT */
+        verify(httpService, timeout(5000).times(1)).post(any(), any(), any());
+        verify(artifactService, times(1)).getData(any(), any(), eq(artifact.getId()),
+                any(QueryInput.class), any());
+        assertEquals(List.of(0), received);
     }
 
     private Subscription getSubscription(final URI location) {
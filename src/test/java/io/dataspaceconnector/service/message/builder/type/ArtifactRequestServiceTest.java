@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service.message.builder.type;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.URI;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -31,6 +32,7 @@ import ids.messaging.protocol.http.IdsHttpService;
 import io.dataspaceconnector.common.exception.MessageResponseException;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.message.ClearingHouseLogQueue;
 import io.dataspaceconnector.common.ids.message.ClearingHouseService;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.message.ArtifactRequestMessageDesc;
@@ -46,7 +48,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest(classes = {ArtifactRequestService.class, ClearingHouseService.class,
-        ConnectorConfig.class, ProcessCreationRequestService.class})
+        ClearingHouseLogQueue.class, ConnectorConfig.class, ProcessCreationRequestService.class,
+        SimpleMeterRegistry.class})
 class ArtifactRequestServiceTest {
 
     @MockBean
@@ -64,6 +64,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -257,7 +258,8 @@ class ContractAgreementHandlerTest {
         /* ASSERT */
         assertNotNull(result.getHeader());
         verify(requestService, times(1)).send(any(), any());
-        verify(logMessageService, times(1)).sendMessage(clearingHouseTarget, agreement.toRdf());
+        verify(logMessageService, timeout(5000).times(1))
+                .sendMessage(clearingHouseTarget, agreement.toRdf());
     }
 
     @SneakyThrows
@@ -31,6 +31,7 @@ import ids.messaging.response.ErrorResponse;
 import ids.messaging.response.MessageResponse;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.SelfDescription;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.message.DescriptionResponseMessageDesc;
@@ -110,7 +111,8 @@ import static org.mockito.Mockito.when;
                 ._issued_(xmlCalendar)
                 .build();
 
-        Mockito.doReturn(connector).when(connectorService).getConnectorWithOfferedResources();
+        Mockito.doReturn(new SelfDescription(connector.toRdf()))
+                .when(connectorService).getSelfDescription();
 
          /* ACT */
          final var result =
@@ -287,14 +289,14 @@ import static org.mockito.Mockito.when;
 
     @SneakyThrows
     private MessageResponse constructSelfDescription(final URI issuer, final URI messageId) {
-        final var connector = connectorService.getConnectorWithOfferedResources();
+        final var selfDescription = connectorService.getSelfDescription();
 
         // Build ids response message.
         final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
         final var header = messageService.buildMessage(desc);
 
         // Send ids response message.
-        return BodyResponse.create(header, connector.toRdf());
+        return BodyResponse.create(header, selfDescription.getRdf());
     }
 
     @SneakyThrows
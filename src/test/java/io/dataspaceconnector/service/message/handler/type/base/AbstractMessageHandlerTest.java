@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.message.handler.type.base;
+
+import de.fraunhofer.iais.eis.ArtifactRequestMessageBuilder;
+import de.fraunhofer.iais.eis.ArtifactRequestMessageImpl;
+import de.fraunhofer.iais.eis.ArtifactResponseMessageBuilder;
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.Message;
+import de.fraunhofer.iais.eis.TokenFormat;
+import de.fraunhofer.iais.eis.util.Util;
+import ids.messaging.response.BodyResponse;
+import ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.service.message.handler.dto.StreamResponse;
+import io.dataspaceconnector.service.message.handler.type.ArtifactRequestHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.util.Base64Utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AbstractMessageHandlerTest {
+
+    private final URI uri = URI.create("https://localhost:8080");
+
+    @Test
+    @SneakyThrows
+    void handleMessage_streamResponse_encodePayloadWhenRead() {
+        /* ARRANGE */
+        final var context = new DefaultCamelContext();
+        final var template = mock(ProducerTemplate.class);
+        final var handler = new ArtifactRequestHandler(template, context,
+                mock(ConnectorService.class), new SimpleMeterRegistry());
+
+        final var raw = "artifact data".getBytes(StandardCharsets.UTF_8);
+        final var data = new ByteArrayInputStream(raw);
+        final var result = new DefaultExchange(context);
+        result.getIn().setBody(new StreamResponse(getResponseHeader(),
+                MessageUtils.encodePayload(data)));
+        when(template.send(anyString(), any(Exchange.class))).thenReturn(result);
+
+        /* ACT */
+        final var response = (BodyResponse<?>) handler.handleMessage(
+                (ArtifactRequestMessageImpl) getRequest(), null, Optional.empty());
+
+        /* ASSERT */
+        assertEquals(raw.length, data.available());
+        assertTrue(response.getPayload() instanceof InputStreamResource);
+
+        final var payload = ((InputStreamResource) response.getPayload()).getInputStream();
+        assertEquals(Base64Utils.encodeToString(raw),
+                new String(payload.readAllBytes(), StandardCharsets.US_ASCII));
+        assertEquals(0, data.available());
+    }
+
+    @Test
+    @SneakyThrows
+    void handleMessage_sameType_registerTimersOnce() {
+        /* ARRANGE */
+        final var context = new DefaultCamelContext();
+        final var template = mock(ProducerTemplate.class);
+        final var registry = new SimpleMeterRegistry();
+        final var handler = new ArtifactRequestHandler(template, context,
+                mock(ConnectorService.class), registry);
+
+        when(template.send(anyString(), any(Exchange.class))).thenAnswer(x -> {
+            final var result = new DefaultExchange(context);
+            result.getIn().setBody(new StreamResponse(getResponseHeader(),
+                    InputStream.nullInputStream()));
+            return result;
+        });
+
+        /* ACT */
+        handler.handleMessage((ArtifactRequestMessageImpl) getRequest(), null, Optional.empty());
+        handler.handleMessage((ArtifactRequestMessageImpl) getRequest(), null, Optional.empty());
+
+        /* ASSERT */
+        assertEquals(3, registry.find("dsc.ids.messages").timers().size());
+        assertEquals(2, registry.get("dsc.ids.messages")
+                .tag("type", "ArtifactRequestMessage")
+                .tag("outcome", "success").timer().count());
+    }
+
+    private Message getRequest() {
+        return new ArtifactRequestMessageBuilder()
+                ._senderAgent_(uri)
+                ._issuerConnector_(uri)
+                ._securityToken_(getToken())
+                ._modelVersion_("4.0.0")
+                ._issued_(IdsMessageUtils.getGregorianNow())
+                ._requestedArtifact_(URI.create("https://someArtifact"))
+                .build();
+    }
+
+    private Message getResponseHeader() {
+        return new ArtifactResponseMessageBuilder()
+                ._securityToken_(getToken())
+                ._correlationMessage_(uri)
+                ._issued_(IdsMessageUtils.getGregorianNow())
+                ._issuerConnector_(uri)
+                ._modelVersion_("4.0.0")
+                ._senderAgent_(uri)
+                ._recipientConnector_(Util.asList(uri))
+                .build();
+    }
+
+    private DynamicAttributeToken getToken() {
+        return new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.JWT)
+                ._tokenValue_("token")
+                .build();
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.resource.ids.builder;
+
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.model.catalog.CatalogDesc;
+import io.dataspaceconnector.model.contract.ContractDesc;
+import io.dataspaceconnector.model.representation.RepresentationDesc;
+import io.dataspaceconnector.model.resource.OfferedResourceDesc;
+import io.dataspaceconnector.model.rule.ContractRuleDesc;
+import io.dataspaceconnector.service.resource.relation.CatalogOfferedResourceLinker;
+import io.dataspaceconnector.service.resource.relation.ContractRuleLinker;
+import io.dataspaceconnector.service.resource.relation.OfferedResourceContractLinker;
+import io.dataspaceconnector.service.resource.relation.OfferedResourceRepresentationLinker;
+import io.dataspaceconnector.service.resource.relation.RepresentationArtifactLinker;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.resource.type.CatalogService;
+import io.dataspaceconnector.service.resource.type.ContractService;
+import io.dataspaceconnector.service.resource.type.OfferedResourceService;
+import io.dataspaceconnector.service.resource.type.RepresentationService;
+import io.dataspaceconnector.service.resource.type.RuleService;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Guards the number of statements needed for building an ids catalog. Lazy relations are loaded
+ * in batches, so the count must not grow with the number of entities in the catalog.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class IdsCatalogBuilderQueryCountIT {
+
+    @Autowired
+    private IdsCatalogBuilder catalogBuilder;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private OfferedResourceService resourceService;
+
+    @Autowired
+    private RepresentationService representationService;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private RuleService ruleService;
+
+    @Autowired
+    private CatalogOfferedResourceLinker catalogResourceLinker;
+
+    @Autowired
+    private OfferedResourceRepresentationLinker resourceRepresentationLinker;
+
+    @Autowired
+    private OfferedResourceContractLinker resourceContractLinker;
+
+    @Autowired
+    private RepresentationArtifactLinker representationArtifactLinker;
+
+    @Autowired
+    private ContractRuleLinker contractRuleLinker;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    public void create_largerCatalog_sameNumberOfStatements() {
+        /* ARRANGE */
+        final var smallCatalog = createCatalog(2);
+        final var largeCatalog = createCatalog(10);
+
+        /* ACT */
+        final var small = countStatements(smallCatalog);
+        final var large = countStatements(largeCatalog);
+
+        /* ASSERT */
+        assertEquals(small, large);
+    }
+
+    /**
+     * Builds the ids catalog in a fresh persistence context and counts the statements sent to
+     * the database, including the one loading the catalog itself.
+     */
+    private long countStatements(final UUID catalogId) {
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return transactionTemplate.execute(status -> {
+            statistics.clear();
+            final var catalog = catalogBuilder.create(catalogService.get(catalogId));
+            assertNotNull(catalog);
+            return statistics.getPrepareStatementCount();
+        });
+    }
+
+    private UUID createCatalog(final int resources) {
+        final var catalogDesc = new CatalogDesc();
+        catalogDesc.setTitle("catalog");
+        catalogDesc.addOverflow("key", "value");
+        final var catalog = catalogService.create(catalogDesc);
+
+        for (int i = 0; i < resources; i++) {
+            final var resource = resourceService.create(getResourceDesc());
+            catalogResourceLinker.add(catalog.getId(), Set.of(resource.getId()));
+
+            for (int j = 0; j < 2; j++) {
+                final var representation = representationService.create(getRepresentationDesc());
+                resourceRepresentationLinker.add(resource.getId(),
+                        Set.of(representation.getId()));
+
+                for (int k = 0; k < 2; k++) {
+                    final var artifact = artifactService.create(getArtifactDesc());
+                    representationArtifactLinker.add(representation.getId(),
+                            Set.of(artifact.getId()));
+                }
+            }
+
+            final var contract = contractService.create(getContractDesc());
+            resourceContractLinker.add(resource.getId(), Set.of(contract.getId()));
+            final var rule = ruleService.create(getRuleDesc());
+            contractRuleLinker.add(contract.getId(), Set.of(rule.getId()));
+        }
+
+        return catalog.getId();
+    }
+
+    private OfferedResourceDesc getResourceDesc() {
+        final var desc = new OfferedResourceDesc();
+        desc.setTitle("resource");
+        desc.setDescription("description");
+        desc.setLanguage("EN");
+        desc.setKeywords(List.of("keyword"));
+        desc.setEndpointDocumentation(URI.create("http://endpoint-doc.com"));
+        desc.setLicense(URI.create("http://license.com"));
+        desc.setPublisher(URI.create("http://publisher.com"));
+        desc.setSovereign(URI.create("http://sovereign.com"));
+        desc.addOverflow("key", "value");
+        return desc;
+    }
+
+    private RepresentationDesc getRepresentationDesc() {
+        final var desc = new RepresentationDesc();
+        desc.setTitle("representation");
+        desc.setLanguage("EN");
+        desc.setMediaType("plain/text");
+        desc.setStandard("http://standard.com");
+        desc.addOverflow("key", "value");
+        return desc;
+    }
+
+    private ArtifactDesc getArtifactDesc() {
+        final var desc = new ArtifactDesc();
+        desc.setTitle("artifact");
+        desc.setAutomatedDownload(false);
+        desc.setValue("value");
+        desc.addOverflow("key", "value");
+        return desc;
+    }
+
+    private ContractDesc getContractDesc() {
+        final var date = ZonedDateTime.now(ZoneOffset.UTC);
+        final var desc = new ContractDesc();
+        desc.setTitle("contract");
+        desc.setStart(date);
+        desc.setEnd(date.plusDays(1));
+        desc.setProvider(URI.create("http://provider.com"));
+        desc.setConsumer(URI.create("http://consumer.com"));
+        return desc;
+    }
+
+    private ContractRuleDesc getRuleDesc() {
+        final var desc = new ContractRuleDesc();
+        desc.setTitle("rule");
+        desc.setValue("{\n"
+                + "    \"@type\" : \"ids:Permission\",\n"
+                + "    \"@id\" : \"https://w3id.org/idsa/autogen/permission/ae138d4f-f01d-4358"
+                + "-89a7-73e7c560f3de\",\n"
+                + "    \"ids:description\" : [ {\n"
+                + "      \"@value\" : \"provide-access\",\n"
+                + "      \"@type\" : \"http://www.w3.org/2001/XMLSchema#string\"\n"
+                + "    } ],\n"
+                + "    \"ids:action\" : [ {\n"
+                + "      \"@id\" : \"idsc:USE\"\n"
+                + "    } ],\n"
+                + "    \"ids:title\" : [ {\n"
+                + "      \"@value\" : \"Example Usage Policy\",\n"
+                + "      \"@type\" : \"http://www.w3.org/2001/XMLSchema#string\"\n"
+                + "    } ]\n"
+                + "  }");
+        return desc;
+    }
+}
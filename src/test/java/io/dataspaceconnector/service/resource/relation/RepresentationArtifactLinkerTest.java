@@ -16,6 +16,7 @@
 package io.dataspaceconnector.service.resource.relation;
 
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.util.Utils;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.model.representation.Representation;
@@ -30,6 +31,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -81,6 +83,10 @@ public class RepresentationArtifactLinkerTest {
         Mockito.when(artifactService.doesExist(Mockito.eq(artifactOne.getId()))).thenReturn(true);
         Mockito.when(artifactService.doesExist(Mockito.eq(artifactTwo.getId()))).thenReturn(true);
         Mockito.when(artifactService.doesExist(Mockito.eq(artifactThree.getId()))).thenReturn(true);
+
+        Mockito.when(artifactService.getAllByRepresentation(Mockito.eq(representation.getId()),
+                Mockito.any())).thenAnswer(invocation -> Utils.toPage(
+                        representation.getArtifacts(), invocation.getArgument(1)));
     }
 
     /***********************************************************************************************
@@ -153,6 +159,19 @@ public class RepresentationArtifactLinkerTest {
         assertTrue(linkedArtifacts.contains(artifactThree));
     }
 
+    @Test
+    public void get_knownIdPaged_queryPageFromArtifactService() {
+        /* ARRANGE */
+        final var pageable = PageRequest.of(1, 2);
+
+        /* ACT */
+        linker.get(representation.getId(), pageable);
+
+        /* ASSERT */
+        Mockito.verify(artifactService, Mockito.times(1))
+                .getAllByRepresentation(Mockito.eq(representation.getId()), Mockito.eq(pageable));
+    }
+
     /***********************************************************************************************
      * add                                                                                         *
      **********************************************************************************************/
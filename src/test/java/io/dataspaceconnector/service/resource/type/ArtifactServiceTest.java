@@ -20,14 +20,19 @@
 package io.dataspaceconnector.service.resource.type;
 
 import io.dataspaceconnector.common.exception.InvalidEntityException;
+import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
 import io.dataspaceconnector.common.exception.UnreachableLineException;
 import io.dataspaceconnector.common.net.HttpResponse;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
+import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
-import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.common.routing.RouteDataMulticaster;
+import io.dataspaceconnector.common.usagecontrol.AccessVerificationInput;
+import io.dataspaceconnector.common.usagecontrol.PolicyVerifier;
+import io.dataspaceconnector.common.usagecontrol.VerificationResult;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
@@ -40,7 +45,9 @@ import io.dataspaceconnector.repository.ArtifactRepository;
 import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.DataRetriever;
+import io.dataspaceconnector.service.LocalDataService;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
@@ -52,7 +59,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
@@ -68,6 +74,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -75,7 +82,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {ArtifactService.class, ArtifactFactory.class, ArtifactRepository.class,
-        DataRepository.class, AuthenticationRepository.class, HttpService.class})
+        DataRepository.class, AuthenticationRepository.class, HttpService.class,
+        SimpleMeterRegistry.class})
 class ArtifactServiceTest {
 
     @MockBean
@@ -102,6 +110,12 @@ class ArtifactServiceTest {
     @MockBean
     private RouteDataDispatcher routeDataDispatcher;
 
+    @MockBean
+    private RouteDataMulticaster routeDataMulticaster;
+
+    @MockBean
+    private LocalDataService localDataService;
+
     @Autowired
     private ArtifactService service;
 
@@ -271,6 +285,70 @@ class ArtifactServiceTest {
         verify(dataRepository, times(1)).saveAndFlush(dataOld);
     }
 
+    @Test
+    @SneakyThrows
+    void update_localDataReplacedByRemoteData_releasePreviousData() {
+        /* ARRANGE */
+        final var desc = new ArtifactDesc();
+
+        final var data = new LocalData();
+        data.setReference("reference");
+        final var idField = data.getClass().getSuperclass().getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(data, 1L);
+
+        final var artifact = new ArtifactImpl();
+        final var dataField = artifact.getClass().getDeclaredField("data");
+        dataField.setAccessible(true);
+        dataField.set(artifact, data);
+
+        final var newData = new RemoteData();
+        idField.set(newData, 2L);
+
+        when(artifactRepository.findById(any())).thenReturn(Optional.of(artifact));
+        doAnswer(invocation -> {
+            dataField.set(artifact, newData);
+            return true;
+        }).when(artifactFactory).update(artifact, desc);
+        when(artifactRepository.saveAndFlush(artifact)).thenReturn(artifact);
+        when(dataRepository.findById(2L)).thenReturn(Optional.empty());
+        when(dataRepository.saveAndFlush(newData)).thenReturn(newData);
+
+        /* ACT */
+        service.update(UUID.randomUUID(), desc);
+
+        /* ASSERT */
+        verify(dataRepository, times(1)).deleteById(1L);
+        verify(localDataService, times(1)).release("reference");
+    }
+
+    /**************************************************************************
+     * delete.
+     *************************************************************************/
+
+    @Test
+    @SneakyThrows
+    void delete_localDataInStore_releaseReference() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var data = new LocalData();
+        data.setReference("reference");
+
+        final var artifact = new ArtifactImpl();
+        final var dataField = artifact.getClass().getDeclaredField("data");
+        dataField.setAccessible(true);
+        dataField.set(artifact, data);
+
+        when(artifactRepository.findById(artifactId)).thenReturn(Optional.of(artifact));
+
+        /* ACT */
+        service.delete(artifactId);
+
+        /* ASSERT */
+        verify(artifactRepository, times(1)).deleteById(artifactId);
+        verify(localDataService, times(1)).release("reference");
+    }
+
     /**************************************************************************
      * getData.
      *************************************************************************/
@@ -332,17 +410,34 @@ class ArtifactServiceTest {
         when(dataRetriever.retrieveData(eq(localArtifact), any()))
                 .thenReturn(new ByteArrayInputStream(getLocalData().getValue()));
 
-        final var before = localArtifact.getNumAccessed();
-
         /* ACT */
         service.getData(null, null, localArtifact.getId(), (QueryInput) null, null);
 
         /* ASSERT */
-        Field numAccessedField = Artifact.class.getDeclaredField("numAccessed");
-        numAccessedField.setAccessible(true);
-        numAccessedField.set(localArtifact, before + 1);
+        verify(artifactRepository, times(1))
+                .incrementAccessCounter(localArtifact.getId(), Long.MAX_VALUE);
+        verify(artifactRepository, never()).saveAndFlush(localArtifact);
+    }
 
-        verify(artifactRepository, times(1)).saveAndFlush(localArtifact);
+    @SneakyThrows
+    @Test
+    public void getData_accessLimitReached_throwPolicyRestrictionException() {
+        /* ARRANGE */
+        ArtifactImpl localArtifact = getLocalArtifact();
+        final PolicyVerifier<AccessVerificationInput> verifier = input -> {
+            input.setAccessLimit(1);
+            return VerificationResult.ALLOWED;
+        };
+        final var information = new RetrievalInformation(
+                URI.create("https://agreement.com"), null, null);
+
+        when(artifactRepository.findById(any())).thenReturn(Optional.of(localArtifact));
+        when(artifactRepository.incrementAccessCounter(localArtifact.getId(), 1)).thenReturn(0);
+
+        /* ACT && ASSERT */
+        assertThrows(PolicyRestrictionException.class, () -> service.getData(verifier, null,
+                localArtifact.getId(), information, null));
+        verify(dataRetriever, never()).retrieveData(any(), any());
     }
 
     @SneakyThrows
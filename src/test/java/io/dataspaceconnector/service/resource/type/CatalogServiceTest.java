@@ -226,6 +226,37 @@ class CatalogServiceTest {
                 msg.getMessage());
     }
 
+    /***********************************************************************************************
+     * find                                                                                        *
+     **********************************************************************************************/
+
+    @Test
+    public void find_nullId_throwIllegalArgumentException() {
+        /* ARRANGE */
+        // Nothing to arrange here.
+
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class, () -> service.find(null));
+    }
+
+    @Test
+    public void find_knownId_returnCatalog() {
+        /* ARRANGE */
+        // Nothing to arrange here.
+
+        /* ACT && ASSERT */
+        assertEquals(Optional.of(catalogOne), service.find(catalogOne.getId()));
+    }
+
+    @Test
+    public void find_unknownId_returnEmpty() {
+        /* ARRANGE */
+        final var unknownUuid = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
+
+        /* ACT && ASSERT */
+        assertTrue(service.find(unknownUuid).isEmpty());
+    }
+
     /***********************************************************************************************
      * getAll
      * *
@@ -18,6 +18,7 @@ package io.dataspaceconnector.service.resource.type;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
+import io.dataspaceconnector.common.routing.RouteDataMulticaster;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.model.artifact.LocalData;
@@ -25,9 +26,11 @@ import io.dataspaceconnector.repository.ArtifactRepository;
 import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.DataRetriever;
+import io.dataspaceconnector.service.LocalDataService;
 import io.dataspaceconnector.service.MultipartArtifactRetriever;
 import io.dataspaceconnector.common.usagecontrol.AllowAccessVerifier;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -47,7 +50,8 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = {ArtifactService.class, ArtifactFactory.class, ArtifactRepository.class,
-        DataRepository.class, HttpService.class, MultipartArtifactRetriever.class})
+        DataRepository.class, HttpService.class, MultipartArtifactRetriever.class,
+        SimpleMeterRegistry.class})
 public class RestrictedArtifactServiceTest {
 
     @MockBean
@@ -74,6 +78,12 @@ public class RestrictedArtifactServiceTest {
     @MockBean
     private RouteDataDispatcher routeDataDispatcher;
 
+    @MockBean
+    private RouteDataMulticaster routeDataMulticaster;
+
+    @MockBean
+    private LocalDataService localDataService;
+
     @MockBean
     private MultipartArtifactRetriever artifactReceiver;
 
@@ -15,13 +15,16 @@
  */
 package io.dataspaceconnector.service.routing;
 
+import java.io.BufferedReader;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import io.dataspaceconnector.config.camel.FreemarkerConfig;
 import io.dataspaceconnector.model.auth.BasicAuth;
 import io.dataspaceconnector.model.datasource.DatabaseDataSource;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
@@ -32,6 +35,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.xml.sax.InputSource;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -66,6 +71,33 @@ class BeanManagerTest {
         verify(beanReader, times(1)).loadBeanDefinitions(any(InputSource.class));
     }
 
+    @Test
+    @SneakyThrows
+    void createDataSourceBean_poolSettings_createPooledDataSource() {
+        /* ARRANGE */
+        final var dataSource = getDataSource();
+        ReflectionTestUtils.setField(dataSource, "maximumPoolSize", 20);
+        ReflectionTestUtils.setField(dataSource, "connectionTimeout", 45000L);
+        ReflectionTestUtils.setField(dataSource, "validationQuery", "SELECT 1");
+        final var captor = ArgumentCaptor.forClass(InputSource.class);
+
+        when(beanReader.loadBeanDefinitions(any(InputSource.class))).thenReturn(1);
+
+        /* ACT */
+        beanManager.createDataSourceBean(dataSource);
+
+        /* ASSERT */
+        verify(beanReader, times(1)).loadBeanDefinitions(captor.capture());
+        final var reader = new BufferedReader(captor.getValue().getCharacterStream());
+        final var xml = reader.lines().collect(Collectors.joining("\n"));
+        assertTrue(xml.contains("class=\"com.zaxxer.hikari.HikariDataSource\""));
+        assertTrue(xml.contains("destroy-method=\"close\""));
+        assertTrue(xml.contains("name=\"maximumPoolSize\" value=\"20\""));
+        assertTrue(xml.contains("name=\"connectionTimeout\" value=\"45000\""));
+        assertTrue(xml.contains("name=\"connectionTestQuery\" value=\"SELECT 1\""));
+        assertFalse(xml.contains("name=\"minimumIdle\""));
+    }
+
     @Test
     void removeDataSourceBean_beanPresent_removeBean() {
         /* ARRANGE */
@@ -28,6 +28,9 @@ import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.policy.CompiledRule;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.artifact.Artifact;
@@ -51,7 +54,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {DataAccessVerifier.class})
+@SpringBootTest(classes = {DataAccessVerifier.class, ContractAgreementCache.class})
 public class DataAccessVerifierTest {
 
     @MockBean
@@ -60,6 +63,9 @@ public class DataAccessVerifierTest {
     @MockBean
     private ConnectorConfig connectorConfig;
 
+    @MockBean
+    private DeserializationService deserializationService;
+
     @MockBean
     private EntityResolver entityResolver;
 
@@ -81,7 +87,7 @@ public class DataAccessVerifierTest {
         final var input = new AccessVerificationInput(agreement.getId(), artifact);
 
         when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
-        doNothing().when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+        doNothing().when(ruleValidator).validatePolicy(any(CompiledRule.class), any(), any(), any(), any());
 
         /* ACT */
         final var result = verifier.verify(input);
@@ -99,7 +105,7 @@ public class DataAccessVerifierTest {
 
         when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
         doThrow(PolicyRestrictionException.class)
-                .when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+                .when(ruleValidator).validatePolicy(any(CompiledRule.class), any(), any(), any(), any());
         when(connectorConfig.isAllowUnsupported()).thenReturn(false);
 
         /* ACT */
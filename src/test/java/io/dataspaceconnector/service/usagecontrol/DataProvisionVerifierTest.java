@@ -29,6 +29,9 @@ import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.ids.ContractAgreementCache;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.policy.CompiledRule;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.common.usagecontrol.VerificationResult;
 import org.junit.jupiter.api.Test;
@@ -45,7 +48,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {DataProvisionVerifier.class})
+@SpringBootTest(classes = {DataProvisionVerifier.class, ContractAgreementCache.class})
 public class DataProvisionVerifierTest {
 
     @MockBean
@@ -54,6 +57,9 @@ public class DataProvisionVerifierTest {
     @MockBean
     private ConnectorConfig connectorConfig;
 
+    @MockBean
+    private DeserializationService deserializationService;
+
     @Autowired
     private DataProvisionVerifier verifier;
 
@@ -68,7 +74,7 @@ public class DataProvisionVerifierTest {
 
         final var input = new ProvisionVerificationInput(target, issuerConnector, agreement, profile);
 
-        doNothing().when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+        doNothing().when(ruleValidator).validatePolicy(any(CompiledRule.class), any(), any(), any(), any());
 
         /* ACT */
         final var result = verifier.verify(input);
@@ -87,7 +93,7 @@ public class DataProvisionVerifierTest {
         final var input = new ProvisionVerificationInput(target, issuerConnector, agreement, profile);
 
         doThrow(PolicyRestrictionException.class)
-                .when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+                .when(ruleValidator).validatePolicy(any(CompiledRule.class), any(), any(), any(), any());
         when(connectorConfig.isAllowUnsupported()).thenReturn(false);
 
         /* ACT */
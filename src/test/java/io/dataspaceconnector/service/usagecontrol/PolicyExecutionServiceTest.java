@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Optional;
@@ -36,6 +37,7 @@ import ids.messaging.core.config.util.ConnectorFingerprintProvider;
 import ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.mapping.RdfConverter;
+import io.dataspaceconnector.common.ids.message.ClearingHouseLogQueue;
 import io.dataspaceconnector.common.ids.message.ClearingHouseService;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.service.message.builder.type.LogMessageService;
@@ -55,11 +57,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {PolicyExecutionService.class, ClearingHouseService.class})
+@SpringBootTest(classes = {PolicyExecutionService.class, ClearingHouseService.class,
+        ClearingHouseLogQueue.class, SimpleMeterRegistry.class})
 public class PolicyExecutionServiceTest {
 
     @MockBean
@@ -127,7 +131,7 @@ public class PolicyExecutionServiceTest {
         policyExecutionService.sendAgreement(agreement, claimsJws);
 
         /* ASSERT */
-        verify(logMessageService, times(1))
+        verify(logMessageService, timeout(5000).times(1))
                 .sendMessage(new URI(chUri + "/" + chLogPath + "/" + agreementID), RdfConverter.toRdf(agreement));
     }
 
@@ -145,7 +149,7 @@ public class PolicyExecutionServiceTest {
         policyExecutionService.logDataAccess(target, URI.create("https://agreement.com/api/agreements/" + agreementID));
 
         /* ASSERT */
-        verify(logMessageService, times(1))
+        verify(logMessageService, timeout(5000).times(1))
                 .sendMessage(eq(URI.create(chUri + "/" + chLogPath + "/" + agreementID)), any());
     }
 
@@ -24,12 +24,15 @@ import de.fraunhofer.iais.eis.SecurityProfile;
 import de.fraunhofer.iais.eis.util.RdfResource;
 import de.fraunhofer.iais.eis.util.Util;
 import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.ids.policy.CompiledRule;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
 import io.dataspaceconnector.controller.policy.util.PatternUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.pattern.SecurityRestrictionDesc;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.service.EntityDependencyResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -43,11 +46,12 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 
 
-@SpringBootTest(classes = { RuleValidator.class })
+@SpringBootTest(classes = { RuleValidator.class, SimpleMeterRegistry.class })
 class RuleValidatorTest {
 
     @MockBean
@@ -65,6 +69,9 @@ class RuleValidatorTest {
     @Autowired
     private RuleValidator validator;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     public void validatePolicy_USAGE_DURING_INTERVAL_doNothing() {
         /* ARRANGE */
@@ -240,4 +247,80 @@ class RuleValidatorTest {
                 PolicyPattern.SECURITY_PROFILE_RESTRICTED_USAGE, rule, target, issuer,
                 Optional.of(profile), agreementId));
     }
+
+    @SneakyThrows
+    @Test
+    public void validatePolicy_N_TIMES_USAGE_recordsOutcome() {
+        /* ARRANGE */
+        final var recipient = URI.create("https://recipient");
+        final var rule = new PermissionBuilder()
+                ._action_(List.of(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.COUNT)
+                        ._operator_(BinaryOperator.EQ)
+                        ._rightOperand_(new RdfResource("5"))
+                        .build()))
+                .build();
+        final var target = URI.create("https://metrics-target");
+        final var agreementId = URI.create("https://agreement");
+
+        Mockito.when(informationService.getAccessNumber(eq(target))).thenReturn(0L, 6L);
+
+        /* ACT */
+        validator.validatePolicy(PolicyPattern.N_TIMES_USAGE, rule, target, recipient,
+                Optional.empty(), agreementId);
+        assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy(
+                PolicyPattern.N_TIMES_USAGE, rule, target, recipient, Optional.empty(),
+                agreementId));
+
+        /* ASSERT */
+        assertEquals(1, meterRegistry.get("dsc.policy.evaluation")
+                .tag("pattern", PolicyPattern.N_TIMES_USAGE.toString())
+                .tag("outcome", "allowed").timer().count());
+        assertEquals(1, meterRegistry.get("dsc.policy.evaluation")
+                .tag("pattern", PolicyPattern.N_TIMES_USAGE.toString())
+                .tag("outcome", "denied").timer().count());
+    }
+
+    @Test
+    public void validatePolicy_unreadableCompiledRule_throwNewExceptionPerCall() {
+        /* ARRANGE */
+        final var rule = CompiledRule.compile(new PermissionBuilder()
+                ._action_(List.of(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.COUNT)
+                        ._operator_(BinaryOperator.EQ)
+                        ._rightOperand_(new RdfResource("not a number"))
+                        .build()))
+                .build());
+        final var target = URI.create("https://target");
+
+        /* ACT */
+        final var first = assertThrows(PolicyRestrictionException.class,
+                () -> validator.validatePolicy(rule, target, null, Optional.empty(), target));
+        final var second = assertThrows(PolicyRestrictionException.class,
+                () -> validator.validatePolicy(rule, target, null, Optional.empty(), target));
+
+        /* ASSERT */
+        assertEquals(PolicyPattern.N_TIMES_USAGE, rule.getPattern());
+        assertEquals(ErrorMessage.POLICY_RESTRICTION.toString(), first.getMessage());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void new_meterRegistry_registerTimerPerPatternAndOutcome() {
+        /* ARRANGE */
+        final var registry = new SimpleMeterRegistry();
+
+        /* ACT */
+        new RuleValidator(executionService, informationService, dependencyResolver,
+                deserializationService, registry);
+
+        /* ASSERT */
+        assertEquals(2 * PolicyPattern.values().length + 1,
+                registry.find("dsc.policy.evaluation").timers().size());
+        assertEquals(0, registry.get("dsc.policy.evaluation")
+                .tag("pattern", PolicyPattern.PROVIDE_ACCESS.toString())
+                .tag("outcome", "allowed").timer().count());
+    }
 }